@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.omnione.did.ContractApi;
+import org.omnione.did.apigateway.v1.service.endpoint.PooledContractApi;
+import org.omnione.exception.BlockChainException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of DID document lookups on the ledger client for {@value #THREADS} concurrent lookups, against
+ * models of the ledger clients with the same lookup latency:
+ * <ul>
+ *     <li>{@code evm}: the web3j client, modelled without a limit on concurrent calls.</li>
+ *     <li>{@code fabric}: a single Fabric SDK client, modelled as evaluating at most
+ *     {@value #FABRIC_GATEWAYS} transactions at once, the size of its gateway pool.</li>
+ *     <li>{@code fabric-pooled}: the {@link PooledContractApi} over such clients, sized to the number of
+ *     concurrent lookups.</li>
+ * </ul>
+ * The comparison is modelled, not measured: {@link ModelledLatencyContractApi} parks for
+ * {@code latencyMicros} under a semaphore, so the scores follow from the assumed latency and
+ * concurrency limit and are not evidence of the throughput of a ledger. What the benchmark does measure
+ * is the overhead of the pool itself. Serialization and encoding are left out, as they are the same for
+ * every platform and are covered by {@link ResolutionBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(BackendThroughputBenchmark.THREADS)
+@State(Scope.Benchmark)
+public class BackendThroughputBenchmark {
+
+    static final int THREADS = 32;
+    static final int FABRIC_GATEWAYS = 10;
+
+    @Param({"evm", "fabric", "fabric-pooled"})
+    private String platform;
+
+    @Param({"2000"})
+    private long latencyMicros;
+
+    private ContractApi contractApi;
+    private PooledContractApi pooledContractApi;
+    private String did;
+
+    @Setup
+    public void setUp() throws Exception {
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+        contractApi = switch (platform) {
+            case "evm" -> new ModelledLatencyContractApi(latencyNanos, Integer.MAX_VALUE);
+            case "fabric" -> new ModelledLatencyContractApi(latencyNanos, FABRIC_GATEWAYS);
+            case "fabric-pooled" -> pooledContractApi = new PooledContractApi(
+                    () -> new ModelledLatencyContractApi(latencyNanos, FABRIC_GATEWAYS),
+                    THREADS, THREADS, Duration.ofSeconds(5), Duration.ZERO, new SimpleMeterRegistry());
+            default -> throw new IllegalArgumentException("Unknown platform: " + platform);
+        };
+        did = new StubContractApi().getDid();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pooledContractApi != null) {
+            pooledContractApi.close();
+        }
+    }
+
+    @Benchmark
+    public Object getDidDoc() throws BlockChainException {
+        return contractApi.getDidDoc(did);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.benchmark;
+
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.sample.StorageServiceSample;
+import org.omnione.did.data.model.did.DidDocAndStatus;
+import org.omnione.did.data.model.did.DidDocument;
+import org.omnione.did.data.model.enums.did.DidDocStatus;
+import org.omnione.did.data.model.vc.VcMeta;
+import org.omnione.did.zkp.datamodel.definition.CredentialDefinition;
+import org.omnione.did.zkp.datamodel.util.GsonWrapper;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Benchmark payloads, decoded from the fixtures of {@link StorageServiceSample}.
+ * The DID document, the VC metadata and the ZKP credential definition serve as small,
+ * medium and large payloads respectively.
+ */
+final class BenchmarkFixtures {
+
+    static final String DID_DOC = "did-doc";
+    static final String VC_META = "vc-meta";
+    static final String ZKP_CRED_DEF = "zkp-cred-def";
+
+    private static final StorageService SAMPLE = new StorageServiceSample(null);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Gets the JSON of a fixture.
+     *
+     * @param name The fixture name: did-doc, vc-meta or zkp-cred-def.
+     * @return The JSON of the fixture.
+     */
+    static String json(String name) {
+        MultibasePayload payload = switch (name) {
+            case DID_DOC -> SAMPLE.findDidDocument(null).getDidDoc();
+            case VC_META -> SAMPLE.findVcMeta(null).getVcMeta();
+            case ZKP_CRED_DEF -> SAMPLE.findZkpCredDef(null).getCredDef();
+            default -> throw new IllegalArgumentException("Unknown fixture: " + name);
+        };
+        return new String(payload.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the response DTO of a fixture, as returned by the API.
+     *
+     * @param name The fixture name: did-doc, vc-meta or zkp-cred-def.
+     * @return The response DTO of the fixture.
+     */
+    static Object response(String name) {
+        return switch (name) {
+            case DID_DOC -> SAMPLE.findDidDocument(null);
+            case VC_META -> SAMPLE.findVcMeta(null);
+            case ZKP_CRED_DEF -> SAMPLE.findZkpCredDef(null);
+            default -> throw new IllegalArgumentException("Unknown fixture: " + name);
+        };
+    }
+
+    static DidDocAndStatus didDocAndStatus() {
+        DidDocument didDocument = new DidDocument();
+        didDocument.fromJson(json(DID_DOC));
+        return new DidDocAndStatus(didDocument, DidDocStatus.ACTIVATED);
+    }
+
+    static VcMeta vcMeta() {
+        VcMeta vcMeta = new VcMeta();
+        vcMeta.fromJson(json(VC_META));
+        return vcMeta;
+    }
+
+    static CredentialDefinition credentialDefinition() {
+        return GsonWrapper.getGson().fromJson(json(ZKP_CRED_DEF), CredentialDefinition.class);
+    }
+}
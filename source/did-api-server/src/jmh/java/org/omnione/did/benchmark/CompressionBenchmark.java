@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.omnione.did.base.response.ContentCoding;
+import org.omnione.did.base.response.ResponseBodyCache.EncodedBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bandwidth and CPU trade-off of the compressed response variants.
+ * {@code compress} is the CPU cost of a variant, paid once per resolved payload with precompressed
+ * variants, and on every request with per-response compression such as {@code server.compression}.
+ * {@code serve} is the per-request cost of negotiating and picking a precompressed variant.
+ * The bandwidth side, the size of each variant against the JSON body, is printed on setup.
+ * Brotli is measured with {@code -p coding=BR} when brotli4j is on the benchmark classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+    @Param({BenchmarkFixtures.DID_DOC, BenchmarkFixtures.VC_META, BenchmarkFixtures.ZKP_CRED_DEF})
+    private String fixture;
+
+    @Param({"GZIP", "DEFLATE"})
+    private ContentCoding coding;
+
+    private byte[] json;
+    private EncodedBody encodedBody;
+    private String acceptEncoding;
+
+    @Setup
+    public void setUp() throws Exception {
+        if (!coding.isAvailable()) {
+            throw new IllegalStateException(coding.getName() + " is not available");
+        }
+        json = new ObjectMapper().writeValueAsBytes(BenchmarkFixtures.response(fixture));
+        byte[] variant = coding.encode(json);
+        encodedBody = new EncodedBody(json, Map.of(coding, variant));
+        acceptEncoding = coding.getName();
+        System.out.printf("%n%s %s: %d -> %d bytes (%.1f%%)%n", fixture, coding.getName(), json.length,
+                variant.length, 100.0 * variant.length / json.length);
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return coding.encode(json);
+    }
+
+    @Benchmark
+    public byte[] serve() {
+        return encodedBody.bytes(encodedBody.negotiate(acceptEncoding));
+    }
+}
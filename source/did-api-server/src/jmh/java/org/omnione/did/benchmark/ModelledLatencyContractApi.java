@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.benchmark;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Model of a ContractApi connected to a ledger: a DID document lookup parks for a fixed latency, and
+ * at most a fixed number of lookups are in flight on the client at once, as when calls queue for the
+ * connections of a single client. Neither the latency nor the limit is measured on a ledger: both are
+ * inputs, so a benchmark on this model only shows the effect of the assumed limit.
+ */
+class ModelledLatencyContractApi extends StubContractApi {
+
+    private final long latencyNanos;
+    private final Semaphore inFlight;
+
+    /**
+     * @param latencyNanos The time a lookup takes on the ledger.
+     * @param maxInFlight The number of lookups the client evaluates at once.
+     */
+    ModelledLatencyContractApi(long latencyNanos, int maxInFlight) {
+        this.latencyNanos = latencyNanos;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public Object getDidDoc(String didKeyUrl) {
+        inFlight.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(latencyNanos);
+            return super.getDidDoc(didKeyUrl);
+        } finally {
+            inFlight.release();
+        }
+    }
+}
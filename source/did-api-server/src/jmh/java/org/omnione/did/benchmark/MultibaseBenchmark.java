@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.base.util.BaseMultibaseUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multibase encoding and decoding of small, medium and large payloads.
+ * The write benchmarks compare writing an encoded String into a JSON response with streaming the
+ * encoding of a {@link MultibasePayload} straight into the JSON output.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultibaseBenchmark {
+
+    @Param({BenchmarkFixtures.DID_DOC, BenchmarkFixtures.VC_META, BenchmarkFixtures.ZKP_CRED_DEF})
+    private String payload;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] decoded;
+    private String encoded;
+    private MultibasePayload multibasePayload;
+
+    @Setup
+    public void setUp() {
+        decoded = BenchmarkFixtures.json(payload).getBytes(StandardCharsets.UTF_8);
+        encoded = BaseMultibaseUtil.encode(decoded);
+        multibasePayload = MultibasePayload.of(decoded);
+    }
+
+    @Benchmark
+    public String encode() {
+        return BaseMultibaseUtil.encode(decoded);
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        return BaseMultibaseUtil.decode(encoded);
+    }
+
+    @Benchmark
+    public void writeEncodedString() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), BaseMultibaseUtil.encode(decoded));
+    }
+
+    @Benchmark
+    public void writeStreamingPayload() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), multibasePayload);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
+import org.omnione.did.apigateway.v1.service.BlockchainServiceImpl;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.coalesce.CoalescingStorageService;
+import org.omnione.did.apigateway.v1.service.metrics.MetricsStorageService;
+import org.omnione.did.apigateway.v1.service.metrics.ResolutionMetrics;
+import org.omnione.did.base.property.BlockchainProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full StorageService call path of the blockchain backend against an in-process stub ContractApi:
+ * lookup, {@code toJson()}, multibase encoding and response DTO creation.
+ * The {@code decorated} chain adds the metrics and coalescing decorators; the resolution cache is
+ * left out so every call runs the whole path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResolutionBenchmark {
+
+    @Param({"backend", "decorated"})
+    private String chain;
+
+    private StorageService storageService;
+    private String did;
+
+    @Setup
+    public void setUp() {
+        StubContractApi contractApi = new StubContractApi();
+        ResolutionMetrics resolutionMetrics = new ResolutionMetrics(new SimpleMeterRegistry());
+        storageService = new BlockchainServiceImpl(contractApi, new BlockchainProperty(), resolutionMetrics);
+        if ("decorated".equals(chain)) {
+            storageService = new MetricsStorageService(storageService, resolutionMetrics);
+            storageService = new CoalescingStorageService(storageService, new SimpleMeterRegistry());
+        }
+        did = contractApi.getDid();
+    }
+
+    @Benchmark
+    public DidDocResDto findDidDocument() {
+        return storageService.findDidDocument(did);
+    }
+
+    @Benchmark
+    public VcMetaResDto findVcMeta() {
+        return storageService.findVcMeta("c184fb29-e6e1-4144-bae0-ccc44a3770df");
+    }
+
+    @Benchmark
+    public ZkpCredDefResDto findZkpCredDef() {
+        return storageService.findZkpCredDef("zkp-cred-def");
+    }
+}
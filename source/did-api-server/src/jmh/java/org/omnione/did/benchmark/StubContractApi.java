@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.benchmark;
+
+import org.omnione.did.ContractApi;
+import org.omnione.did.data.model.did.DidDocAndStatus;
+import org.omnione.did.data.model.did.InvokedDidDoc;
+import org.omnione.did.data.model.enums.did.DidDocStatus;
+import org.omnione.did.data.model.enums.vc.RoleType;
+import org.omnione.did.data.model.enums.vc.VcStatus;
+import org.omnione.did.data.model.schema.VcSchema;
+import org.omnione.did.data.model.vc.VcMeta;
+import org.omnione.did.zkp.datamodel.definition.CredentialDefinition;
+import org.omnione.did.zkp.datamodel.schema.CredentialSchema;
+
+import java.time.LocalDateTime;
+
+/**
+ * In-process ContractApi that answers every lookup with a preloaded fixture, so benchmarks of the
+ * StorageService call path measure the gateway without any network or chain time.
+ */
+class StubContractApi implements ContractApi {
+
+    private final DidDocAndStatus didDocAndStatus = BenchmarkFixtures.didDocAndStatus();
+    private final VcMeta vcMeta = BenchmarkFixtures.vcMeta();
+    private final CredentialDefinition credentialDefinition = BenchmarkFixtures.credentialDefinition();
+
+    String getDid() {
+        return didDocAndStatus.getDocument().getId();
+    }
+
+    @Override
+    public Object getDidDoc(String didKeyUrl) {
+        return didDocAndStatus;
+    }
+
+    @Override
+    public Object getVcMetadata(String vcId) {
+        return vcMeta;
+    }
+
+    @Override
+    public Object getZKPCredentialDefinition(String id) {
+        return credentialDefinition;
+    }
+
+    @Override
+    public Object getVcSchema(String id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getZKPCredential(String id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void registDidDoc(InvokedDidDoc invokedDidDoc, RoleType roleType) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object updateDidDocStatus(String did, DidDocStatus didDocStatus) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object updateDidDocStatus(String did, DidDocStatus didDocStatus, LocalDateTime terminatedTime) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void registVcMetadata(VcMeta vcMeta) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateVcStatus(String vcId, VcStatus vcStatus) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void registVcSchema(VcSchema vcSchema) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void registZKPCredential(CredentialSchema credentialSchema) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void registZKPCredentialDefinition(CredentialDefinition credentialDefinition) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.benchmark;
+
+import org.omnione.did.data.model.did.DidDocAndStatus;
+import org.omnione.did.data.model.vc.VcMeta;
+import org.omnione.did.zkp.datamodel.definition.CredentialDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the SDK data models returned by the contract.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToJsonBenchmark {
+
+    private DidDocAndStatus didDocAndStatus;
+    private VcMeta vcMeta;
+    private CredentialDefinition credentialDefinition;
+
+    @Setup
+    public void setUp() {
+        didDocAndStatus = BenchmarkFixtures.didDocAndStatus();
+        vcMeta = BenchmarkFixtures.vcMeta();
+        credentialDefinition = BenchmarkFixtures.credentialDefinition();
+    }
+
+    @Benchmark
+    public String didDocToJson() {
+        return didDocAndStatus.getDocument().toJson();
+    }
+
+    @Benchmark
+    public String vcMetaToJson() {
+        return vcMeta.toJson();
+    }
+
+    @Benchmark
+    public String credentialDefinitionToJson() {
+        return credentialDefinition.toJson();
+    }
+}
@@ -16,19 +16,38 @@
 
 package org.omnione.did.apigateway.v1.controller;
 
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import org.omnione.did.apigateway.v1.dto.BatchReqDto;
+import org.omnione.did.apigateway.v1.dto.BatchResDto;
 import org.omnione.did.apigateway.v1.dto.DidDocResDto;
 import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
 import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
 import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
-import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.BatchResolutionService;
+import org.omnione.did.apigateway.v1.service.AsyncStorageService;
+import org.omnione.did.base.constants.ResourceType;
 import org.omnione.did.base.constants.UrlConstant;
+import org.omnione.did.base.response.CacheableResponseFactory;
+import org.omnione.did.base.response.Representation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Router Controller for handling API Gateway requests.
- * This controller manages routing for DID document and VC metadata retrieval.
+ * This controller manages routing for DID document, VC metadata and VC schema retrieval.
+ * Single lookups are asynchronous, so servlet threads are released while the backend is queried,
+ * and their responses are written from the serialized bodies of the response cache, or from direct
+ * memory for the resource types of the off-heap cache. Clients may ask for the raw resource JSON
+ * (application/did+json) or CBOR (application/cbor) instead of the response DTO.
  *
  */
 @Slf4j
@@ -37,53 +56,138 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping(value = UrlConstant.GateWay.V1)
 public class RouterController {
 
-    private final StorageService storageService;
+    private final AsyncStorageService asyncStorageService;
+
+    private final BatchResolutionService batchResolutionService;
+
+    private final CacheableResponseFactory cacheableResponseFactory;
 
     /**
      * Retrieves a DID document for a given DID.
      *
      * @param did The Decentralized Identifier (DID) to look up.
-     * @return DidDocResDto containing the DID document.
+     * @param accept The Accept header; selects the response DTO (default), the raw document or CBOR.
+     * @param acceptEncoding The Accept-Encoding header; selects the content coding of the response.
+     * @param ifNoneMatch The If-None-Match header; a matching ETag is answered with 304 Not Modified.
+     * @return DidDocResDto containing the DID document, with ETag and Cache-Control headers, completed once resolved.
      */
     @GetMapping(value = UrlConstant.GateWay.DID_DOC)
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = DidDocResDto.class)),
+            @Content(mediaType = Representation.DID_JSON_VALUE), @Content(mediaType = Representation.CBOR_VALUE)})
     @ResponseBody
-    public DidDocResDto getDid(@RequestParam(name = "did") String did) {
-        return storageService.findDidDocument(did);
+    public CompletableFuture<ResponseEntity<?>> getDid(@RequestParam(name = "did") String did,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cacheableResponseFactory.resolve(ResourceType.DID_DOC, did, accept, acceptEncoding, ifNoneMatch,
+                () -> asyncStorageService.findDidDocument(did), DidDocResDto::getDidDoc);
     }
 
     /**
      * Retrieves metadata for a Verifiable Credential (VC).
      *
      * @param vcId The identifier of the Verifiable Credential.
-     * @return VcMetaResDto containing the VC metadata.
+     * @param accept The Accept header; selects the response DTO (default), the raw document or CBOR.
+     * @param acceptEncoding The Accept-Encoding header; selects the content coding of the response.
+     * @param ifNoneMatch The If-None-Match header; a matching ETag is answered with 304 Not Modified.
+     * @return VcMetaResDto containing the VC metadata, with ETag and Cache-Control headers, completed once resolved.
      */
     @GetMapping(value = UrlConstant.GateWay.VC_META)
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = VcMetaResDto.class)),
+            @Content(mediaType = Representation.DID_JSON_VALUE), @Content(mediaType = Representation.CBOR_VALUE)})
     @ResponseBody
-    public VcMetaResDto getVcMetaData(@RequestParam(name = "vcId") String vcId) {
-        return storageService.findVcMeta(vcId);
+    public CompletableFuture<ResponseEntity<?>> getVcMetaData(@RequestParam(name = "vcId") String vcId,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cacheableResponseFactory.resolve(ResourceType.VC_META, vcId, accept, acceptEncoding, ifNoneMatch,
+                () -> asyncStorageService.findVcMeta(vcId), VcMetaResDto::getVcMeta);
+    }
+
+    /**
+     * Retrieves a Verifiable Credential (VC) schema by its identifier.
+     *
+     * @param schemaId The identifier of the VC schema to retrieve.
+     * @param accept The Accept header; selects the response DTO (default), the raw document or CBOR.
+     * @param acceptEncoding The Accept-Encoding header; selects the content coding of the response.
+     * @param ifNoneMatch The If-None-Match header; a matching ETag is answered with 304 Not Modified.
+     * @return VcSchemaResDto containing the VC schema, with ETag and Cache-Control headers, completed once resolved.
+     */
+    @GetMapping(value = UrlConstant.GateWay.VC_SCHEMA)
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = VcSchemaResDto.class)),
+            @Content(mediaType = Representation.DID_JSON_VALUE), @Content(mediaType = Representation.CBOR_VALUE)})
+    @ResponseBody
+    public CompletableFuture<ResponseEntity<?>> getVcSchema(@RequestParam(name = "schemaId") String schemaId,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cacheableResponseFactory.resolve(ResourceType.VC_SCHEMA, schemaId, accept, acceptEncoding, ifNoneMatch,
+                () -> asyncStorageService.findVcSchema(schemaId), VcSchemaResDto::getVcSchema);
     }
 
     /**
      * Retrieves a Zero-Knowledge Proof (ZKP) credential schema by its identifier.
      *
      * @param id The identifier of the ZKP credential schema to retrieve.
-     * @return ZkpCredSchemaResDto containing the ZKP credential schema.
+     * @param accept The Accept header; selects the response DTO (default), the raw document or CBOR.
+     * @param acceptEncoding The Accept-Encoding header; selects the content coding of the response.
+     * @param ifNoneMatch The If-None-Match header; a matching ETag is answered with 304 Not Modified.
+     * @return ZkpCredSchemaResDto containing the ZKP credential schema, with ETag and Cache-Control headers, completed once resolved.
      */
     @GetMapping(value = UrlConstant.GateWay.ZKP_CRED_SCHEMA)
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = ZkpCredSchemaResDto.class)),
+            @Content(mediaType = Representation.DID_JSON_VALUE), @Content(mediaType = Representation.CBOR_VALUE)})
     @ResponseBody
-    public ZkpCredSchemaResDto getZkpCredSchema(@RequestParam(name = "id") String id) {
-        return storageService.findZkpCredSchema(id);
+    public CompletableFuture<ResponseEntity<?>> getZkpCredSchema(@RequestParam(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cacheableResponseFactory.resolve(ResourceType.ZKP_CRED_SCHEMA, id, accept, acceptEncoding, ifNoneMatch,
+                () -> asyncStorageService.findZkpCredSchema(id), ZkpCredSchemaResDto::getCredSchema);
     }
 
     /**
      * Retrieves a Zero-Knowledge Proof (ZKP) credential definition by its identifier.
      *
      * @param id The identifier of the ZKP credential definition to retrieve.
-     * @return ZkpCredDefResDto containing the ZKP credential definition.
+     * @param accept The Accept header; selects the response DTO (default), the raw document or CBOR.
+     * @param acceptEncoding The Accept-Encoding header; selects the content coding of the response.
+     * @param ifNoneMatch The If-None-Match header; a matching ETag is answered with 304 Not Modified.
+     * @return ZkpCredDefResDto containing the ZKP credential definition, with ETag and Cache-Control headers, completed once resolved.
      */
     @GetMapping(value = UrlConstant.GateWay.ZKP_CRED_DEF)
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = ZkpCredDefResDto.class)),
+            @Content(mediaType = Representation.DID_JSON_VALUE), @Content(mediaType = Representation.CBOR_VALUE)})
+    @ResponseBody
+    public CompletableFuture<ResponseEntity<?>> getZkpCredDef(@RequestParam(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return cacheableResponseFactory.resolve(ResourceType.ZKP_CRED_DEF, id, accept, acceptEncoding, ifNoneMatch,
+                () -> asyncStorageService.findZkpCredDef(id), ZkpCredDefResDto::getCredDef);
+    }
+
+    /**
+     * Retrieves DID documents for a list of DIDs.
+     *
+     * @param request BatchReqDto containing the DIDs to look up.
+     * @return BatchResDto containing a DID document or an error per requested DID, in request order.
+     */
+    @PostMapping(value = UrlConstant.GateWay.DID_DOC_BATCH)
+    @ResponseBody
+    public BatchResDto<DidDocResDto> getDids(@Valid @RequestBody BatchReqDto request) {
+        return batchResolutionService.findDidDocuments(request.getIds());
+    }
+
+    /**
+     * Retrieves metadata for a list of Verifiable Credentials (VC).
+     *
+     * @param request BatchReqDto containing the VC identifiers to look up.
+     * @return BatchResDto containing VC metadata or an error per requested VC identifier, in request order.
+     */
+    @PostMapping(value = UrlConstant.GateWay.VC_META_BATCH)
     @ResponseBody
-    public ZkpCredDefResDto getZkpCredDef(@RequestParam(name = "id") String id) {
-        return storageService.findZkpCredDef(id);
+    public BatchResDto<VcMetaResDto> getVcMetaDatas(@Valid @RequestBody BatchReqDto request) {
+        return batchResolutionService.findVcMetas(request.getIds());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import org.omnione.did.base.response.ErrorResponse;
+
+/**
+ * Batch Item Response DTO
+ *
+ * @param <T> Response DTO type of the item
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResDto<T> {
+    /**
+     * Requested identifier
+     */
+    private String id;
+
+    /**
+     * Resolved data, present when the lookup succeeded
+     */
+    private T data;
+
+    /**
+     * Error, present when the lookup failed
+     */
+    private ErrorResponse error;
+}
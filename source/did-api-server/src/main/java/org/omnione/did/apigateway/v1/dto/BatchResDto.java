@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Batch Response DTO
+ *
+ * @param <T> Response DTO type of the items
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class BatchResDto<T> {
+    /**
+     * Result per requested identifier, in request order
+     */
+    private List<BatchItemResDto<T>> results;
+}
@@ -27,9 +27,14 @@ import lombok.*;
 @AllArgsConstructor
 @ToString
 @Builder
-public class DidDocResDto {
+public class DidDocResDto implements ResolvedResource {
     /**
      * DID Document
      */
-    private String didDoc;
+    private MultibasePayload didDoc;
+
+    @Override
+    public MultibasePayload payload() {
+        return didDoc;
+    }
 }
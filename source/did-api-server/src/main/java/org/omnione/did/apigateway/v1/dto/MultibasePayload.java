@@ -0,0 +1,192 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.omnione.did.base.util.BaseMultibaseUtil;
+import org.omnione.did.base.util.MultibaseBase64Reader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Resource data that is returned multibase (base64) encoded.
+ * Only the raw bytes are held; the encoding is streamed into the JSON output when the response
+ * is written, so no encoded copy of the data is created. The written value is identical to
+ * {@link BaseMultibaseUtil#encode(byte[])} of the raw bytes.
+ */
+@Schema(type = "string", description = "Multibase (base64) encoded data")
+@JsonSerialize(using = MultibasePayload.Serializer.class)
+@JsonDeserialize(using = MultibasePayload.Deserializer.class)
+public final class MultibasePayload {
+
+    private final byte[] data;
+    private byte[] digest;
+
+    private MultibasePayload(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Creates a payload from a JSON string.
+     *
+     * @param json The JSON to encode.
+     * @return The payload holding the UTF-8 bytes of the JSON.
+     */
+    public static MultibasePayload ofJson(String json) {
+        return new MultibasePayload(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a payload from raw bytes. The array is not copied and must not be modified afterwards.
+     *
+     * @param data The bytes to encode.
+     * @return The payload.
+     */
+    public static MultibasePayload of(byte[] data) {
+        return new MultibasePayload(data);
+    }
+
+    /**
+     * Creates a payload from an already multibase encoded string.
+     *
+     * @param encoded The multibase encoded data.
+     * @return The payload holding the decoded bytes.
+     */
+    public static MultibasePayload fromEncoded(String encoded) {
+        return new MultibasePayload(BaseMultibaseUtil.decode(encoded));
+    }
+
+    /**
+     * Gets a copy of the raw bytes.
+     *
+     * @return The raw bytes.
+     */
+    public byte[] toByteArray() {
+        return data.clone();
+    }
+
+    /**
+     * Gets the number of raw bytes.
+     *
+     * @return The length of the raw data.
+     */
+    public int length() {
+        return data.length;
+    }
+
+    /**
+     * Encodes the payload into a multibase string.
+     * Prefer {@link #encodedReader()} where the encoding can be streamed.
+     *
+     * @return The multibase encoded data.
+     */
+    public String encode() {
+        return BaseMultibaseUtil.encode(data);
+    }
+
+    /**
+     * Gets a reader producing the multibase encoding of the payload.
+     *
+     * @return The reader.
+     */
+    public Reader encodedReader() {
+        return new MultibaseBase64Reader(data);
+    }
+
+    /**
+     * Gets the number of characters of the multibase encoding of the payload.
+     *
+     * @return The length of the encoding.
+     */
+    public int encodedLength() {
+        return MultibaseBase64Reader.encodedLength(data.length);
+    }
+
+    /**
+     * Gets the SHA-256 digest of the raw bytes, computed once per payload.
+     *
+     * @return The digest.
+     */
+    public byte[] digest() {
+        byte[] result = digest;
+        if (result == null) {
+            try {
+                result = MessageDigest.getInstance("SHA-256").digest(data);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+            digest = result;
+        }
+        return result.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MultibasePayload other && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+    @Override
+    public String toString() {
+        return "MultibasePayload[" + data.length + " bytes]";
+    }
+
+    /**
+     * Writes the payload as a JSON string, streaming the encoding into the generator's buffer.
+     */
+    public static class Serializer extends JsonSerializer<MultibasePayload> {
+
+        @Override
+        public void serialize(MultibasePayload value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            if (gen instanceof JsonGeneratorImpl) {
+                gen.writeString(value.encodedReader(), value.encodedLength());
+            } else {
+                gen.writeString(value.encode());
+            }
+        }
+    }
+
+    /**
+     * Reads a payload from a multibase encoded JSON string.
+     */
+    public static class Deserializer extends JsonDeserializer<MultibasePayload> {
+
+        @Override
+        public MultibasePayload deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return fromEncoded(p.getValueAsString());
+        }
+    }
+}
@@ -27,7 +27,7 @@ import lombok.*;
 @AllArgsConstructor
 @ToString
 @Builder
-public class VcMetaResDto {
+public class VcMetaResDto implements ResolvedResource {
     /**
      * VC ID
      */
@@ -36,5 +36,10 @@ public class VcMetaResDto {
     /**
      * VC Meta Data
      */
-    private String vcMeta;
+    private MultibasePayload vcMeta;
+
+    @Override
+    public MultibasePayload payload() {
+        return vcMeta;
+    }
 }
@@ -32,9 +32,14 @@ import lombok.ToString;
 @AllArgsConstructor
 @ToString
 @Builder
-public class ZkpCredDefResDto {
+public class ZkpCredDefResDto implements ResolvedResource {
     /**
      * ZKP Credential Definition
      */
-    private String credDef;
+    private MultibasePayload credDef;
+
+    @Override
+    public MultibasePayload payload() {
+        return credDef;
+    }
 }
@@ -32,9 +32,14 @@ import lombok.ToString;
 @AllArgsConstructor
 @ToString
 @Builder
-public class ZkpCredSchemaResDto {
+public class ZkpCredSchemaResDto implements ResolvedResource {
     /**
      * ZKP Credential Schema
      */
-    private String credSchema;
+    private MultibasePayload credSchema;
+
+    @Override
+    public MultibasePayload payload() {
+        return credSchema;
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service;
+
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link StorageService}.
+ * Lookups complete on a backend executor, so the calling thread is not held during upstream I/O.
+ * A lookup fails with an {@link org.omnione.did.base.exception.OpenDidException} the same way as
+ * the synchronous lookup would.
+ */
+public interface AsyncStorageService {
+    /**
+     * Finds a DID document by its DID.
+     *
+     * @param did DID to find the document for.
+     * @return Future of the found DID document response DTO.
+     */
+    CompletableFuture<DidDocResDto> findDidDocument(String did);
+
+    /**
+     * Finds VC metadata by its VC identifier.
+     *
+     * @param vcId VC identifier.
+     * @return Future of the found VC metadata response DTO.
+     */
+    CompletableFuture<VcMetaResDto> findVcMeta(String vcId);
+
+    /**
+     * Finds a VC schema by its identifier.
+     *
+     * @param schemaId VC schema identifier.
+     * @return Future of the found VC schema response DTO.
+     */
+    CompletableFuture<VcSchemaResDto> findVcSchema(String schemaId);
+
+    /**
+     * Finds a ZKP credential schema by its identifier.
+     *
+     * @param id ZKP credential schema identifier.
+     * @return Future of the found ZKP credential schema response DTO.
+     */
+    CompletableFuture<ZkpCredSchemaResDto> findZkpCredSchema(String id);
+
+    /**
+     * Finds a ZKP credential definition by its identifier.
+     *
+     * @param id ZKP credential definition identifier.
+     * @return Future of the found ZKP credential definition response DTO.
+     */
+    CompletableFuture<ZkpCredDefResDto> findZkpCredDef(String id);
+}
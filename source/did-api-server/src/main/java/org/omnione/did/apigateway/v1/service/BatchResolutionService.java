@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.dto.BatchItemResDto;
+import org.omnione.did.apigateway.v1.dto.BatchResDto;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.service.warmup.AccessHistory;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.BatchProperty;
+import org.omnione.did.base.response.ErrorResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * Service for resolving batches of DID documents and VC metadata.
+ * Requested identifiers are deduplicated and split into partitions that are looked up in parallel,
+ * with at most {@link BatchProperty#getParallelism()} concurrent backend lookups per request.
+ */
+@Slf4j
+@Service
+public class BatchResolutionService {
+
+    private final StorageService storageService;
+    private final BatchProperty batchProperty;
+    private final ExecutorService batchExecutor;
+    private final AccessHistory accessHistory;
+
+    public BatchResolutionService(StorageService storageService,
+                                  BatchProperty batchProperty,
+                                  @Qualifier("batchExecutor") ExecutorService batchExecutor,
+                                  AccessHistory accessHistory) {
+        this.storageService = storageService;
+        this.batchProperty = batchProperty;
+        this.batchExecutor = batchExecutor;
+        this.accessHistory = accessHistory;
+    }
+
+    /**
+     * Resolves DID documents for a list of DIDs.
+     *
+     * @param dids The DIDs to look up, possibly with duplicates.
+     * @return Result per requested DID, in request order.
+     * @throws OpenDidException if the batch is too large.
+     */
+    public BatchResDto<DidDocResDto> findDidDocuments(List<String> dids) {
+        return resolve(ResourceType.DID_DOC, dids, storageService::findDidDocuments, ErrorCode.GET_DID_DOC_FAILED);
+    }
+
+    /**
+     * Resolves VC metadata for a list of VC identifiers.
+     *
+     * @param vcIds The VC identifiers to look up, possibly with duplicates.
+     * @return Result per requested VC identifier, in request order.
+     * @throws OpenDidException if the batch is too large.
+     */
+    public BatchResDto<VcMetaResDto> findVcMetas(List<String> vcIds) {
+        return resolve(ResourceType.VC_META, vcIds, storageService::findVcMetas, ErrorCode.VC_META_RETRIEVAL_FAILED);
+    }
+
+    private <T> BatchResDto<T> resolve(ResourceType resourceType, List<String> ids,
+                                       Function<List<String>, List<BatchResult<T>>> batchLookup,
+                                       ErrorCode fallbackErrorCode) {
+        if (ids.size() > batchProperty.getMaxSize()) {
+            throw new OpenDidException(ErrorCode.BATCH_SIZE_EXCEEDED);
+        }
+
+        List<String> uniqueIds = List.copyOf(new LinkedHashSet<>(ids));
+        accessHistory.record(resourceType, uniqueIds);
+        Map<String, BatchResult<T>> results = new HashMap<>();
+        for (List<BatchResult<T>> partitionResults : lookupPartitions(uniqueIds, batchLookup, fallbackErrorCode)) {
+            partitionResults.forEach(result -> results.put(result.id(), result));
+        }
+
+        return BatchResDto.<T>builder()
+                .results(ids.stream().map(id -> toItem(results.get(id))).toList())
+                .build();
+    }
+
+    private <T> List<List<BatchResult<T>>> lookupPartitions(List<String> uniqueIds,
+                                                            Function<List<String>, List<BatchResult<T>>> batchLookup,
+                                                            ErrorCode fallbackErrorCode) {
+        int partitionCount = Math.min(batchProperty.getParallelism(), uniqueIds.size());
+        if (partitionCount <= 1) {
+            return List.of(batchLookup.apply(uniqueIds));
+        }
+
+        int partitionSize = (uniqueIds.size() + partitionCount - 1) / partitionCount;
+        List<CompletableFuture<List<BatchResult<T>>>> futures = new ArrayList<>();
+        for (int from = 0; from < uniqueIds.size(); from += partitionSize) {
+            List<String> partition = uniqueIds.subList(from, Math.min(from + partitionSize, uniqueIds.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> batchLookup.apply(partition), batchExecutor)
+                    .exceptionally(e -> {
+                        log.error("Failed to resolve batch partition of {} identifiers", partition.size(), e);
+                        return partition.stream()
+                                .map(id -> BatchResult.<T>failure(id, fallbackErrorCode))
+                                .toList();
+                    }));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static <T> BatchItemResDto<T> toItem(BatchResult<T> result) {
+        BatchItemResDto.BatchItemResDtoBuilder<T> builder = BatchItemResDto.<T>builder().id(result.id());
+        if (result.isSuccess()) {
+            return builder.data(result.value()).build();
+        }
+        return builder
+                .error(new ErrorResponse(result.errorCode().getCode(), result.errorCode().getMessage()))
+                .build();
+    }
+}
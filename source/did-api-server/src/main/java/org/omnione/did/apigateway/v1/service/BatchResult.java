@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service;
+
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+
+import java.util.function.Function;
+
+/**
+ * Result of a single lookup within a batch lookup.
+ * Holds either the resolved response DTO or the error code of the failed lookup.
+ *
+ * @param id The identifier that was looked up.
+ * @param value The resolved response DTO, or null if the lookup failed.
+ * @param errorCode The error code of the failed lookup, or null if the lookup succeeded.
+ * @param <T> The response DTO type.
+ */
+public record BatchResult<T>(String id, T value, ErrorCode errorCode) {
+
+    /**
+     * Creates a successful result.
+     *
+     * @param id The identifier that was looked up.
+     * @param value The resolved response DTO.
+     * @return The successful result.
+     * @param <T> The response DTO type.
+     */
+    public static <T> BatchResult<T> success(String id, T value) {
+        return new BatchResult<>(id, value, null);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param id The identifier that was looked up.
+     * @param errorCode The error code of the failure.
+     * @return The failed result.
+     * @param <T> The response DTO type.
+     */
+    public static <T> BatchResult<T> failure(String id, ErrorCode errorCode) {
+        return new BatchResult<>(id, null, errorCode);
+    }
+
+    /**
+     * Runs a single lookup and captures its outcome.
+     *
+     * @param id The identifier to look up.
+     * @param lookup The single-item lookup.
+     * @param fallbackErrorCode The error code used for failures that are not OpenDidExceptions.
+     * @return The result of the lookup.
+     * @param <T> The response DTO type.
+     */
+    public static <T> BatchResult<T> of(String id, Function<String, T> lookup, ErrorCode fallbackErrorCode) {
+        try {
+            return success(id, lookup.apply(id));
+        } catch (OpenDidException e) {
+            return failure(id, e.getErrorCode());
+        } catch (Exception e) {
+            return failure(id, fallbackErrorCode);
+        }
+    }
+
+    /**
+     * Checks whether the lookup succeeded.
+     *
+     * @return true if the lookup succeeded.
+     */
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+}
@@ -19,17 +19,21 @@ package org.omnione.did.apigateway.v1.service;
 import org.omnione.did.ContractApi;
 import org.omnione.did.ContractFactory;
 import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
 import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
 import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
 import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
+import org.omnione.did.apigateway.v1.service.metrics.ResolutionMetrics;
+import org.omnione.did.base.constants.ResourceType;
 import org.omnione.did.base.exception.ErrorCode;
 import org.omnione.did.base.exception.OpenDidException;
 import org.omnione.did.base.property.BlockchainProperty;
-import org.omnione.did.base.util.BaseMultibaseUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.omnione.did.common.util.DidValidator;
 import org.omnione.did.data.model.did.DidDocAndStatus;
+import org.omnione.did.data.model.schema.VcSchema;
 import org.omnione.did.data.model.vc.VcMeta;
 import org.omnione.did.zkp.datamodel.definition.CredentialDefinition;
 import org.omnione.did.zkp.datamodel.schema.CredentialSchema;
@@ -37,8 +41,6 @@ import org.omnione.exception.BlockChainException;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Implementation of the StorageService interface using blockchain.
  * This service manages the retrieval of DID documents and VC metadata from a blockchain.
@@ -46,14 +48,22 @@ import java.nio.charset.StandardCharsets;
  */
 @RequiredArgsConstructor
 @Slf4j
-@Profile({"!lss & !sample"})
+@Profile("!sample & (!lss | federation)")
 @Service
 public class BlockchainServiceImpl implements StorageService {
+    private static final String BACKEND = "blockchain";
 
     private final ContractApi contractApi;
 
     private final BlockchainProperty blockchainProperty;
 
+    private final ResolutionMetrics resolutionMetrics;
+
+    @Override
+    public String getBackendName() {
+        return BACKEND;
+    }
+
     /**
      * Retrieves a DID document for a given DID from the blockchain.
      *
@@ -66,24 +76,25 @@ public class BlockchainServiceImpl implements StorageService {
         checkValidation(didKeyUrl);
 
         try {
-            DidDocAndStatus didDocAndStatus = (DidDocAndStatus) contractApi.getDidDoc(didKeyUrl);
+            DidDocAndStatus didDocAndStatus = resolutionMetrics.upstream(BACKEND, ResourceType.DID_DOC,
+                    () -> (DidDocAndStatus) contractApi.getDidDoc(didKeyUrl));
 
             if (didDocAndStatus == null) {
                 throw new OpenDidException(ErrorCode.DID_NOT_FOUND);
             }
 
-            String encodedDidDoc = BaseMultibaseUtil.encode(didDocAndStatus.getDocument()
-                    .toJson().getBytes(StandardCharsets.UTF_8));
+            String didDocJson = resolutionMetrics.toJson(BACKEND, ResourceType.DID_DOC,
+                    () -> didDocAndStatus.getDocument().toJson());
+            MultibasePayload encodedDidDoc = resolutionMetrics.encode(BACKEND, ResourceType.DID_DOC,
+                    () -> MultibasePayload.ofJson(didDocJson));
 
             return DidDocResDto.builder()
                     .didDoc(encodedDidDoc)
                     .build();
         } catch (OpenDidException e) {
-            log.error("Failed to find DID Document: " + e.getMessage());
-            throw new OpenDidException(ErrorCode.GET_DID_DOC_FAILED);
+            throw e;
         } catch (Exception e) {
-            log.error("Failed to find DID Document: " + e.getMessage());
-            throw new OpenDidException(ErrorCode.GET_DID_DOC_FAILED);
+            throw failure("DID Document", e, ErrorCode.DID_NOT_FOUND, ErrorCode.GET_DID_DOC_FAILED);
         }
     }
 
@@ -97,20 +108,53 @@ public class BlockchainServiceImpl implements StorageService {
     @Override
     public VcMetaResDto findVcMeta(String vcId) {
         try {
-            VcMeta vcMeta = (VcMeta) contractApi.getVcMetadata(vcId);
+            VcMeta vcMeta = resolutionMetrics.upstream(BACKEND, ResourceType.VC_META,
+                    () -> (VcMeta) contractApi.getVcMetadata(vcId));
 
             if (vcMeta == null)  {
                 throw new OpenDidException(ErrorCode.VC_NOT_FOUND);
             }
-            String encodedVcMeta = BaseMultibaseUtil.encode(vcMeta.toJson().getBytes(StandardCharsets.UTF_8));
+            String vcMetaJson = resolutionMetrics.toJson(BACKEND, ResourceType.VC_META, vcMeta::toJson);
+            MultibasePayload encodedVcMeta = resolutionMetrics.encode(BACKEND, ResourceType.VC_META,
+                    () -> MultibasePayload.ofJson(vcMetaJson));
 
             return VcMetaResDto.builder()
                     .vcId(vcId)
                     .vcMeta(encodedVcMeta)
                     .build();
         } catch (BlockChainException e) {
-            log.error("Failed to find VC Meta: " + e.getMessage());
-            throw new OpenDidException(ErrorCode.VC_META_RETRIEVAL_FAILED);
+            throw failure("VC Meta", e, ErrorCode.VC_NOT_FOUND, ErrorCode.VC_META_RETRIEVAL_FAILED);
+        }
+    }
+
+    /**
+     * Retrieves a Verifiable Credential (VC) schema from the blockchain.
+     *
+     * @param schemaId The identifier of the VC schema to retrieve.
+     * @return VcSchemaResDto containing the encoded VC schema.
+     * @throws OpenDidException if the schema is not found, cannot be retrieved, or the platform does not support it.
+     */
+    @Override
+    public VcSchemaResDto findVcSchema(String schemaId) {
+        try {
+            VcSchema vcSchema = resolutionMetrics.upstream(BACKEND, ResourceType.VC_SCHEMA,
+                    () -> (VcSchema) contractApi.getVcSchema(schemaId));
+
+            if (vcSchema == null) {
+                throw new OpenDidException(ErrorCode.VC_SCHEMA_NOT_FOUND);
+            }
+            String vcSchemaJson = resolutionMetrics.toJson(BACKEND, ResourceType.VC_SCHEMA, vcSchema::toJson);
+            MultibasePayload encodedVcSchema = resolutionMetrics.encode(BACKEND, ResourceType.VC_SCHEMA,
+                    () -> MultibasePayload.ofJson(vcSchemaJson));
+
+            return VcSchemaResDto.builder()
+                    .vcSchema(encodedVcSchema)
+                    .build();
+        } catch (BlockChainException e) {
+            throw failure("VC Schema", e, ErrorCode.VC_SCHEMA_NOT_FOUND, ErrorCode.VC_SCHEMA_RETRIEVAL_FAILED);
+        } catch (UnsupportedOperationException e) {
+            log.debug("VC Schema lookup is not supported by the {} platform", blockchainProperty.getPlatform());
+            throw new OpenDidException(ErrorCode.VC_SCHEMA_NOT_SUPPORTED);
         }
     }
 
@@ -124,23 +168,23 @@ public class BlockchainServiceImpl implements StorageService {
     @Override
     public ZkpCredSchemaResDto findZkpCredSchema(String id) {
         try {
-            CredentialSchema credSchema = (CredentialSchema) contractApi.getZKPCredential(id);
+            CredentialSchema credSchema = resolutionMetrics.upstream(BACKEND, ResourceType.ZKP_CRED_SCHEMA,
+                    () -> (CredentialSchema) contractApi.getZKPCredential(id));
 
             if (credSchema == null) {
                 throw new OpenDidException(ErrorCode.ZKP_CRED_SCHEMA_NOT_FOUND);
             }
 
-            String encodedCredSchema = BaseMultibaseUtil.encode(credSchema.toJson().getBytes(StandardCharsets.UTF_8));
+            String credSchemaJson = resolutionMetrics.toJson(BACKEND, ResourceType.ZKP_CRED_SCHEMA, credSchema::toJson);
+            MultibasePayload encodedCredSchema = resolutionMetrics.encode(BACKEND, ResourceType.ZKP_CRED_SCHEMA,
+                    () -> MultibasePayload.ofJson(credSchemaJson));
 
             return ZkpCredSchemaResDto.builder()
                     .credSchema(encodedCredSchema)
                     .build();
-        } catch (OpenDidException e) {
-            log.error("Failed to find ZKP Credential Schema: " + e.getMessage());
-            throw new OpenDidException(ErrorCode.ZKP_CRED_SCHEMA_RETRIEVAL_FAILED);
         } catch (BlockChainException e) {
-            log.error("Failed to find ZKP Credential Schema: " + e.getMessage());
-            throw new OpenDidException(ErrorCode.ZKP_CRED_SCHEMA_RETRIEVAL_FAILED);
+            throw failure("ZKP Credential Schema", e, ErrorCode.ZKP_CRED_SCHEMA_NOT_FOUND,
+                    ErrorCode.ZKP_CRED_SCHEMA_RETRIEVAL_FAILED);
         }
     }
 
@@ -154,25 +198,45 @@ public class BlockchainServiceImpl implements StorageService {
     @Override
     public ZkpCredDefResDto findZkpCredDef(String id) {
         try {
-            CredentialDefinition credDef = (CredentialDefinition) contractApi.getZKPCredentialDefinition(id);
+            CredentialDefinition credDef = resolutionMetrics.upstream(BACKEND, ResourceType.ZKP_CRED_DEF,
+                    () -> (CredentialDefinition) contractApi.getZKPCredentialDefinition(id));
 
             if (credDef == null) {
                 throw new OpenDidException(ErrorCode.ZKP_CRED_DEF_NOT_FOUND);
             }
 
-            String encodedDredDef = BaseMultibaseUtil.encode(credDef.toJson().getBytes(StandardCharsets.UTF_8));
+            String credDefJson = resolutionMetrics.toJson(BACKEND, ResourceType.ZKP_CRED_DEF, credDef::toJson);
+            MultibasePayload encodedDredDef = resolutionMetrics.encode(BACKEND, ResourceType.ZKP_CRED_DEF,
+                    () -> MultibasePayload.ofJson(credDefJson));
 
             return ZkpCredDefResDto.builder()
                 .credDef(encodedDredDef)
                 .build();
-        } catch (OpenDidException e) {
-            log.error("Failed to find ZKP Credential Definition: " + e.getMessage());
-            throw new OpenDidException(ErrorCode.ZKP_CRED_DEF_RETRIEVAL_FAILED);
-
         } catch (BlockChainException e) {
-            log.error("Failed to find ZKP Credential Definition: " + e.getMessage());
-            throw new OpenDidException(ErrorCode.ZKP_CRED_DEF_RETRIEVAL_FAILED);
+            throw failure("ZKP Credential Definition", e, ErrorCode.ZKP_CRED_DEF_NOT_FOUND,
+                    ErrorCode.ZKP_CRED_DEF_RETRIEVAL_FAILED);
+        }
+    }
+
+    /**
+     * Maps a failed contract read to the error of the lookup. A read the contract answered, such as a
+     * revert for an unknown identifier, is a not-found client error, so it is cached as a failed lookup
+     * and does not count against the backend; any other failure is a retrieval server error.
+     *
+     * @param resource The name of the resource, for logging.
+     * @param e The failure of the read.
+     * @param notFound The error code if the contract answered.
+     * @param retrievalFailed The error code if the read failed.
+     * @return The exception to throw.
+     */
+    private static OpenDidException failure(String resource, Exception e, ErrorCode notFound,
+                                            ErrorCode retrievalFailed) {
+        if (ContractFailures.isContractAnswer(e)) {
+            log.debug("{} not found: {}", resource, e.getMessage());
+            return new OpenDidException(notFound);
         }
+        log.error("Failed to find " + resource + ": " + e.getMessage());
+        return new OpenDidException(retrievalFailed);
     }
 
     /**
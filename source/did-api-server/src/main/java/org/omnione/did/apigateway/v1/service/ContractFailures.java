@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service;
+
+import org.omnione.exception.BlockChainException;
+import org.omnione.exception.BlockchainErrorCode;
+import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.exceptions.JsonRpcError;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classifies failed contract reads.
+ * A failure is classified on its type first: a web3j {@link ContractCallException}, or a
+ * {@link JsonRpcError} carrying the execution reverted code of the node's {@code Response.Error}, is an
+ * answer of the contract, while a {@link ClientConnectionException} or an I/O error is a failure of the
+ * network. A {@link BlockChainException} of the SDK keeps no cause, so it is classified on its
+ * {@link BlockchainErrorCode}: an invalid key URL is an answer, and for the two other codes, which both
+ * EVM reverts and network failures are reported with, the message is searched as a fallback for the
+ * markers of an answer the code allows.
+ */
+public final class ContractFailures {
+
+    /**
+     * JSON-RPC error code of an EVM node for a call reverted by the contract.
+     */
+    private static final int EXECUTION_REVERTED = 3;
+
+    /**
+     * Message markers of an answer of the contract by error code: an EVM revert, which the EVM client
+     * reports as a transaction error or, when wrapped, as a connection error, or an error response of the
+     * Fabric chaincode, which the Fabric client reports as a transaction error.
+     */
+    private static final Map<String, List<String>> CONTRACT_ANSWER_MARKERS = Map.of(
+            BlockchainErrorCode.CONNECTION_ERROR.getCode(), List.of("ContractCallException", "reverted"),
+            BlockchainErrorCode.TRANSACTION_ERROR.getCode(), List.of("ContractCallException", "reverted",
+                    "chaincode response")
+    );
+
+    private ContractFailures() {
+    }
+
+    /**
+     * Checks whether a failed read was answered by the contract, for example with a revert for an
+     * identifier that does not exist, or rejected as an invalid key URL. Such an answer is the same on
+     * every node and on every retry, so it is a result rather than a failure of the network.
+     *
+     * @param failure The failure of the read.
+     * @return true if the contract answered the read.
+     */
+    public static boolean isContractAnswer(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof ContractCallException) {
+                return true;
+            }
+            if (cause instanceof JsonRpcError error) {
+                return error.getCode() == EXECUTION_REVERTED;
+            }
+            if (cause instanceof ClientConnectionException || cause instanceof IOException) {
+                return false;
+            }
+        }
+        if (!(failure instanceof BlockChainException e)) {
+            return false;
+        }
+        if (BlockchainErrorCode.DID_KEY_URL_PARSING_ERROR.getCode().equals(e.getErrorCode())) {
+            return true;
+        }
+        return hasMarker(e.getMessage(), CONTRACT_ANSWER_MARKERS.getOrDefault(e.getErrorCode(), List.of()));
+    }
+
+    /**
+     * Searches the message of an SDK failure for the markers of a contract answer. Only used because the
+     * SDK keeps the cause of a failure in its message alone.
+     */
+    private static boolean hasMarker(String message, List<String> markers) {
+        if (message == null) {
+            return false;
+        }
+        for (String marker : markers) {
+            if (message.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -18,8 +18,14 @@ package org.omnione.did.apigateway.v1.service;
 
 import org.omnione.did.apigateway.v1.dto.DidDocResDto;
 import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
 import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
 import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.exception.ErrorCode;
+
+import java.util.List;
 
 /**
  * Storage service interface for handling DID documents and VC metadata.
@@ -41,6 +47,14 @@ public interface StorageService {
      */
     VcMetaResDto findVcMeta(String vcId);
 
+    /**
+     * Finds a Verifiable Credential (VC) schema by its identifier.
+     *
+     * @param schemaId Identifier of the VC schema.
+     * @return Found VC schema.
+     */
+    VcSchemaResDto findVcSchema(String schemaId);
+
     /**
      * Finds a Zero-Knowledge Proof (ZKP) credential schema by its identifier.
      *
@@ -57,4 +71,78 @@ public interface StorageService {
      */
     ZkpCredDefResDto findZkpCredDef(String id);
 
+    /**
+     * Gets the name of the backend the resources are resolved from, used to tag metrics.
+     *
+     * @return Name of the backend.
+     */
+    String getBackendName();
+
+    /**
+     * Finds DID documents for a list of DIDs.
+     * Backends that support a native multi-get should override this method;
+     * the default implementation looks the DIDs up one by one.
+     *
+     * @param dids List of DIDs, without duplicates.
+     * @return Result per DID, in the order of the given list.
+     */
+    default List<BatchResult<DidDocResDto>> findDidDocuments(List<String> dids) {
+        return dids.stream()
+                .map(did -> BatchResult.of(did, this::findDidDocument, ErrorCode.GET_DID_DOC_FAILED))
+                .toList();
+    }
+
+    /**
+     * Finds metadata for a list of Verifiable Credentials (VC).
+     * Backends that support a native multi-get should override this method;
+     * the default implementation looks the VCs up one by one.
+     *
+     * @param vcIds List of VC identifiers, without duplicates.
+     * @return Result per VC identifier, in the order of the given list.
+     */
+    default List<BatchResult<VcMetaResDto>> findVcMetas(List<String> vcIds) {
+        return vcIds.stream()
+                .map(vcId -> BatchResult.of(vcId, this::findVcMeta, ErrorCode.VC_META_RETRIEVAL_FAILED))
+                .toList();
+    }
+
+    /**
+     * Finds a resource of the given type by its identifier.
+     *
+     * @param resourceType Type of the resource.
+     * @param id Identifier of the resource.
+     * @return Found resource response DTO.
+     */
+    default Object find(ResourceType resourceType, String id) {
+        return switch (resourceType) {
+            case DID_DOC -> findDidDocument(id);
+            case VC_META -> findVcMeta(id);
+            case VC_SCHEMA -> findVcSchema(id);
+            case ZKP_CRED_SCHEMA -> findZkpCredSchema(id);
+            case ZKP_CRED_DEF -> findZkpCredDef(id);
+        };
+    }
+
+    /**
+     * Resolves a resource of the given type again, bypassing and replacing any cached copy.
+     *
+     * @param resourceType Type of the resource.
+     * @param id Identifier of the resource.
+     * @return Resolved resource response DTO.
+     */
+    default Object refresh(ResourceType resourceType, String id) {
+        return find(resourceType, id);
+    }
+
+    /**
+     * Gets a resource of the given type if it can be returned without a backend lookup.
+     *
+     * @param resourceType Type of the resource.
+     * @param id Identifier of the resource.
+     * @return Cached resource response DTO, or null if the resource has to be resolved.
+     * @throws OpenDidException if the resource is known not to resolve, without a backend lookup.
+     */
+    default Object findCached(ResourceType resourceType, String id) {
+        return null;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service;
+
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
+import org.omnione.did.base.constants.ResourceType;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Base class for StorageService decorators.
+ * Every lookup is routed through {@link #resolve(ResourceType, String, Function)} together with
+ * the matching method of the delegate, so a decorator only has to implement a single method.
+ */
+public abstract class StorageServiceDecorator implements StorageService {
+
+    protected final StorageService delegate;
+
+    /**
+     * Constructs a decorator around the given StorageService.
+     *
+     * @param delegate The StorageService to delegate lookups to.
+     */
+    protected StorageServiceDecorator(StorageService delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Resolves a resource, delegating to the given loader where required.
+     *
+     * @param resourceType The type of the resource to resolve.
+     * @param id The identifier of the resource.
+     * @param loader The delegate lookup for the resource.
+     * @return The resolved resource.
+     * @param <T> The response DTO type of the resource.
+     */
+    protected abstract <T> T resolve(ResourceType resourceType, String id, Function<String, T> loader);
+
+    /**
+     * Resolves a batch of resources, delegating to the given batch loader where required.
+     * The default implementation passes the whole batch to the loader.
+     *
+     * @param resourceType The type of the resources to resolve.
+     * @param ids The identifiers of the resources, without duplicates.
+     * @param loader The delegate batch lookup for the resources.
+     * @return Result per identifier, in the order of the given list.
+     * @param <T> The response DTO type of the resources.
+     */
+    protected <T> List<BatchResult<T>> resolveAll(ResourceType resourceType, List<String> ids,
+                                                  Function<List<String>, List<BatchResult<T>>> loader) {
+        return loader.apply(ids);
+    }
+
+    @Override
+    public String getBackendName() {
+        return delegate.getBackendName();
+    }
+
+    @Override
+    public DidDocResDto findDidDocument(String did) {
+        return resolve(ResourceType.DID_DOC, did, delegate::findDidDocument);
+    }
+
+    @Override
+    public VcMetaResDto findVcMeta(String vcId) {
+        return resolve(ResourceType.VC_META, vcId, delegate::findVcMeta);
+    }
+
+    @Override
+    public VcSchemaResDto findVcSchema(String schemaId) {
+        return resolve(ResourceType.VC_SCHEMA, schemaId, delegate::findVcSchema);
+    }
+
+    @Override
+    public List<BatchResult<DidDocResDto>> findDidDocuments(List<String> dids) {
+        return resolveAll(ResourceType.DID_DOC, dids, delegate::findDidDocuments);
+    }
+
+    @Override
+    public List<BatchResult<VcMetaResDto>> findVcMetas(List<String> vcIds) {
+        return resolveAll(ResourceType.VC_META, vcIds, delegate::findVcMetas);
+    }
+
+    @Override
+    public ZkpCredSchemaResDto findZkpCredSchema(String id) {
+        return resolve(ResourceType.ZKP_CRED_SCHEMA, id, delegate::findZkpCredSchema);
+    }
+
+    @Override
+    public ZkpCredDefResDto findZkpCredDef(String id) {
+        return resolve(ResourceType.ZKP_CRED_DEF, id, delegate::findZkpCredDef);
+    }
+
+    @Override
+    public Object refresh(ResourceType resourceType, String id) {
+        return resolve(resourceType, id, key -> delegate.refresh(resourceType, key));
+    }
+
+    @Override
+    public Object findCached(ResourceType resourceType, String id) {
+        return delegate.findCached(resourceType, id);
+    }
+}
@@ -22,14 +22,17 @@ import org.omnione.did.apigateway.v1.api.RepositoryFeign;
 import org.omnione.did.apigateway.v1.api.dto.DidDocApiResDto;
 import org.omnione.did.apigateway.v1.api.dto.VcMetaApiResDto;
 import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
 import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
 import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
 import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
+import org.omnione.did.apigateway.v1.service.metrics.ResolutionMetrics;
+import org.omnione.did.base.constants.ResourceType;
 import org.omnione.did.base.exception.ErrorCode;
 import org.omnione.did.base.exception.OpenDidException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.omnione.did.base.util.BaseMultibaseUtil;
 import org.omnione.did.common.util.DidValidator;
 import org.omnione.did.data.model.vc.VcMeta;
 import org.omnione.did.zkp.datamodel.schema.CredentialSchema;
@@ -37,8 +40,6 @@ import org.omnione.did.zkp.datamodel.util.GsonWrapper;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Implementation of the StorageService interface.
  * This service manages the retrieval of DID documents and VC metadata from a repository.
@@ -48,8 +49,17 @@ import java.nio.charset.StandardCharsets;
 @Profile("lss")
 @Service
 public class StorageServiceImpl implements StorageService {
+    private static final String BACKEND = "lss";
+
     private final RepositoryFeign repositoryFeign;
 
+    private final ResolutionMetrics resolutionMetrics;
+
+    @Override
+    public String getBackendName() {
+        return BACKEND;
+    }
+
     /**
      * Retrieves a DID document for a given DID.
      *
@@ -61,9 +71,11 @@ public class StorageServiceImpl implements StorageService {
     public DidDocResDto findDidDocument(String did) {
         try {
             checkValidation(did);
-            String didDocument = repositoryFeign.getDid(did);
+            String didDocument = resolutionMetrics.upstream(BACKEND, ResourceType.DID_DOC,
+                    () -> repositoryFeign.getDid(did));
 
-            String encodedDidDoc = BaseMultibaseUtil.encode(didDocument.getBytes(StandardCharsets.UTF_8));
+            MultibasePayload encodedDidDoc = resolutionMetrics.encode(BACKEND, ResourceType.DID_DOC,
+                    () -> MultibasePayload.ofJson(didDocument));
 
             return DidDocResDto.builder()
                     .didDoc(encodedDidDoc)
@@ -74,7 +86,7 @@ public class StorageServiceImpl implements StorageService {
         } catch (
                 FeignException e) {
             log.error("Failed to find DID document.", e);
-            throw new OpenDidException(ErrorCode.DID_NOT_FOUND);
+            throw new OpenDidException(toErrorCode(e, ErrorCode.DID_NOT_FOUND, ErrorCode.GET_DID_DOC_FAILED));
         } catch (Exception e) {
             log.error("Failed to find DID document.", e);
             throw new OpenDidException(ErrorCode.DID_NOT_FOUND);
@@ -95,8 +107,10 @@ public class StorageServiceImpl implements StorageService {
         }
 
         try {
-            String vcMetaData = repositoryFeign.getVcMetaData(vcId);
-            String encodedVcMeta = BaseMultibaseUtil.encode(vcMetaData.getBytes(StandardCharsets.UTF_8));
+            String vcMetaData = resolutionMetrics.upstream(BACKEND, ResourceType.VC_META,
+                    () -> repositoryFeign.getVcMetaData(vcId));
+            MultibasePayload encodedVcMeta = resolutionMetrics.encode(BACKEND, ResourceType.VC_META,
+                    () -> MultibasePayload.ofJson(vcMetaData));
 
             return VcMetaResDto.builder()
                     .vcId(vcId)
@@ -107,7 +121,7 @@ public class StorageServiceImpl implements StorageService {
             throw e;
         } catch (FeignException e) {
             log.error("Failed to find VC meta data.", e);
-            throw new OpenDidException(ErrorCode.VC_NOT_FOUND);
+            throw new OpenDidException(toErrorCode(e, ErrorCode.VC_NOT_FOUND, ErrorCode.VC_META_RETRIEVAL_FAILED));
         } catch (Exception e) {
             log.error("Failed to find VC meta data.", e);
             throw new OpenDidException(ErrorCode.VC_NOT_FOUND);
@@ -115,7 +129,23 @@ public class StorageServiceImpl implements StorageService {
     }
 
     /**
-     * Retrieves a Zero-Knowledge Proof (ZKP) credential schema from the blockchain.
+     * Rejects VC schema lookups: the LSS exposes no VC schema endpoint, so VC schemas can only be
+     * resolved from the blockchain. Under federation the lookup falls back to the next backend.
+     *
+     * @param schemaId The identifier of the VC schema to retrieve.
+     * @return Never returns normally.
+     * @throws OpenDidException VC_SCHEMA_NOT_FOUND if the schema ID is empty, VC_SCHEMA_NOT_SUPPORTED otherwise.
+     */
+    @Override
+    public VcSchemaResDto findVcSchema(String schemaId) {
+        if (schemaId == null || schemaId.isEmpty()) {
+            throw new OpenDidException(ErrorCode.VC_SCHEMA_NOT_FOUND);
+        }
+        throw new OpenDidException(ErrorCode.VC_SCHEMA_NOT_SUPPORTED);
+    }
+
+    /**
+     * Retrieves a Zero-Knowledge Proof (ZKP) credential schema from the LSS.
      *
      * @param id The identifier of the ZKP credential schema to retrieve.
      * @return ZkpCredSchemaResDto containing the encoded credential schema.
@@ -123,16 +153,30 @@ public class StorageServiceImpl implements StorageService {
      */
     @Override
     public ZkpCredSchemaResDto findZkpCredSchema(String id) {
-        String credentialSchema = repositoryFeign.getZkpCredSchema(id);
-        String encodedCredentialSchema = BaseMultibaseUtil.encode(credentialSchema.getBytes(StandardCharsets.UTF_8));
+        try {
+            String credentialSchema = resolutionMetrics.upstream(BACKEND, ResourceType.ZKP_CRED_SCHEMA,
+                    () -> repositoryFeign.getZkpCredSchema(id));
+            MultibasePayload encodedCredentialSchema = resolutionMetrics.encode(BACKEND, ResourceType.ZKP_CRED_SCHEMA,
+                    () -> MultibasePayload.ofJson(credentialSchema));
 
-        return ZkpCredSchemaResDto.builder()
-                .credSchema(encodedCredentialSchema)
-                .build();
+            return ZkpCredSchemaResDto.builder()
+                    .credSchema(encodedCredentialSchema)
+                    .build();
+        } catch (OpenDidException e) {
+            log.error("Failed to find ZKP credential schema.", e);
+            throw e;
+        } catch (FeignException e) {
+            log.error("Failed to find ZKP credential schema.", e);
+            throw new OpenDidException(toErrorCode(e, ErrorCode.ZKP_CRED_SCHEMA_NOT_FOUND,
+                    ErrorCode.ZKP_CRED_SCHEMA_RETRIEVAL_FAILED));
+        } catch (Exception e) {
+            log.error("Failed to find ZKP credential schema.", e);
+            throw new OpenDidException(ErrorCode.ZKP_CRED_SCHEMA_NOT_FOUND);
+        }
     }
 
     /**
-     * Retrieves a Zero-Knowledge Proof (ZKP) credential definition from the blockchain.
+     * Retrieves a Zero-Knowledge Proof (ZKP) credential definition from the LSS.
      *
      * @param id The identifier of the ZKP credential definition to retrieve.
      * @return ZkpCredDefResDto containing the encoded credential definition.
@@ -140,12 +184,40 @@ public class StorageServiceImpl implements StorageService {
      */
     @Override
     public ZkpCredDefResDto findZkpCredDef(String id) {
-        String credentialDefinition = repositoryFeign.getZkpCredDef(id);
-        String encodedCredentialDefinition = BaseMultibaseUtil.encode(credentialDefinition.getBytes(StandardCharsets.UTF_8));
+        try {
+            String credentialDefinition = resolutionMetrics.upstream(BACKEND, ResourceType.ZKP_CRED_DEF,
+                    () -> repositoryFeign.getZkpCredDef(id));
+            MultibasePayload encodedCredentialDefinition = resolutionMetrics.encode(BACKEND, ResourceType.ZKP_CRED_DEF,
+                    () -> MultibasePayload.ofJson(credentialDefinition));
 
-        return ZkpCredDefResDto.builder()
-                .credDef(encodedCredentialDefinition)
-                .build();
+            return ZkpCredDefResDto.builder()
+                    .credDef(encodedCredentialDefinition)
+                    .build();
+        } catch (OpenDidException e) {
+            log.error("Failed to find ZKP credential definition.", e);
+            throw e;
+        } catch (FeignException e) {
+            log.error("Failed to find ZKP credential definition.", e);
+            throw new OpenDidException(toErrorCode(e, ErrorCode.ZKP_CRED_DEF_NOT_FOUND,
+                    ErrorCode.ZKP_CRED_DEF_RETRIEVAL_FAILED));
+        } catch (Exception e) {
+            log.error("Failed to find ZKP credential definition.", e);
+            throw new OpenDidException(ErrorCode.ZKP_CRED_DEF_NOT_FOUND);
+        }
+    }
+
+    /**
+     * Maps a failed LSS call to an error code.
+     * A client error means the resource was not found; a server or I/O error means the LSS failed,
+     * which counts towards opening its circuit breaker.
+     *
+     * @param e The exception of the failed call.
+     * @param notFound The error code for a resource that was not found.
+     * @param failed The error code for a failed LSS.
+     * @return The error code of the failure.
+     */
+    private static ErrorCode toErrorCode(FeignException e, ErrorCode notFound, ErrorCode failed) {
+        return e.status() >= 400 && e.status() < 500 ? notFound : failed;
     }
 
     /**
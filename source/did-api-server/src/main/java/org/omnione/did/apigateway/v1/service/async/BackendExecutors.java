@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.omnione.did.base.property.BackendExecutorProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors running the backend lookups of the asynchronous endpoints, one per backend.
+ * Each executor has a bounded pool and a bounded queue; lookups beyond the queue are rejected.
+ * When virtual threads are enabled, every lookup runs on its own virtual thread instead.
+ * The executors are published as the {@code executor.*} metrics with {@code name=backend-<backend>}.
+ */
+@Component
+public class BackendExecutors {
+
+    private final BackendExecutorProperty backendExecutorProperty;
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreads;
+    private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+
+    public BackendExecutors(BackendExecutorProperty backendExecutorProperty,
+                            MeterRegistry meterRegistry,
+                            Environment environment) {
+        this.backendExecutorProperty = backendExecutorProperty;
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * Gets the executor of the given backend, creating it on first use.
+     *
+     * @param backendName The name of the backend.
+     * @return The executor of the backend.
+     */
+    public ExecutorService forBackend(String backendName) {
+        return executors.computeIfAbsent(backendName, this::create);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ExecutorService::shutdown);
+    }
+
+    private ExecutorService create(String backendName) {
+        String prefix = "backend-" + backendName + "-";
+        ExecutorService executor;
+        if (virtualThreads) {
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 1).factory());
+        } else {
+            int poolSize = backendExecutorProperty.getPoolSize(backendName);
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(backendExecutorProperty.getQueueCapacity()), namedThreadFactory(prefix));
+            threadPool.allowCoreThreadTimeOut(true);
+            executor = threadPool;
+        }
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "backend-" + backendName, Tags.empty());
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
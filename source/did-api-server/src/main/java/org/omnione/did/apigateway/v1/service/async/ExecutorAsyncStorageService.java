@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.async;
+
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
+import org.omnione.did.apigateway.v1.service.AsyncStorageService;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * AsyncStorageService running the lookups of a StorageService on the executor of its backend.
+ * Cached resources, and cached or filtered failures, are returned on the calling thread; only lookups
+ * that reach the backend are handed off to the executor. A lookup rejected by a saturated executor fails with
+ * {@link ErrorCode#BACKEND_BUSY}.
+ */
+public class ExecutorAsyncStorageService implements AsyncStorageService {
+
+    private final StorageService storageService;
+    private final Executor executor;
+
+    /**
+     * Constructs an asynchronous view of the given StorageService.
+     *
+     * @param storageService The StorageService to run lookups with.
+     * @param executor The executor of the backend of the StorageService.
+     */
+    public ExecutorAsyncStorageService(StorageService storageService, Executor executor) {
+        this.storageService = storageService;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<DidDocResDto> findDidDocument(String did) {
+        return resolve(ResourceType.DID_DOC, did, DidDocResDto.class);
+    }
+
+    @Override
+    public CompletableFuture<VcMetaResDto> findVcMeta(String vcId) {
+        return resolve(ResourceType.VC_META, vcId, VcMetaResDto.class);
+    }
+
+    @Override
+    public CompletableFuture<VcSchemaResDto> findVcSchema(String schemaId) {
+        return resolve(ResourceType.VC_SCHEMA, schemaId, VcSchemaResDto.class);
+    }
+
+    @Override
+    public CompletableFuture<ZkpCredSchemaResDto> findZkpCredSchema(String id) {
+        return resolve(ResourceType.ZKP_CRED_SCHEMA, id, ZkpCredSchemaResDto.class);
+    }
+
+    @Override
+    public CompletableFuture<ZkpCredDefResDto> findZkpCredDef(String id) {
+        return resolve(ResourceType.ZKP_CRED_DEF, id, ZkpCredDefResDto.class);
+    }
+
+    private <T> CompletableFuture<T> resolve(ResourceType resourceType, String id, Class<T> resultType) {
+        try {
+            Object cached = storageService.findCached(resourceType, id);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(resultType.cast(cached));
+            }
+        } catch (OpenDidException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> resultType.cast(storageService.refresh(resourceType, id)), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new OpenDidException(ErrorCode.BACKEND_BUSY));
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.service.BatchResult;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StorageServiceDecorator;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * StorageService decorator that serves resolved resources from the {@link ResolutionCache}.
+ * The final encoded response DTOs are cached, so a hit skips the backend lookup, the JSON
+ * serialization and the multibase encoding. Lookups that fail with a client error, such as unknown
+ * identifiers, are cached for the short negative time-to-live of their type; other failures are never cached.
+ * A hit past the soft time-to-live of its type is still served, and resolved again in the background.
+ * When a lookup fails with a server error, a resource past its time-to-live is served instead if
+ * stale-if-error is enabled for its type.
+ */
+@Slf4j
+public class CachingStorageService extends StorageServiceDecorator {
+
+    private final ResolutionCache resolutionCache;
+    private final Executor revalidationExecutor;
+    private final Set<ResolutionKey> revalidating = ConcurrentHashMap.newKeySet();
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a caching decorator around the given StorageService.
+     *
+     * @param delegate The StorageService to resolve cache misses with.
+     * @param resolutionCache The cache holding resolved resources.
+     * @param revalidationExecutor The executor resolving stale resources in the background.
+     * @param meterRegistry The registry to count served stale resources with.
+     */
+    public CachingStorageService(StorageService delegate,
+                                 ResolutionCache resolutionCache,
+                                 Executor revalidationExecutor,
+                                 MeterRegistry meterRegistry) {
+        super(delegate);
+        this.resolutionCache = resolutionCache;
+        this.revalidationExecutor = revalidationExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected <T> T resolve(ResourceType resourceType, String id, Function<String, T> loader) {
+        if (id == null) {
+            return loader.apply(id);
+        }
+
+        ErrorCode failure = resolutionCache.getFailure(resourceType, id);
+        if (failure != null) {
+            throw new OpenDidException(failure);
+        }
+
+        T cached = resolutionCache.get(resourceType, id);
+        if (cached != null) {
+            revalidateIfStale(resourceType, id);
+            return cached;
+        }
+        return load(resourceType, id, loader);
+    }
+
+    @Override
+    protected <T> List<BatchResult<T>> resolveAll(ResourceType resourceType, List<String> ids,
+                                                  Function<List<String>, List<BatchResult<T>>> loader) {
+        Map<String, BatchResult<T>> results = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            ErrorCode failure = resolutionCache.getFailure(resourceType, id);
+            if (failure != null) {
+                results.put(id, BatchResult.failure(id, failure));
+                continue;
+            }
+
+            T cached = resolutionCache.get(resourceType, id);
+            if (cached != null) {
+                revalidateIfStale(resourceType, id);
+                results.put(id, BatchResult.success(id, cached));
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (BatchResult<T> result : loader.apply(misses)) {
+                if (result.isSuccess()) {
+                    resolutionCache.put(resourceType, result.id(), result.value());
+                } else if (!isServerError(result.errorCode())) {
+                    resolutionCache.putFailure(resourceType, result.id(), result.errorCode());
+                } else {
+                    T stale = getStale(resourceType, result.id());
+                    if (stale != null) {
+                        result = BatchResult.success(result.id(), stale);
+                    }
+                }
+                results.put(result.id(), result);
+            }
+        }
+        return ids.stream().map(results::get).toList();
+    }
+
+    /**
+     * Resolves a resource again and replaces the cached copy. If the lookup fails with a server error
+     * and stale-if-error is enabled, the cached copy is returned instead.
+     */
+    @Override
+    public Object refresh(ResourceType resourceType, String id) {
+        if (id == null) {
+            return delegate.refresh(resourceType, id);
+        }
+        return load(resourceType, id, key -> delegate.refresh(resourceType, key));
+    }
+
+    @Override
+    public Object findCached(ResourceType resourceType, String id) {
+        if (id == null) {
+            return null;
+        }
+
+        ErrorCode failure = resolutionCache.getFailure(resourceType, id);
+        if (failure != null) {
+            throw new OpenDidException(failure);
+        }
+
+        Object cached = resolutionCache.get(resourceType, id);
+        if (cached == null) {
+            return delegate.findCached(resourceType, id);
+        }
+        revalidateIfStale(resourceType, id);
+        return cached;
+    }
+
+    private <T> T load(ResourceType resourceType, String id, Function<String, T> loader) {
+        try {
+            T resolved = loader.apply(id);
+            resolutionCache.put(resourceType, id, resolved);
+            return resolved;
+        } catch (OpenDidException e) {
+            if (!isServerError(e.getErrorCode())) {
+                resolutionCache.putFailure(resourceType, id, e.getErrorCode());
+                throw e;
+            }
+            T stale = getStale(resourceType, id);
+            if (stale == null) {
+                throw e;
+            }
+            return stale;
+        } catch (RuntimeException e) {
+            T stale = getStale(resourceType, id);
+            if (stale == null) {
+                throw e;
+            }
+            return stale;
+        }
+    }
+
+    private <T> T getStale(ResourceType resourceType, String id) {
+        T stale = resolutionCache.getStale(resourceType, id);
+        if (stale != null) {
+            log.warn("Serving stale {} {} after a failed lookup", resourceType.getName(), id);
+            staleCounter(resourceType, "error").increment();
+        }
+        return stale;
+    }
+
+    /**
+     * Resolves a cached resource again in the background if it is past its soft time-to-live.
+     * At most one revalidation per resource runs at a time. A resource that no longer resolves
+     * because of a client error is evicted and cached as a failed lookup; on any other failure the
+     * cached copy is kept.
+     */
+    private void revalidateIfStale(ResourceType resourceType, String id) {
+        if (!resolutionCache.isStale(resourceType, id)) {
+            return;
+        }
+        ResolutionKey key = new ResolutionKey(resourceType, id);
+        if (!revalidating.add(key)) {
+            return;
+        }
+
+        try {
+            revalidationExecutor.execute(() -> {
+                try {
+                    resolutionCache.put(resourceType, id, delegate.refresh(resourceType, id));
+                } catch (OpenDidException e) {
+                    if (!isServerError(e.getErrorCode())) {
+                        resolutionCache.invalidate(resourceType, id);
+                        resolutionCache.putFailure(resourceType, id, e.getErrorCode());
+                    }
+                    log.debug("Failed to revalidate {} {}: {}", resourceType.getName(), id, e.getMessage());
+                } catch (RuntimeException e) {
+                    log.debug("Failed to revalidate {} {}: {}", resourceType.getName(), id, e.getMessage());
+                } finally {
+                    revalidating.remove(key);
+                }
+            });
+            staleCounter(resourceType, "revalidate").increment();
+        } catch (RejectedExecutionException e) {
+            revalidating.remove(key);
+        }
+    }
+
+    private Counter staleCounter(ResourceType resourceType, String reason) {
+        return Counter.builder("gateway.resolution.cache.stale")
+                .description("Number of stale resources served, by whether they were revalidated or served after an error")
+                .tag("type", resourceType.getName())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static boolean isServerError(ErrorCode errorCode) {
+        return errorCode == null || errorCode.getHttpStatus() >= 500;
+    }
+}
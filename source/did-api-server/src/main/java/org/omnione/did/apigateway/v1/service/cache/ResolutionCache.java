@@ -0,0 +1,315 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.OffHeapCacheProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded in-memory cache of resolved resources.
+ * Entries are admitted and evicted by Caffeine's frequency-based (W-TinyLFU) policy,
+ * and expire after the time-to-live configured for their resource type. Types with stale-if-error
+ * keep their entries longer, but those are only returned by {@link #getStale(ResourceType, String)}.
+ * Lookups that failed with a client error, such as unknown identifiers, are kept apart in a smaller
+ * cache with their own (short) time-to-live, so they do not evict resolved resources.
+ * Resource types cached off-heap are not kept here.
+ */
+@Slf4j
+@Component
+public class ResolutionCache {
+
+    private final CacheProperty cacheProperty;
+    private final OffHeapCacheProperty offHeapCacheProperty;
+    private final Cache<ResolutionKey, Object> cache;
+    private final Policy.VarExpiration<ResolutionKey, Object> expiration;
+    private final Cache<ResolutionKey, ErrorCode> failures;
+    private final Map<ResourceType, Counter> hitCounters = new EnumMap<>(ResourceType.class);
+    private final Map<ResourceType, Counter> missCounters = new EnumMap<>(ResourceType.class);
+    private final Map<ResourceType, Counter> failureHitCounters = new EnumMap<>(ResourceType.class);
+
+    public ResolutionCache(CacheProperty cacheProperty, OffHeapCacheProperty offHeapCacheProperty,
+                           MeterRegistry meterRegistry) {
+        this.cacheProperty = cacheProperty;
+        this.offHeapCacheProperty = offHeapCacheProperty;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperty.getMaximumSize())
+                .expireAfter(new ResourceTypeExpiry(cacheProperty))
+                .recordStats()
+                .build();
+        this.expiration = cache.policy().expireVariably().orElseThrow();
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(cacheProperty.getNegativeMaximumSize())
+                .expireAfter(new NegativeExpiry(cacheProperty))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "resolution");
+        CaffeineCacheMetrics.monitor(meterRegistry, failures, "resolution-negative");
+        for (ResourceType resourceType : ResourceType.values()) {
+            hitCounters.put(resourceType, requestCounter(meterRegistry, resourceType, "hit"));
+            missCounters.put(resourceType, requestCounter(meterRegistry, resourceType, "miss"));
+            failureHitCounters.put(resourceType, requestCounter(meterRegistry, resourceType, "negative-hit"));
+        }
+    }
+
+    /**
+     * Gets a cached resource.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @return The cached resource, or null if it is not cached.
+     * @param <T> The response DTO type of the resource.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ResourceType resourceType, String id) {
+        ResolutionKey key = new ResolutionKey(resourceType, id);
+        Object value = cache.getIfPresent(key);
+        if (value != null && cacheProperty.isStaleIfError(resourceType) && isExpired(key)) {
+            value = null;
+        }
+        (value != null ? hitCounters : missCounters).get(resourceType).increment();
+        return (T) value;
+    }
+
+    /**
+     * Gets the error of a cached failed lookup.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @return The error the lookup failed with, or null if no failed lookup is cached.
+     */
+    public ErrorCode getFailure(ResourceType resourceType, String id) {
+        ErrorCode errorCode = failures.getIfPresent(new ResolutionKey(resourceType, id));
+        if (errorCode != null) {
+            failureHitCounters.get(resourceType).increment();
+        }
+        return errorCode;
+    }
+
+    /**
+     * Caches a lookup that failed with a client error.
+     * Failures of a type with a zero negative time-to-live are not cached.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @param errorCode The error the lookup failed with.
+     */
+    public void putFailure(ResourceType resourceType, String id, ErrorCode errorCode) {
+        if (errorCode == null || !cacheProperty.getNegativeTtl(resourceType).isPositive()) {
+            return;
+        }
+        failures.put(new ResolutionKey(resourceType, id), errorCode);
+    }
+
+    /**
+     * Gets a cached resource even if it is past its time-to-live, for serving it when the backend fails.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @return The cached resource, or null if it is not cached or stale-if-error is disabled for its type.
+     * @param <T> The response DTO type of the resource.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getStale(ResourceType resourceType, String id) {
+        if (!cacheProperty.isStaleIfError(resourceType)) {
+            return null;
+        }
+        return (T) cache.asMap().get(new ResolutionKey(resourceType, id));
+    }
+
+    /**
+     * Checks whether a cached resource is past its soft time-to-live and should be resolved again.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @return true if the resource is cached and older than its soft time-to-live.
+     */
+    public boolean isStale(ResourceType resourceType, String id) {
+        Duration softTtl = cacheProperty.getSoftTtl(resourceType);
+        if (softTtl.compareTo(cacheProperty.getTtl(resourceType)) >= 0) {
+            return false;
+        }
+        return age(new ResolutionKey(resourceType, id)).compareTo(softTtl) >= 0;
+    }
+
+    /**
+     * Caches a resolved resource.
+     * Resources of a type with a zero time-to-live are not cached.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @param value The resolved resource.
+     */
+    public void put(ResourceType resourceType, String id, Object value) {
+        if (value == null || !isCacheable(resourceType)) {
+            return;
+        }
+        cache.put(new ResolutionKey(resourceType, id), value);
+    }
+
+    /**
+     * Removes a cached resource, and a cached failed lookup of it.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     */
+    public void invalidate(ResourceType resourceType, String id) {
+        ResolutionKey key = new ResolutionKey(resourceType, id);
+        cache.invalidate(key);
+        failures.invalidate(key);
+    }
+
+    /**
+     * Removes all cached resources of the given type.
+     *
+     * @param resourceType The type of the resources to remove.
+     */
+    public void invalidateAll(ResourceType resourceType) {
+        invalidateIf(resourceType, id -> true);
+    }
+
+    /**
+     * Removes the cached resources and failed lookups of the given type whose identifier matches the predicate.
+     *
+     * @param resourceType The type of the resources to remove.
+     * @param idPredicate The predicate selecting the identifiers to remove.
+     */
+    public void invalidateIf(ResourceType resourceType, Predicate<String> idPredicate) {
+        Predicate<ResolutionKey> keyPredicate = key -> key.resourceType() == resourceType && idPredicate.test(key.id());
+        cache.asMap().keySet().removeIf(keyPredicate);
+        failures.asMap().keySet().removeIf(keyPredicate);
+    }
+
+    /**
+     * Gets a copy of the cached resources.
+     *
+     * @return The cached resources by type and identifier.
+     */
+    public Map<ResolutionKey, Object> entries() {
+        return cache.asMap().entrySet().stream()
+                .filter(entry -> !isExpired(entry.getKey()))
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Gets a snapshot of the hit, miss and eviction statistics of the cache.
+     *
+     * @return The cache statistics.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Gets the approximate number of cached entries.
+     *
+     * @return The estimated number of entries.
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private boolean isExpired(ResolutionKey key) {
+        return age(key).compareTo(cacheProperty.getTtl(key.resourceType())) >= 0;
+    }
+
+    /**
+     * Gets the time since a resource was cached, derived from the time left until it is removed.
+     * An uncached resource has a zero age.
+     */
+    private Duration age(ResolutionKey key) {
+        return expiration.getExpiresAfter(key)
+                .map(remaining -> cacheProperty.getRetention(key.resourceType()).minus(remaining))
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * Checks whether resources of a type are kept here. Types of the off-heap cache are kept there
+     * as serialized responses instead.
+     */
+    private boolean isCacheable(ResourceType resourceType) {
+        return cacheProperty.getTtl(resourceType).isPositive() && !offHeapCacheProperty.isEnabled(resourceType);
+    }
+
+    /**
+     * Expires entries after the retention of their resource type, counted from the last write.
+     */
+    private record ResourceTypeExpiry(CacheProperty cacheProperty) implements Expiry<ResolutionKey, Object> {
+
+        @Override
+        public long expireAfterCreate(ResolutionKey key, Object value, long currentTime) {
+            return cacheProperty.getRetention(key.resourceType()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ResolutionKey key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ResolutionKey key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Expires failed lookups after the negative time-to-live of their resource type, counted from the last write.
+     */
+    private record NegativeExpiry(CacheProperty cacheProperty) implements Expiry<ResolutionKey, ErrorCode> {
+
+        @Override
+        public long expireAfterCreate(ResolutionKey key, ErrorCode value, long currentTime) {
+            return cacheProperty.getNegativeTtl(key.resourceType()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ResolutionKey key, ErrorCode value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ResolutionKey key, ErrorCode value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, ResourceType resourceType, String result) {
+        return Counter.builder("gateway.resolution.cache.requests")
+                .description("Number of resolution cache lookups")
+                .tag("type", resourceType.getName())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
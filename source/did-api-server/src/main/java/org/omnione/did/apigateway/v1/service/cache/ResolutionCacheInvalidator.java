@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.event.ResourceChangedEvent;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.property.ChainEventProperty;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts resolution cache entries of resources that changed on the ledger.
+ * When refresh is enabled, updated resources are resolved again right away,
+ * so the next request is served from the cache.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ResolutionCacheInvalidator {
+
+    private final ResolutionCache resolutionCache;
+    private final ChainEventProperty chainEventProperty;
+    private final ObjectProvider<StorageService> storageService;
+
+    @EventListener
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (event.resourceType() == ResourceType.DID_DOC) {
+            resolutionCache.invalidateIf(ResourceType.DID_DOC, id -> isSameDid(id, event.id()));
+        } else {
+            resolutionCache.invalidate(event.resourceType(), event.id());
+        }
+
+        if (chainEventProperty.isRefresh() && event.change() == ResourceChangedEvent.Change.UPDATED) {
+            try {
+                storageService.getObject().find(event.resourceType(), event.id());
+            } catch (Exception e) {
+                log.warn("Failed to refresh {} {}: {}", event.resourceType().getName(), event.id(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Checks whether a cached DID key URL refers to the given DID.
+     * A DID document may be cached under the DID itself or under a key URL with a query or fragment.
+     */
+    private static boolean isSameDid(String didKeyUrl, String did) {
+        return didKeyUrl.equals(did)
+                || didKeyUrl.startsWith(did + "?")
+                || didKeyUrl.startsWith(did + "#");
+    }
+}
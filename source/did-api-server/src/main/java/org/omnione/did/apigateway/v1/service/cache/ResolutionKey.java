@@ -0,0 +1,28 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.cache;
+
+import org.omnione.did.base.constants.ResourceType;
+
+/**
+ * Key of a resolved resource in the resolution cache.
+ *
+ * @param resourceType The type of the resource.
+ * @param id The identifier of the resource.
+ */
+public record ResolutionKey(ResourceType resourceType, String id) {
+}
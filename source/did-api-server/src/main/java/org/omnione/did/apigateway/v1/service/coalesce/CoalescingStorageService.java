@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.coalesce;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StorageServiceDecorator;
+import org.omnione.did.apigateway.v1.service.cache.ResolutionKey;
+import org.omnione.did.base.constants.ResourceType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * StorageService decorator that coalesces concurrent lookups of the same resource.
+ * The first caller for a resource performs the backend lookup; callers arriving while it is in
+ * flight wait for it and receive the same result, or the same exception. Nothing is retained
+ * once the lookup completes, so a later call always reaches the backend.
+ * Batch lookups are passed through to the delegate.
+ */
+public class CoalescingStorageService extends StorageServiceDecorator {
+
+    private final Map<ResolutionKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<ResourceType, Counter> coalescedCounters = new EnumMap<>(ResourceType.class);
+
+    /**
+     * Constructs a coalescing decorator around the given StorageService.
+     *
+     * @param delegate The StorageService to perform the shared lookups with.
+     * @param meterRegistry The registry for the coalesced request counters.
+     */
+    public CoalescingStorageService(StorageService delegate, MeterRegistry meterRegistry) {
+        super(delegate);
+        for (ResourceType resourceType : ResourceType.values()) {
+            coalescedCounters.put(resourceType, Counter.builder("gateway.resolution.coalesced")
+                    .description("Number of lookups served by a concurrent lookup of the same resource")
+                    .tag("type", resourceType.getName())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> T resolve(ResourceType resourceType, String id, Function<String, T> loader) {
+        if (id == null) {
+            return loader.apply(id);
+        }
+
+        ResolutionKey key = new ResolutionKey(resourceType, id);
+        CompletableFuture<Object> lookup = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, lookup);
+        if (existing != null) {
+            coalescedCounters.get(resourceType).increment();
+            return (T) await(existing);
+        }
+
+        try {
+            T resolved = loader.apply(id);
+            lookup.complete(resolved);
+            return resolved;
+        } catch (RuntimeException | Error e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, lookup);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.endpoint;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.omnione.did.ContractApi;
+import org.omnione.did.apigateway.v1.service.ContractFailures;
+import org.omnione.did.base.property.RpcEndpointProperty;
+import org.omnione.did.data.model.did.InvokedDidDoc;
+import org.omnione.did.data.model.enums.did.DidDocStatus;
+import org.omnione.did.data.model.enums.vc.RoleType;
+import org.omnione.did.data.model.enums.vc.VcStatus;
+import org.omnione.did.data.model.schema.VcSchema;
+import org.omnione.did.data.model.vc.VcMeta;
+import org.omnione.did.zkp.datamodel.definition.CredentialDefinition;
+import org.omnione.did.zkp.datamodel.schema.CredentialSchema;
+import org.omnione.exception.BlockChainException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ContractApi reading from several EVM RPC endpoints.
+ * In "hedged" mode a read goes to the first healthy endpoint, and is sent to the next one as well
+ * when the first has not answered within its latency percentile; the first answer wins.
+ * In "latency-weighted" mode a read goes to the healthy endpoint with the lowest observed latency.
+ * In both modes a failed read is retried on the remaining endpoints, unhealthy ones last. Only failures
+ * to reach an endpoint count as failures; a read the contract answered, such as a revert for an unknown
+ * identifier, is the same on every node, so it is returned at once without retrying or hedging it.
+ * Writes are not retried and always go to the first healthy endpoint.
+ */
+public class MultiEndpointContractApi implements ContractApi {
+
+    private final List<RpcEndpoint> endpoints;
+    private final RpcEndpointProperty rpcEndpointProperty;
+    private final boolean hedged;
+    private final Executor executor;
+    private final Counter hedgesWon;
+    private final Counter hedgesLost;
+
+    /**
+     * Constructs a ContractApi over the given endpoints.
+     *
+     * @param endpoints The endpoints, in order of preference.
+     * @param rpcEndpointProperty The endpoint selection properties.
+     * @param executor The executor running hedged reads; should be bounded and run rejected reads in the
+     *                 calling thread.
+     * @param meterRegistry The registry to publish the hedging metrics to.
+     */
+    public MultiEndpointContractApi(List<RpcEndpoint> endpoints,
+                                    RpcEndpointProperty rpcEndpointProperty,
+                                    Executor executor,
+                                    MeterRegistry meterRegistry) {
+        this.endpoints = List.copyOf(endpoints);
+        this.rpcEndpointProperty = rpcEndpointProperty;
+        this.hedged = switch (rpcEndpointProperty.getMode()) {
+            case "hedged" -> true;
+            case "latency-weighted" -> false;
+            default -> throw new IllegalArgumentException("Unknown RPC endpoint mode: " + rpcEndpointProperty.getMode());
+        };
+        this.executor = executor;
+        this.hedgesWon = hedgeCounter(meterRegistry, "won");
+        this.hedgesLost = hedgeCounter(meterRegistry, "lost");
+    }
+
+    @Override
+    public Object getDidDoc(String didKeyUrl) throws BlockChainException {
+        return read(contractApi -> contractApi.getDidDoc(didKeyUrl));
+    }
+
+    @Override
+    public Object getVcMetadata(String vcId) throws BlockChainException {
+        return read(contractApi -> contractApi.getVcMetadata(vcId));
+    }
+
+    @Override
+    public Object getVcSchema(String id) throws BlockChainException {
+        return read(contractApi -> contractApi.getVcSchema(id));
+    }
+
+    @Override
+    public Object getZKPCredential(String id) throws BlockChainException {
+        return read(contractApi -> contractApi.getZKPCredential(id));
+    }
+
+    @Override
+    public Object getZKPCredentialDefinition(String id) throws BlockChainException {
+        return read(contractApi -> contractApi.getZKPCredentialDefinition(id));
+    }
+
+    @Override
+    public void registDidDoc(InvokedDidDoc invokedDidDoc, RoleType roleType) throws BlockChainException {
+        primary().registDidDoc(invokedDidDoc, roleType);
+    }
+
+    @Override
+    public Object updateDidDocStatus(String did, DidDocStatus didDocStatus) throws BlockChainException {
+        return primary().updateDidDocStatus(did, didDocStatus);
+    }
+
+    @Override
+    public Object updateDidDocStatus(String did, DidDocStatus didDocStatus, LocalDateTime terminatedTime)
+            throws BlockChainException {
+        return primary().updateDidDocStatus(did, didDocStatus, terminatedTime);
+    }
+
+    @Override
+    public void registVcMetadata(VcMeta vcMeta) throws BlockChainException {
+        primary().registVcMetadata(vcMeta);
+    }
+
+    @Override
+    public void updateVcStatus(String vcId, VcStatus vcStatus) throws BlockChainException {
+        primary().updateVcStatus(vcId, vcStatus);
+    }
+
+    @Override
+    public void registVcSchema(VcSchema vcSchema) throws BlockChainException {
+        primary().registVcSchema(vcSchema);
+    }
+
+    @Override
+    public void registZKPCredential(CredentialSchema credentialSchema) throws BlockChainException {
+        primary().registZKPCredential(credentialSchema);
+    }
+
+    @Override
+    public void registZKPCredentialDefinition(CredentialDefinition credentialDefinition) throws BlockChainException {
+        primary().registZKPCredentialDefinition(credentialDefinition);
+    }
+
+    private ContractApi primary() {
+        return rank(false).get(0).getContractApi();
+    }
+
+    /**
+     * Orders the endpoints for a read: healthy endpoints first, by preference or by latency score,
+     * then the unhealthy ones, which are only tried when all healthy endpoints fail.
+     */
+    private List<RpcEndpoint> rank(boolean byLatency) {
+        List<RpcEndpoint> healthy = new ArrayList<>(endpoints.size());
+        List<RpcEndpoint> unhealthy = new ArrayList<>();
+        for (RpcEndpoint endpoint : endpoints) {
+            (endpoint.isHealthy() ? healthy : unhealthy).add(endpoint);
+        }
+        if (byLatency) {
+            healthy.sort(Comparator.comparingDouble(RpcEndpoint::getScore));
+        }
+        healthy.addAll(unhealthy);
+        return healthy;
+    }
+
+    private Object read(ContractRead read) throws BlockChainException {
+        if (!hedged) {
+            return readInOrder(rank(true), read);
+        }
+
+        HedgedRead hedgedRead = new HedgedRead(rank(false), read);
+        hedgedRead.launchNext();
+        long hedgeDelay = hedgeDelay(hedgedRead.candidates.get(0));
+        int hedges = 0;
+        try {
+            while (true) {
+                try {
+                    Object value = hedges < rpcEndpointProperty.getMaxHedges()
+                            ? hedgedRead.result.get(hedgeDelay, TimeUnit.NANOSECONDS)
+                            : hedgedRead.result.get();
+                    if (hedges > 0) {
+                        (hedgedRead.winner.get() > 0 ? hedgesWon : hedgesLost).increment();
+                    }
+                    return value;
+                } catch (TimeoutException e) {
+                    if (hedgedRead.launchNext()) {
+                        hedges++;
+                    } else {
+                        hedges = rpcEndpointProperty.getMaxHedges();
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading from the EVM RPC endpoints", e);
+        }
+    }
+
+    private Object readInOrder(List<RpcEndpoint> candidates, ContractRead read) throws BlockChainException {
+        Exception failure = null;
+        for (RpcEndpoint endpoint : candidates) {
+            long start = endpoint.start();
+            try {
+                Object value = read.read(endpoint.getContractApi());
+                endpoint.recordSuccess(start);
+                return value;
+            } catch (BlockChainException | RuntimeException e) {
+                if (ContractFailures.isContractAnswer(e)) {
+                    endpoint.recordSuccess(start);
+                    throw e;
+                }
+                endpoint.recordFailure(start);
+                failure = e;
+            }
+        }
+        throw rethrow(failure);
+    }
+
+    private long hedgeDelay(RpcEndpoint endpoint) {
+        long min = rpcEndpointProperty.getHedgeMinDelay().toNanos();
+        long max = rpcEndpointProperty.getHedgeMaxDelay().toNanos();
+        long percentile = endpoint.getLatencyPercentile(rpcEndpointProperty.getHedgePercentile());
+        return percentile < 0 ? max : Math.max(min, Math.min(max, percentile));
+    }
+
+    private static RuntimeException rethrow(Throwable failure) throws BlockChainException {
+        if (failure instanceof BlockChainException e) {
+            throw e;
+        }
+        if (failure instanceof RuntimeException e) {
+            return e;
+        }
+        return new IllegalStateException(failure);
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("gateway.rpc.hedges")
+                .description("Number of reads hedged to another EVM RPC endpoint, by whether the hedge answered first")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A read from a ContractApi.
+     */
+    @FunctionalInterface
+    private interface ContractRead {
+        Object read(ContractApi contractApi) throws BlockChainException;
+    }
+
+    /**
+     * A read sent to one or more endpoints, completed by the first successful answer, or by the
+     * last failure once every endpoint has failed.
+     */
+    private final class HedgedRead {
+
+        private final List<RpcEndpoint> candidates;
+        private final ContractRead read;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private int launched;
+        private int failed;
+        private final AtomicInteger winner = new AtomicInteger(-1);
+
+        private HedgedRead(List<RpcEndpoint> candidates, ContractRead read) {
+            this.candidates = candidates;
+            this.read = read;
+        }
+
+        /**
+         * Sends the read to the next endpoint. The read is submitted outside the lock, as the executor
+         * may run it in the calling thread.
+         *
+         * @return false if the read is already complete or every endpoint has been tried.
+         */
+        private boolean launchNext() {
+            int index;
+            synchronized (this) {
+                if (result.isDone() || launched >= candidates.size()) {
+                    return false;
+                }
+                index = launched++;
+            }
+            executor.execute(() -> attempt(index));
+            return true;
+        }
+
+        private void attempt(int index) {
+            RpcEndpoint endpoint = candidates.get(index);
+            long start = endpoint.start();
+            try {
+                Object value = read.read(endpoint.getContractApi());
+                endpoint.recordSuccess(start);
+                if (winner.compareAndSet(-1, index)) {
+                    result.complete(value);
+                }
+            } catch (Exception e) {
+                if (ContractFailures.isContractAnswer(e)) {
+                    endpoint.recordSuccess(start);
+                    if (winner.compareAndSet(-1, index)) {
+                        result.completeExceptionally(e);
+                    }
+                    return;
+                }
+                endpoint.recordFailure(start);
+                onFailure(e);
+            }
+        }
+
+        private void onFailure(Exception e) {
+            synchronized (this) {
+                failed++;
+            }
+            if (!launchNext()) {
+                synchronized (this) {
+                    if (failed == launched) {
+                        result.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.endpoint;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.omnione.did.ContractApi;
+import org.omnione.did.apigateway.v1.service.ContractFailures;
+import org.omnione.did.data.model.did.InvokedDidDoc;
+import org.omnione.did.data.model.enums.did.DidDocStatus;
+import org.omnione.did.data.model.enums.vc.RoleType;
+import org.omnione.did.data.model.enums.vc.VcStatus;
+import org.omnione.did.data.model.schema.VcSchema;
+import org.omnione.did.data.model.vc.VcMeta;
+import org.omnione.did.zkp.datamodel.definition.CredentialDefinition;
+import org.omnione.did.zkp.datamodel.schema.CredentialSchema;
+import org.omnione.exception.BlockChainException;
+import org.omnione.exception.BlockchainErrorCode;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ContractApi spreading calls over a pool of ContractApi instances, each with a connection of its own.
+ * A call borrows an instance for its duration, so concurrent calls are evaluated in parallel on
+ * separate connections instead of queueing on a single one.
+ * Instances are never discarded: the SDK offers no way to close one, so a replaced instance would leak
+ * its gRPC channel and gateway pool, while the channel of a kept instance reconnects by itself once the
+ * peer is back. An instance whose call fails at the connection level is marked unhealthy instead, and
+ * healthy again by its next call answered by the contract, such as a not-found. Unhealthy idle
+ * instances are probed periodically with a read, so they recover without waiting for a call.
+ */
+@Slf4j
+public class PooledContractApi implements ContractApi, AutoCloseable {
+
+    /**
+     * VC identifier read to probe an idle instance. It does not exist, so a live connection gets a
+     * not-found answer from the contract.
+     */
+    static final String VALIDATION_VC_ID = "api-gateway-pool-validation";
+
+    private final GenericObjectPool<Connection> pool;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a pooled ContractApi and opens the minimum number of idle instances.
+     *
+     * @param factory Creates a ContractApi with a new connection.
+     * @param maxTotal The maximum number of instances.
+     * @param minIdle The number of instances opened up front and kept while idle.
+     * @param maxWait How long a call waits for a free instance.
+     * @param validationInterval How often unhealthy idle instances are probed; zero disables probing.
+     * @param meterRegistry The registry to publish the pool gauges to.
+     * @throws BlockChainException if the idle instances cannot be opened.
+     */
+    public PooledContractApi(Callable<ContractApi> factory, int maxTotal, int minIdle, Duration maxWait,
+                             Duration validationInterval, MeterRegistry meterRegistry) throws BlockChainException {
+        GenericObjectPoolConfig<Connection> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(maxTotal);
+        config.setMaxIdle(maxTotal);
+        config.setMinIdle(Math.min(minIdle, maxTotal));
+        config.setMaxWait(maxWait);
+        config.setJmxEnabled(false);
+        if (validationInterval.isPositive()) {
+            config.setTestWhileIdle(true);
+            config.setTimeBetweenEvictionRuns(validationInterval);
+            config.setNumTestsPerEvictionRun(maxTotal);
+            // Idle instances are probed, never evicted.
+            config.setMinEvictableIdleDuration(Duration.ofMillis(-1));
+        }
+        this.pool = new GenericObjectPool<>(new ConnectionFactory(factory), config);
+        try {
+            pool.preparePool();
+        } catch (Exception e) {
+            pool.close();
+            throw new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, e);
+        }
+
+        Gauge.builder("gateway.contract.pool.active", pool, GenericObjectPool::getNumActive)
+                .description("Number of pooled blockchain connections evaluating a call")
+                .register(meterRegistry);
+        Gauge.builder("gateway.contract.pool.idle", pool, GenericObjectPool::getNumIdle)
+                .description("Number of idle pooled blockchain connections")
+                .register(meterRegistry);
+        Gauge.builder("gateway.contract.pool.waiting", pool, GenericObjectPool::getNumWaiters)
+                .description("Number of calls waiting for a pooled blockchain connection")
+                .register(meterRegistry);
+        Gauge.builder("gateway.contract.pool.unhealthy", this, PooledContractApi::unhealthyCount)
+                .description("Number of pooled blockchain connections whose last call failed at the connection level")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Object getDidDoc(String didKeyUrl) throws BlockChainException {
+        return call(contractApi -> contractApi.getDidDoc(didKeyUrl));
+    }
+
+    @Override
+    public Object getVcMetadata(String vcId) throws BlockChainException {
+        return call(contractApi -> contractApi.getVcMetadata(vcId));
+    }
+
+    @Override
+    public Object getVcSchema(String id) throws BlockChainException {
+        return call(contractApi -> contractApi.getVcSchema(id));
+    }
+
+    @Override
+    public Object getZKPCredential(String id) throws BlockChainException {
+        return call(contractApi -> contractApi.getZKPCredential(id));
+    }
+
+    @Override
+    public Object getZKPCredentialDefinition(String id) throws BlockChainException {
+        return call(contractApi -> contractApi.getZKPCredentialDefinition(id));
+    }
+
+    @Override
+    public void registDidDoc(InvokedDidDoc invokedDidDoc, RoleType roleType) throws BlockChainException {
+        call(contractApi -> {
+            contractApi.registDidDoc(invokedDidDoc, roleType);
+            return null;
+        });
+    }
+
+    @Override
+    public Object updateDidDocStatus(String did, DidDocStatus didDocStatus) throws BlockChainException {
+        return call(contractApi -> contractApi.updateDidDocStatus(did, didDocStatus));
+    }
+
+    @Override
+    public Object updateDidDocStatus(String did, DidDocStatus didDocStatus, LocalDateTime terminatedTime)
+            throws BlockChainException {
+        return call(contractApi -> contractApi.updateDidDocStatus(did, didDocStatus, terminatedTime));
+    }
+
+    @Override
+    public void registVcMetadata(VcMeta vcMeta) throws BlockChainException {
+        call(contractApi -> {
+            contractApi.registVcMetadata(vcMeta);
+            return null;
+        });
+    }
+
+    @Override
+    public void updateVcStatus(String vcId, VcStatus vcStatus) throws BlockChainException {
+        call(contractApi -> {
+            contractApi.updateVcStatus(vcId, vcStatus);
+            return null;
+        });
+    }
+
+    @Override
+    public void registVcSchema(VcSchema vcSchema) throws BlockChainException {
+        call(contractApi -> {
+            contractApi.registVcSchema(vcSchema);
+            return null;
+        });
+    }
+
+    @Override
+    public void registZKPCredential(CredentialSchema credentialSchema) throws BlockChainException {
+        call(contractApi -> {
+            contractApi.registZKPCredential(credentialSchema);
+            return null;
+        });
+    }
+
+    @Override
+    public void registZKPCredentialDefinition(CredentialDefinition credentialDefinition) throws BlockChainException {
+        call(contractApi -> {
+            contractApi.registZKPCredentialDefinition(credentialDefinition);
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    private Object call(ContractCall call) throws BlockChainException {
+        Connection connection;
+        try {
+            connection = pool.borrowObject();
+        } catch (Exception e) {
+            throw new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, e);
+        }
+        try {
+            Object result = call.call(connection.contractApi);
+            connection.healthy = true;
+            return result;
+        } catch (BlockChainException | RuntimeException e) {
+            connection.healthy = !isBroken(e);
+            throw e;
+        } finally {
+            pool.returnObject(connection);
+        }
+    }
+
+    private int unhealthyCount() {
+        return connections.stream().mapToInt(connection -> connection.healthy ? 0 : 1).sum();
+    }
+
+    /**
+     * Checks whether a call failed at the connection level rather than being answered by the contract.
+     * Exceptions other than BlockChainException, such as gRPC status exceptions, are connection failures.
+     */
+    private static boolean isBroken(Exception e) {
+        return !(e instanceof BlockChainException blockChainException)
+                || !ContractFailures.isContractAnswer(blockChainException);
+    }
+
+    /**
+     * A pooled ContractApi with the health of its connection.
+     */
+    private static final class Connection {
+
+        private final ContractApi contractApi;
+        private volatile boolean healthy = true;
+
+        private Connection(ContractApi contractApi) {
+            this.contractApi = contractApi;
+        }
+    }
+
+    /**
+     * A call on a pooled ContractApi.
+     */
+    @FunctionalInterface
+    private interface ContractCall {
+        Object call(ContractApi contractApi) throws BlockChainException;
+    }
+
+    private final class ConnectionFactory extends BasePooledObjectFactory<Connection> {
+
+        private final Callable<ContractApi> factory;
+
+        private ConnectionFactory(Callable<ContractApi> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Connection create() throws Exception {
+            Connection connection = new Connection(factory.call());
+            connections.add(connection);
+            return connection;
+        }
+
+        @Override
+        public PooledObject<Connection> wrap(Connection connection) {
+            return new DefaultPooledObject<>(connection);
+        }
+
+        /**
+         * Probes an unhealthy idle instance with a read of an identifier that does not exist, marking it
+         * healthy if the read succeeds or is answered by the contract. Instances are always kept.
+         */
+        @Override
+        public boolean validateObject(PooledObject<Connection> pooledObject) {
+            Connection connection = pooledObject.getObject();
+            if (connection.healthy) {
+                return true;
+            }
+            try {
+                connection.contractApi.getVcMetadata(VALIDATION_VC_ID);
+                connection.healthy = true;
+            } catch (BlockChainException | RuntimeException e) {
+                connection.healthy = !isBroken(e);
+                if (!connection.healthy) {
+                    log.debug("Blockchain connection still unhealthy: {}", e.getMessage());
+                }
+            }
+            return true;
+        }
+    }
+}
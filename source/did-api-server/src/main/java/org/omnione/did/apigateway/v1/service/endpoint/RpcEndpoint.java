@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.endpoint;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.omnione.did.ContractApi;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A single EVM RPC endpoint together with its observed latency and health.
+ * Latencies are kept in a small ring buffer for percentiles and as an exponentially weighted
+ * moving average for ranking. An endpoint is unhealthy after a number of consecutive failures,
+ * until its ejection ends; a failure right after that ejects it again.
+ */
+public class RpcEndpoint {
+
+    private static final int SAMPLE_SIZE = 128;
+    private static final int MIN_SAMPLES = 16;
+    private static final double EWMA_WEIGHT = 0.2;
+
+    private final String name;
+    private final ContractApi contractApi;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    private final long[] samples = new long[SAMPLE_SIZE];
+    private int sampleCount;
+    private int nextSample;
+    private double ewmaNanos;
+    private int consecutiveFailures;
+    private long ejectedUntil;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Constructs an endpoint.
+     *
+     * @param url The RPC URL of the endpoint; only its host and port are used in metrics.
+     * @param contractApi The ContractApi reading from the endpoint.
+     * @param failureThreshold Number of consecutive failures after which the endpoint is unhealthy.
+     * @param ejectionNanos How long an unhealthy endpoint stays out of rotation, in nanoseconds.
+     * @param meterRegistry The registry to publish the endpoint metrics to.
+     */
+    public RpcEndpoint(String url, ContractApi contractApi, int failureThreshold, long ejectionNanos,
+                       MeterRegistry meterRegistry) {
+        URI uri = URI.create(url);
+        this.name = uri.getHost() + (uri.getPort() < 0 ? "" : ":" + uri.getPort());
+        this.contractApi = contractApi;
+        this.failureThreshold = failureThreshold;
+        this.ejectionNanos = ejectionNanos;
+        this.successTimer = requestTimer(meterRegistry, name, "success");
+        this.failureTimer = requestTimer(meterRegistry, name, "failure");
+        Gauge.builder("gateway.rpc.endpoint.healthy", this, endpoint -> endpoint.isHealthy() ? 1 : 0)
+                .description("Whether the EVM RPC endpoint is in rotation")
+                .tag("endpoint", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ContractApi getContractApi() {
+        return contractApi;
+    }
+
+    /**
+     * Checks whether the endpoint is in rotation.
+     *
+     * @return true unless the endpoint is ejected after consecutive failures.
+     */
+    public synchronized boolean isHealthy() {
+        return consecutiveFailures < failureThreshold || System.nanoTime() - ejectedUntil >= 0;
+    }
+
+    /**
+     * Gets the ranking score of the endpoint: its average latency weighted by its pending reads.
+     *
+     * @return The score, lower is better.
+     */
+    public synchronized double getScore() {
+        return ewmaNanos * (inFlight.get() + 1);
+    }
+
+    /**
+     * Gets a latency percentile of the endpoint.
+     *
+     * @param percentile The percentile, between 0 and 1.
+     * @return The latency in nanoseconds, or -1 if too few reads have been observed.
+     */
+    public long getLatencyPercentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (sampleCount < MIN_SAMPLES) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samples, sampleCount);
+        }
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    /**
+     * Marks the start of a read.
+     *
+     * @return The start time to pass to {@link #recordSuccess(long)} or {@link #recordFailure(long)}.
+     */
+    public long start() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a successful read.
+     *
+     * @param startNanos The start time returned by {@link #start()}.
+     */
+    public void recordSuccess(long startNanos) {
+        long latency = System.nanoTime() - startNanos;
+        inFlight.decrementAndGet();
+        successTimer.record(latency, TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            samples[nextSample] = latency;
+            nextSample = (nextSample + 1) % SAMPLE_SIZE;
+            sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+            ewmaNanos = ewmaNanos == 0 ? latency : ewmaNanos + EWMA_WEIGHT * (latency - ewmaNanos);
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * Records a failed read, ejecting the endpoint once it failed too often in a row.
+     *
+     * @param startNanos The start time returned by {@link #start()}.
+     */
+    public void recordFailure(long startNanos) {
+        long now = System.nanoTime();
+        inFlight.decrementAndGet();
+        failureTimer.record(now - startNanos, TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            consecutiveFailures++;
+            if (consecutiveFailures >= failureThreshold) {
+                ejectedUntil = now + ejectionNanos;
+                // Start over after the ejection so a recovered endpoint gets probed again.
+                ewmaNanos = 0;
+            }
+        }
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, String endpoint, String outcome) {
+        return Timer.builder("gateway.rpc.endpoint")
+                .description("Latency of reads from an EVM RPC endpoint")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.OptionalLong;
+
+/**
+ * File-based store of the last processed block number.
+ */
+@Slf4j
+public class BlockCheckpointStore {
+
+    private final Path file;
+
+    /**
+     * Constructs a checkpoint store backed by the given file.
+     *
+     * @param file The checkpoint file.
+     */
+    public BlockCheckpointStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the last processed block number.
+     *
+     * @return The checkpointed block number, or empty if no valid checkpoint exists.
+     */
+    public OptionalLong load() {
+        if (!Files.exists(file)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(Files.readString(file, StandardCharsets.UTF_8).trim()));
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Ignoring unreadable block checkpoint {}: {}", file, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Saves the last processed block number.
+     * The file is replaced atomically, so a crash never leaves a partial checkpoint behind.
+     *
+     * @param blockNumber The processed block number.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    public void save(long blockNumber) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        Files.writeString(temp, Long.toString(blockNumber), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.event;
+
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.apigateway.v1.service.event.ResourceChangedEvent.Change;
+import org.omnione.generated.OpenDID;
+import org.web3j.abi.EventEncoder;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Decodes OpenDID contract event logs into resource change events.
+ */
+public class ChainEventDecoder {
+
+    private static final Map<String, Function<Log, ResourceChangedEvent>> DECODERS = Map.of(
+            EventEncoder.encode(OpenDID.DIDCREATED_EVENT),
+            log -> event(ResourceType.DID_DOC, OpenDID.getDIDCreatedEventFromLog(log).did, Change.CREATED, log),
+            EventEncoder.encode(OpenDID.DIDUPDATED_EVENT),
+            log -> event(ResourceType.DID_DOC, OpenDID.getDIDUpdatedEventFromLog(log).did, Change.UPDATED, log),
+            EventEncoder.encode(OpenDID.DIDDEACTIVATED_EVENT),
+            log -> event(ResourceType.DID_DOC, OpenDID.getDIDDeactivatedEventFromLog(log).did, Change.DEACTIVATED, log),
+            EventEncoder.encode(OpenDID.VCISSUED_EVENT),
+            log -> event(ResourceType.VC_META, OpenDID.getVCIssuedEventFromLog(log).vcId, Change.CREATED, log),
+            EventEncoder.encode(OpenDID.VCSTATUS_EVENT),
+            log -> event(ResourceType.VC_META, OpenDID.getVCStatusEventFromLog(log).vcId, Change.UPDATED, log)
+    );
+
+    /**
+     * Topics (event signatures) of the events that can be decoded.
+     */
+    public static final List<String> TOPICS = List.copyOf(DECODERS.keySet());
+
+    /**
+     * Decodes a contract event log.
+     *
+     * @param log The event log to decode.
+     * @return The resource change recorded by the log, or empty if the log is not a resource change.
+     */
+    public static Optional<ResourceChangedEvent> decode(Log log) {
+        if (log.getTopics() == null || log.getTopics().isEmpty()) {
+            return Optional.empty();
+        }
+        Function<Log, ResourceChangedEvent> decoder = DECODERS.get(log.getTopics().get(0));
+        return Optional.ofNullable(decoder).map(d -> d.apply(log));
+    }
+
+    private static ResourceChangedEvent event(ResourceType resourceType, String id, Change change, Log log) {
+        return new ResourceChangedEvent(resourceType, id, change, log.getBlockNumber().longValue());
+    }
+}
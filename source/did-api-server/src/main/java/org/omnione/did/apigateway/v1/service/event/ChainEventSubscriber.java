@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.base.property.ChainEventProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background subscriber following the OpenDID contract event logs.
+ * Logs are read block range by block range from the checkpointed block height, decoded into
+ * {@link ResourceChangedEvent}s and published to the application context, where the resolution
+ * caches evict or refresh the affected entries.
+ */
+@Slf4j
+public class ChainEventSubscriber implements SmartLifecycle {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final ChainLogSource chainLogSource;
+    private final BlockCheckpointStore checkpointStore;
+    private final ChainEventProperty chainEventProperty;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong latestBlock = new AtomicLong(UNSET);
+    private final AtomicLong processedBlock = new AtomicLong(UNSET);
+    private final AtomicLong replayAfter = new AtomicLong(UNSET);
+    private ScheduledExecutorService executor;
+
+    public ChainEventSubscriber(ChainLogSource chainLogSource,
+                                BlockCheckpointStore checkpointStore,
+                                ChainEventProperty chainEventProperty,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry) {
+        this.chainLogSource = chainLogSource;
+        this.checkpointStore = checkpointStore;
+        this.chainEventProperty = chainEventProperty;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("gateway.chain.event.lag", this, ChainEventSubscriber::getLag)
+                .description("Number of blocks between the chain head and the last processed block")
+                .baseUnit("blocks")
+                .register(meterRegistry);
+        Gauge.builder("gateway.chain.event.processed.block", processedBlock, ChainEventSubscriber::toGaugeValue)
+                .description("Last processed block number")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chain-event-subscriber");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::poll, 0,
+                chainEventProperty.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Following OpenDID contract events from {} source", chainEventProperty.getSource());
+    }
+
+    @Override
+    public void stop() {
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * Gets the last block whose events have been processed.
+     *
+     * @return The processed block number, or empty if no block has been processed yet.
+     */
+    public OptionalLong getProcessedBlock() {
+        long processed = processedBlock.get();
+        return processed == UNSET ? OptionalLong.empty() : OptionalLong.of(processed);
+    }
+
+    /**
+     * Requests that the events after the given block are processed again on startup, even if the
+     * checkpoint is past it. Used when resolved resources as of that block are restored.
+     * Has no effect once the first block range has been processed.
+     *
+     * @param blockNumber The block after which events are processed.
+     */
+    public void replayAfter(long blockNumber) {
+        replayAfter.set(blockNumber);
+    }
+
+    /**
+     * Processes all blocks between the last processed block and the current chain head.
+     */
+    void poll() {
+        try {
+            long head = chainLogSource.getLatestBlockNumber().longValue() - chainEventProperty.getConfirmations();
+            latestBlock.set(head);
+            if (processedBlock.get() == UNSET) {
+                processedBlock.set(initialBlock(head));
+            }
+
+            long fromBlock = processedBlock.get() + 1;
+            while (fromBlock <= head) {
+                long toBlock = Math.min(head, fromBlock + chainEventProperty.getMaxBlockRange() - 1);
+                for (Log eventLog : chainLogSource.getLogs(BigInteger.valueOf(fromBlock), BigInteger.valueOf(toBlock))) {
+                    decode(eventLog).ifPresent(this::publish);
+                }
+                checkpointStore.save(toBlock);
+                processedBlock.set(toBlock);
+                fromBlock = toBlock + 1;
+            }
+        } catch (Exception e) {
+            log.error("Failed to process OpenDID contract events: {}", e.getMessage());
+        }
+    }
+
+    private long initialBlock(long head) {
+        long initial = checkpointStore.load().orElseGet(() -> switch (chainEventProperty.getStartBlock()) {
+            case "latest" -> head;
+            case "earliest" -> -1L;
+            default -> Long.parseLong(chainEventProperty.getStartBlock()) - 1;
+        });
+        long replay = replayAfter.get();
+        return replay == UNSET ? initial : Math.min(initial, replay);
+    }
+
+    /**
+     * Decodes an event log, skipping it if it is malformed so that it does not hold back the
+     * checkpoint. The resources it changed are then only refreshed when their cache entries expire.
+     */
+    private Optional<ResourceChangedEvent> decode(Log eventLog) {
+        try {
+            return ChainEventDecoder.decode(eventLog);
+        } catch (RuntimeException e) {
+            log.warn("Skipping malformed OpenDID contract event log {} of block {}: {}",
+                    eventLog.getLogIndexRaw(), eventLog.getBlockNumberRaw(), e.getMessage());
+            count("unknown", "unknown", "failed");
+            return Optional.empty();
+        }
+    }
+
+    private void publish(ResourceChangedEvent event) {
+        log.debug("Resource changed: {}", event);
+        count(event.resourceType().getName(), event.change().name().toLowerCase(), "published");
+        eventPublisher.publishEvent(event);
+    }
+
+    private void count(String type, String change, String outcome) {
+        Counter.builder("gateway.chain.events")
+                .description("Number of processed OpenDID contract events")
+                .tag("type", type)
+                .tag("change", change)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private double getLag() {
+        long latest = latestBlock.get();
+        long processed = processedBlock.get();
+        return latest == UNSET || processed == UNSET ? Double.NaN : Math.max(0, latest - processed);
+    }
+
+    private static double toGaugeValue(AtomicLong value) {
+        return value.get() == UNSET ? Double.NaN : value.get();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.event;
+
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Source of OpenDID contract event logs.
+ */
+public interface ChainLogSource {
+    /**
+     * Gets the number of the most recent block.
+     *
+     * @return The latest block number.
+     * @throws IOException if the source cannot be reached.
+     */
+    BigInteger getLatestBlockNumber() throws IOException;
+
+    /**
+     * Gets the OpenDID contract logs of the given block range.
+     *
+     * @param fromBlock First block of the range, inclusive.
+     * @param toBlock Last block of the range, inclusive.
+     * @return The logs of the range, in chain order.
+     * @throws IOException if the source cannot be reached.
+     */
+    List<Log> getLogs(BigInteger fromBlock, BigInteger toBlock) throws IOException;
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.event;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * ChainLogSource that replays a recorded eth_getLogs JSON-RPC response.
+ * Used to exercise the event subscriber without a running EVM node.
+ */
+public class RecordedChainLogSource implements ChainLogSource {
+
+    private final List<Log> logs;
+
+    /**
+     * Constructs a log source replaying the given logs.
+     *
+     * @param logs The recorded logs.
+     */
+    public RecordedChainLogSource(List<Log> logs) {
+        this.logs = logs.stream()
+                .sorted(Comparator.comparing(Log::getBlockNumber).thenComparing(Log::getLogIndex))
+                .toList();
+    }
+
+    /**
+     * Reads a recorded eth_getLogs JSON-RPC response from a file.
+     *
+     * @param file The file holding the recorded response.
+     * @return A log source replaying the recorded logs.
+     * @throws IOException if the file cannot be read or parsed.
+     */
+    public static RecordedChainLogSource fromFile(Path file) throws IOException {
+        EthLog ethLog = ObjectMapperFactory.getObjectMapper().readValue(file.toFile(), EthLog.class);
+        return new RecordedChainLogSource(ethLog.getLogs().stream()
+                .map(logResult -> (Log) logResult.get())
+                .toList());
+    }
+
+    @Override
+    public BigInteger getLatestBlockNumber() {
+        return logs.isEmpty() ? BigInteger.ZERO : logs.get(logs.size() - 1).getBlockNumber();
+    }
+
+    @Override
+    public List<Log> getLogs(BigInteger fromBlock, BigInteger toBlock) {
+        return logs.stream()
+                .filter(log -> log.getBlockNumber().compareTo(fromBlock) >= 0
+                        && log.getBlockNumber().compareTo(toBlock) <= 0)
+                .toList();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.event;
+
+import org.omnione.did.base.constants.ResourceType;
+
+/**
+ * Application event published when a resolvable resource changes on the ledger.
+ *
+ * @param resourceType The type of the changed resource.
+ * @param id The identifier of the changed resource.
+ * @param change The kind of change.
+ * @param blockNumber The block in which the change was recorded.
+ */
+public record ResourceChangedEvent(ResourceType resourceType, String id, Change change, long blockNumber) {
+
+    /**
+     * Kind of change recorded for a resource.
+     */
+    public enum Change {
+        CREATED,
+        UPDATED,
+        DEACTIVATED
+    }
+}
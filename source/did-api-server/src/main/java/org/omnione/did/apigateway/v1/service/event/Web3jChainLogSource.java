@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.event;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * ChainLogSource that polls an EVM node over JSON-RPC (eth_blockNumber, eth_getLogs).
+ * Works against Besu as well as local stand-ins such as Ganache or Hardhat.
+ */
+public class Web3jChainLogSource implements ChainLogSource {
+
+    private final Web3j web3j;
+    private final String contractAddress;
+
+    /**
+     * Constructs a log source for the given OpenDID contract.
+     *
+     * @param web3j The Web3j client of the EVM node.
+     * @param contractAddress The address of the OpenDID contract.
+     */
+    public Web3jChainLogSource(Web3j web3j, String contractAddress) {
+        this.web3j = web3j;
+        this.contractAddress = contractAddress;
+    }
+
+    @Override
+    public BigInteger getLatestBlockNumber() throws IOException {
+        EthBlockNumber response = checkError(web3j.ethBlockNumber().send());
+        return response.getBlockNumber();
+    }
+
+    @Override
+    public List<Log> getLogs(BigInteger fromBlock, BigInteger toBlock) throws IOException {
+        EthFilter filter = new EthFilter(DefaultBlockParameter.valueOf(fromBlock),
+                DefaultBlockParameter.valueOf(toBlock), contractAddress);
+        filter.addOptionalTopics(ChainEventDecoder.TOPICS.toArray(String[]::new));
+
+        EthLog response = checkError(web3j.ethGetLogs(filter).send());
+        return response.getLogs().stream()
+                .map(logResult -> (Log) logResult.get())
+                .toList();
+    }
+
+    private static <T extends Response<?>> T checkError(T response) throws IOException {
+        if (response.hasError()) {
+            throw new IOException("JSON-RPC error " + response.getError().getCode()
+                    + ": " + response.getError().getMessage());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.federation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
+import org.omnione.did.apigateway.v1.service.BatchResult;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.async.BackendExecutors;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.FederationProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * StorageService resolving resources from several backends.
+ * Single lookups try the backends in order, each on the executor of its backend and within its
+ * timeout, and fall back to the next backend when a lookup fails or, if enabled, when the resource
+ * is not found. Lookups of the racing resource types are sent to all backends at once and served by
+ * the first backend to resolve them. Batch lookups try the backends in order with the identifiers
+ * still unresolved, without a timeout of their own.
+ * When every backend fails, the failure of the last backend tried is returned.
+ */
+@Slf4j
+public class FederatedStorageService implements StorageService {
+
+    private static final String BACKEND = "federated";
+
+    private final List<StorageService> backends;
+    private final FederationProperty federationProperty;
+    private final BackendExecutors backendExecutors;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a StorageService resolving resources from the given backends.
+     *
+     * @param backends The backends to resolve resources from, in order.
+     * @param federationProperty The fallback, timeout and racing settings.
+     * @param backendExecutors The executors to run the lookups of each backend on.
+     * @param meterRegistry The registry for the served and fallback counters.
+     */
+    public FederatedStorageService(List<StorageService> backends,
+                                   FederationProperty federationProperty,
+                                   BackendExecutors backendExecutors,
+                                   MeterRegistry meterRegistry) {
+        this.backends = List.copyOf(backends);
+        this.federationProperty = federationProperty;
+        this.backendExecutors = backendExecutors;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String getBackendName() {
+        return BACKEND;
+    }
+
+    @Override
+    public DidDocResDto findDidDocument(String did) {
+        return (DidDocResDto) resolve(ResourceType.DID_DOC, did);
+    }
+
+    @Override
+    public VcMetaResDto findVcMeta(String vcId) {
+        return (VcMetaResDto) resolve(ResourceType.VC_META, vcId);
+    }
+
+    @Override
+    public VcSchemaResDto findVcSchema(String schemaId) {
+        return (VcSchemaResDto) resolve(ResourceType.VC_SCHEMA, schemaId);
+    }
+
+    @Override
+    public ZkpCredSchemaResDto findZkpCredSchema(String id) {
+        return (ZkpCredSchemaResDto) resolve(ResourceType.ZKP_CRED_SCHEMA, id);
+    }
+
+    @Override
+    public ZkpCredDefResDto findZkpCredDef(String id) {
+        return (ZkpCredDefResDto) resolve(ResourceType.ZKP_CRED_DEF, id);
+    }
+
+    @Override
+    public List<BatchResult<DidDocResDto>> findDidDocuments(List<String> dids) {
+        return resolveAll(ResourceType.DID_DOC, dids, StorageService::findDidDocuments);
+    }
+
+    @Override
+    public List<BatchResult<VcMetaResDto>> findVcMetas(List<String> vcIds) {
+        return resolveAll(ResourceType.VC_META, vcIds, StorageService::findVcMetas);
+    }
+
+    @Override
+    public Object find(ResourceType resourceType, String id) {
+        return resolve(resourceType, id);
+    }
+
+    private Object resolve(ResourceType resourceType, String id) {
+        if (federationProperty.getRace().contains(resourceType)) {
+            return race(resourceType, id);
+        }
+
+        RuntimeException failure = null;
+        for (int i = 0; i < backends.size(); i++) {
+            StorageService backend = backends.get(i);
+            try {
+                Object resolved = unwrap(() -> submit(backend, resourceType, id).get());
+                served(resourceType, backend);
+                return resolved;
+            } catch (RuntimeException e) {
+                failure = e;
+                if (i == backends.size() - 1 || !isFallback(errorCode(e))) {
+                    throw e;
+                }
+                fellBack(resourceType, backend, errorCode(e));
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Sends a lookup to all backends and returns the first resource resolved.
+     */
+    private Object race(ResourceType resourceType, String id) {
+        CompletableFuture<Object> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(backends.size());
+        Throwable[] failures = new Throwable[backends.size()];
+        for (int i = 0; i < backends.size(); i++) {
+            StorageService backend = backends.get(i);
+            int index = i;
+            submit(backend, resourceType, id).whenComplete((resolved, e) -> {
+                if (e == null) {
+                    if (winner.complete(resolved)) {
+                        served(resourceType, backend);
+                    }
+                    return;
+                }
+                failures[index] = e;
+                if (pending.decrementAndGet() == 0) {
+                    winner.completeExceptionally(failures[failures.length - 1]);
+                }
+            });
+        }
+        return unwrap(winner::get);
+    }
+
+    private <T> List<BatchResult<T>> resolveAll(ResourceType resourceType, List<String> ids,
+                                                BiFunction<StorageService, List<String>, List<BatchResult<T>>> lookup) {
+        Map<String, BatchResult<T>> results = new HashMap<>();
+        List<String> unresolved = ids;
+        for (int i = 0; i < backends.size() && !unresolved.isEmpty(); i++) {
+            StorageService backend = backends.get(i);
+            boolean last = i == backends.size() - 1;
+            List<String> next = new ArrayList<>();
+            for (BatchResult<T> result : lookup.apply(backend, unresolved)) {
+                results.put(result.id(), result);
+                if (result.isSuccess()) {
+                    served(resourceType, backend);
+                } else if (!last && isFallback(result.errorCode())) {
+                    fellBack(resourceType, backend, result.errorCode());
+                    next.add(result.id());
+                }
+            }
+            unresolved = next;
+        }
+        return ids.stream().map(results::get).toList();
+    }
+
+    /**
+     * Runs a single lookup on the executor of the backend, failing it once the backend timeout has passed.
+     */
+    private CompletableFuture<Object> submit(StorageService backend, ResourceType resourceType, String id) {
+        try {
+            return CompletableFuture.supplyAsync(() -> backend.find(resourceType, id),
+                            backendExecutors.forBackend(backend.getBackendName()))
+                    .orTimeout(federationProperty.getTimeout(backend.getBackendName()).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new OpenDidException(ErrorCode.BACKEND_BUSY));
+        }
+    }
+
+    private boolean isFallback(ErrorCode errorCode) {
+        return isServerError(errorCode) || federationProperty.isFallbackOnNotFound();
+    }
+
+    private void served(ResourceType resourceType, StorageService backend) {
+        log.debug("{} served by {}", resourceType.getName(), backend.getBackendName());
+        Counter.builder("gateway.federation.served")
+                .description("Number of resources resolved, by the backend that resolved them")
+                .tag("type", resourceType.getName())
+                .tag("backend", backend.getBackendName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void fellBack(ResourceType resourceType, StorageService backend, ErrorCode errorCode) {
+        Counter.builder("gateway.federation.fallbacks")
+                .description("Number of lookups passed on to the next backend, by the backend that failed them")
+                .tag("type", resourceType.getName())
+                .tag("backend", backend.getBackendName())
+                .tag("reason", isServerError(errorCode) ? "error" : "not-found")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Waits for a lookup, turning its failure into the exception the backend failed it with, or into
+     * {@link ErrorCode#BACKEND_UNAVAILABLE} if it timed out.
+     */
+    private static Object unwrap(Lookup lookup) {
+        try {
+            return lookup.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenDidException(ErrorCode.BACKEND_UNAVAILABLE);
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new OpenDidException(ErrorCode.BACKEND_UNAVAILABLE);
+        }
+    }
+
+    private static ErrorCode errorCode(RuntimeException e) {
+        return e instanceof OpenDidException openDidException ? openDidException.getErrorCode() : null;
+    }
+
+    private static boolean isServerError(ErrorCode errorCode) {
+        return errorCode == null || errorCode.getHttpStatus() >= 500;
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        Object get() throws InterruptedException, ExecutionException;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of strings.
+ * {@link #mightContain(String)} never returns false for a value that was added, and returns true for
+ * a value that was not added with about the false positive probability the filter was sized for,
+ * as long as no more values than expected are added.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * Constructs an empty filter sized for the given number of values.
+     *
+     * @param expectedInsertions The number of values the filter is sized for.
+     * @param falsePositiveProbability The false positive probability at the expected number of values.
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, (bits + 63) / 64)));
+        this.bitCount = words.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value The value to add.
+     */
+    public void put(String value) {
+        long hash1 = hash(value, 0x9e3779b97f4a7c15L);
+        long hash2 = hash(value, 0xc2b2ae3d27d4eb4fL);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * Checks whether a value might have been added to the filter.
+     *
+     * @param value The value to check.
+     * @return false if the value was definitely not added.
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0x9e3779b97f4a7c15L);
+        long hash2 = hash(value, 0xc2b2ae3d27d4eb4fL);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of values added to the filter, counting duplicates.
+     *
+     * @return The number of added values.
+     */
+    public long getInsertions() {
+        return insertions.get();
+    }
+
+    /**
+     * Hashes the UTF-8 bytes of a value with a seeded FNV-1a, finished with the MurmurHash3 mixer.
+     */
+    private static long hash(String value, long seed) {
+        long hash = 0xcbf29ce484222325L ^ seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.filter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.service.event.ChainEventDecoder;
+import org.omnione.did.apigateway.v1.service.event.ChainLogSource;
+import org.omnione.did.apigateway.v1.service.event.ResourceChangedEvent;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.property.ChainEventProperty;
+import org.omnione.did.base.property.IdentifierFilterProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bloom filter of the DIDs and VC IDs created on the ledger.
+ * The filter is built from the DIDCreated and VCIssued contract events since the configured block,
+ * then kept up to date by polling the event logs and by the events of the {@code ChainEventSubscriber}.
+ * Until the filter is built, and while it is rebuilt after growing past its expected size, every
+ * identifier is let through.
+ */
+@Slf4j
+public class KnownIdentifierFilter implements SmartLifecycle {
+
+    private static final Set<ResourceType> FILTERED_TYPES = Set.of(ResourceType.DID_DOC, ResourceType.VC_META);
+
+    private final ChainLogSource chainLogSource;
+    private final IdentifierFilterProperty identifierFilterProperty;
+    private final ChainEventProperty chainEventProperty;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+    private long scannedBlock;
+    private long capacity;
+    private ScheduledExecutorService executor;
+
+    public KnownIdentifierFilter(ChainLogSource chainLogSource,
+                                 IdentifierFilterProperty identifierFilterProperty,
+                                 ChainEventProperty chainEventProperty,
+                                 MeterRegistry meterRegistry) {
+        this.chainLogSource = chainLogSource;
+        this.identifierFilterProperty = identifierFilterProperty;
+        this.chainEventProperty = chainEventProperty;
+        this.capacity = identifierFilterProperty.getExpectedInsertions();
+
+        Gauge.builder("gateway.identifier.filter.size", this, KnownIdentifierFilter::getSize)
+                .description("Number of identifiers in the known identifier filter, NaN while it is built")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "identifier-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::poll, 0,
+                identifierFilterProperty.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * Checks whether a resource might exist on the ledger.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource. A DID may be given as a DID key URL.
+     * @return false if the resource was definitely never created; true otherwise, or if its type is not filtered.
+     */
+    public boolean mightExist(ResourceType resourceType, String id) {
+        BloomFilter current = filter;
+        if (current == null || id == null || !FILTERED_TYPES.contains(resourceType)) {
+            return true;
+        }
+        return current.mightContain(key(resourceType, id));
+    }
+
+    /**
+     * Adds resources created on the ledger as soon as the {@code ChainEventSubscriber} reports them.
+     */
+    @EventListener
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (event.change() == ResourceChangedEvent.Change.CREATED) {
+            add(event);
+        }
+    }
+
+    /**
+     * Adds the identifiers created since the last poll, (re)building the filter first if required.
+     */
+    void poll() {
+        try {
+            if (building == null && (filter == null || filter.getInsertions() > capacity)) {
+                if (filter != null) {
+                    capacity *= 2;
+                    log.info("Known identifier filter exceeded {} identifiers, rebuilding it", filter.getInsertions());
+                }
+                filter = null;
+                building = new BloomFilter(capacity, identifierFilterProperty.getFalsePositiveProbability());
+                scannedBlock = identifierFilterProperty.getFromBlock() - 1;
+            }
+
+            long head = chainLogSource.getLatestBlockNumber().longValue();
+            long fromBlock = scannedBlock + 1;
+            while (fromBlock <= head) {
+                long toBlock = Math.min(head, fromBlock + chainEventProperty.getMaxBlockRange() - 1);
+                for (Log eventLog : chainLogSource.getLogs(BigInteger.valueOf(fromBlock), BigInteger.valueOf(toBlock))) {
+                    ChainEventDecoder.decode(eventLog)
+                            .filter(event -> event.change() == ResourceChangedEvent.Change.CREATED)
+                            .ifPresent(this::add);
+                }
+                scannedBlock = toBlock;
+                fromBlock = toBlock + 1;
+            }
+
+            if (building != null) {
+                filter = building;
+                building = null;
+                log.info("Built known identifier filter of {} identifiers up to block {}", filter.getInsertions(), head);
+            }
+        } catch (Exception e) {
+            log.error("Failed to update the known identifier filter: {}", e.getMessage());
+        }
+    }
+
+    private void add(ResourceChangedEvent event) {
+        String key = key(event.resourceType(), event.id());
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(key);
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+    }
+
+    private double getSize() {
+        BloomFilter current = filter;
+        return current == null ? Double.NaN : current.getInsertions();
+    }
+
+    /**
+     * Gets the filter key of a resource. A DID key URL is reduced to its DID.
+     */
+    private static String key(ResourceType resourceType, String id) {
+        if (resourceType == ResourceType.DID_DOC) {
+            int end = indexOfAny(id, '?', '#');
+            id = end < 0 ? id : id.substring(0, end);
+        }
+        return resourceType.getName() + ':' + id;
+    }
+
+    private static int indexOfAny(String value, char first, char second) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == first || c == second) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.omnione.did.apigateway.v1.service.BatchResult;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StorageServiceDecorator;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * StorageService decorator that rejects DIDs and VC IDs missing from the {@link KnownIdentifierFilter}
+ * with the not-found error of their type, without a backend lookup.
+ */
+public class KnownIdentifierStorageService extends StorageServiceDecorator {
+
+    private static final Map<ResourceType, ErrorCode> NOT_FOUND_ERRORS = Map.of(
+            ResourceType.DID_DOC, ErrorCode.DID_NOT_FOUND,
+            ResourceType.VC_META, ErrorCode.VC_NOT_FOUND
+    );
+
+    private final KnownIdentifierFilter knownIdentifierFilter;
+    private final Map<ResourceType, Counter> rejectedCounters = new EnumMap<>(ResourceType.class);
+
+    /**
+     * Constructs a filtering decorator around the given StorageService.
+     *
+     * @param delegate The StorageService to resolve possibly existing resources with.
+     * @param knownIdentifierFilter The filter of identifiers created on the ledger.
+     * @param meterRegistry The registry for the rejected lookup counters.
+     */
+    public KnownIdentifierStorageService(StorageService delegate,
+                                         KnownIdentifierFilter knownIdentifierFilter,
+                                         MeterRegistry meterRegistry) {
+        super(delegate);
+        this.knownIdentifierFilter = knownIdentifierFilter;
+        for (ResourceType resourceType : NOT_FOUND_ERRORS.keySet()) {
+            rejectedCounters.put(resourceType, Counter.builder("gateway.identifier.filter.rejected")
+                    .description("Number of lookups rejected because the identifier is unknown to the ledger")
+                    .tag("type", resourceType.getName())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected <T> T resolve(ResourceType resourceType, String id, Function<String, T> loader) {
+        if (isUnknown(resourceType, id)) {
+            throw new OpenDidException(NOT_FOUND_ERRORS.get(resourceType));
+        }
+        return loader.apply(id);
+    }
+
+    @Override
+    protected <T> List<BatchResult<T>> resolveAll(ResourceType resourceType, List<String> ids,
+                                                  Function<List<String>, List<BatchResult<T>>> loader) {
+        Map<String, BatchResult<T>> results = new HashMap<>();
+        List<String> candidates = new ArrayList<>();
+        for (String id : ids) {
+            if (isUnknown(resourceType, id)) {
+                results.put(id, BatchResult.failure(id, NOT_FOUND_ERRORS.get(resourceType)));
+            } else {
+                candidates.add(id);
+            }
+        }
+
+        if (candidates.size() == ids.size()) {
+            return loader.apply(ids);
+        }
+        if (!candidates.isEmpty()) {
+            loader.apply(candidates).forEach(result -> results.put(result.id(), result));
+        }
+        return ids.stream().map(results::get).toList();
+    }
+
+    @Override
+    public Object findCached(ResourceType resourceType, String id) {
+        if (isUnknown(resourceType, id)) {
+            throw new OpenDidException(NOT_FOUND_ERRORS.get(resourceType));
+        }
+        return delegate.findCached(resourceType, id);
+    }
+
+    private boolean isUnknown(ResourceType resourceType, String id) {
+        if (knownIdentifierFilter.mightExist(resourceType, id)) {
+            return false;
+        }
+        rejectedCounters.get(resourceType).increment();
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.omnione.did.apigateway.v1.service.BatchResult;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StorageServiceDecorator;
+import org.omnione.did.base.constants.ResourceType;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * StorageService decorator that records the latency and outcome of every backend lookup.
+ * It wraps the backend directly, so cache hits and coalesced lookups are not counted.
+ */
+public class MetricsStorageService extends StorageServiceDecorator {
+
+    private final ResolutionMetrics resolutionMetrics;
+
+    /**
+     * Constructs a metrics decorator around the given StorageService.
+     *
+     * @param delegate The backend StorageService.
+     * @param resolutionMetrics The meters to record lookups with.
+     */
+    public MetricsStorageService(StorageService delegate, ResolutionMetrics resolutionMetrics) {
+        super(delegate);
+        this.resolutionMetrics = resolutionMetrics;
+    }
+
+    @Override
+    protected <T> T resolve(ResourceType resourceType, String id, Function<String, T> loader) {
+        Timer.Sample sample = resolutionMetrics.start();
+        try {
+            T resolved = loader.apply(id);
+            resolutionMetrics.recordSuccess(sample, getBackendName(), resourceType);
+            return resolved;
+        } catch (RuntimeException e) {
+            resolutionMetrics.recordFailure(sample, getBackendName(), resourceType, e);
+            throw e;
+        }
+    }
+
+    @Override
+    protected <T> List<BatchResult<T>> resolveAll(ResourceType resourceType, List<String> ids,
+                                                  Function<List<String>, List<BatchResult<T>>> loader) {
+        Timer.Sample sample = resolutionMetrics.start();
+        try {
+            List<BatchResult<T>> results = loader.apply(ids);
+            for (BatchResult<T> result : results) {
+                if (!result.isSuccess()) {
+                    resolutionMetrics.recordBatchFailure(getBackendName(), resourceType, result.errorCode());
+                }
+            }
+            return results;
+        } finally {
+            resolutionMetrics.recordBatch(sample, getBackendName(), resourceType);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer meters for resource resolution.
+ * <ul>
+ *     <li>{@code gateway.resolution} - latency of a StorageService lookup, per backend, type and outcome.</li>
+ *     <li>{@code gateway.resolution.batch} - latency of a StorageService batch lookup, per backend and type.</li>
+ *     <li>{@code gateway.resolution.errors} - failed lookups, per backend, type and error code.</li>
+ *     <li>{@code gateway.resolution.phase} - time spent in the upstream call, in {@code toJson()} and in
+ *     creating the multibase payload within a lookup, per backend, type and phase. The base64 encoding
+ *     itself is streamed into the response and counts towards the HTTP request time.</li>
+ * </ul>
+ */
+@Component
+public class ResolutionMetrics {
+
+    private static final String PHASE_UPSTREAM = "upstream";
+    private static final String PHASE_TO_JSON = "to-json";
+    private static final String PHASE_ENCODE = "encode";
+
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> resolutionTimers;
+    private final Meter.MeterProvider<Timer> batchTimers;
+    private final Meter.MeterProvider<Timer> phaseTimers;
+    private final Meter.MeterProvider<Counter> errorCounters;
+
+    public ResolutionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.resolutionTimers = Timer.builder("gateway.resolution")
+                .description("Latency of resource lookups")
+                .withRegistry(meterRegistry);
+        this.batchTimers = Timer.builder("gateway.resolution.batch")
+                .description("Latency of batch resource lookups")
+                .withRegistry(meterRegistry);
+        this.phaseTimers = Timer.builder("gateway.resolution.phase")
+                .description("Time spent in each phase of a resource lookup")
+                .withRegistry(meterRegistry);
+        this.errorCounters = Counter.builder("gateway.resolution.errors")
+                .description("Number of failed resource lookups")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * A phase of a lookup that may throw a checked exception.
+     *
+     * @param <T> The result type of the phase.
+     * @param <E> The checked exception type of the phase.
+     */
+    @FunctionalInterface
+    public interface Phase<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * Times the upstream call of a lookup, such as a contract call or a Feign request.
+     *
+     * @param backend The name of the backend.
+     * @param resourceType The type of the resource.
+     * @param phase The upstream call.
+     * @return The result of the upstream call.
+     * @throws E if the upstream call fails.
+     * @param <T> The result type of the upstream call.
+     * @param <E> The checked exception type of the upstream call.
+     */
+    public <T, E extends Exception> T upstream(String backend, ResourceType resourceType, Phase<T, E> phase) throws E {
+        return time(backend, resourceType, PHASE_UPSTREAM, phase);
+    }
+
+    /**
+     * Times the JSON serialization of a resolved resource.
+     *
+     * @param backend The name of the backend.
+     * @param resourceType The type of the resource.
+     * @param phase The serialization.
+     * @return The JSON string.
+     * @throws E if the serialization fails.
+     * @param <E> The checked exception type of the serialization.
+     */
+    public <E extends Exception> String toJson(String backend, ResourceType resourceType,
+                                               Phase<String, E> phase) throws E {
+        return time(backend, resourceType, PHASE_TO_JSON, phase);
+    }
+
+    /**
+     * Times the creation of the multibase payload of a resolved resource.
+     *
+     * @param backend The name of the backend.
+     * @param resourceType The type of the resource.
+     * @param phase The payload creation.
+     * @return The payload.
+     * @throws E if the payload creation fails.
+     * @param <T> The payload type.
+     * @param <E> The checked exception type of the payload creation.
+     */
+    public <T, E extends Exception> T encode(String backend, ResourceType resourceType,
+                                             Phase<T, E> phase) throws E {
+        return time(backend, resourceType, PHASE_ENCODE, phase);
+    }
+
+    /**
+     * Starts timing a lookup.
+     *
+     * @return The started sample.
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Records a successful lookup.
+     *
+     * @param sample The sample started for the lookup.
+     * @param backend The name of the backend.
+     * @param resourceType The type of the resource.
+     */
+    public void recordSuccess(Timer.Sample sample, String backend, ResourceType resourceType) {
+        sample.stop(resolutionTimers.withTags("backend", backend, "type", resourceType.getName(),
+                "outcome", "success"));
+    }
+
+    /**
+     * Records a failed lookup and counts it under its error code.
+     * Exceptions other than OpenDidException are counted under their class name.
+     *
+     * @param sample The sample started for the lookup.
+     * @param backend The name of the backend.
+     * @param resourceType The type of the resource.
+     * @param exception The exception the lookup failed with.
+     */
+    public void recordFailure(Timer.Sample sample, String backend, ResourceType resourceType, Exception exception) {
+        sample.stop(resolutionTimers.withTags("backend", backend, "type", resourceType.getName(),
+                "outcome", "error"));
+        String code = exception instanceof OpenDidException openDidException && openDidException.getErrorCode() != null
+                ? openDidException.getErrorCode().getCode()
+                : exception.getClass().getSimpleName();
+        countError(backend, resourceType, code);
+    }
+
+    /**
+     * Records a batch lookup.
+     *
+     * @param sample The sample started for the batch lookup.
+     * @param backend The name of the backend.
+     * @param resourceType The type of the resources.
+     */
+    public void recordBatch(Timer.Sample sample, String backend, ResourceType resourceType) {
+        sample.stop(batchTimers.withTags("backend", backend, "type", resourceType.getName()));
+    }
+
+    /**
+     * Counts a failed lookup within a batch lookup.
+     *
+     * @param backend The name of the backend.
+     * @param resourceType The type of the resource.
+     * @param errorCode The error code of the failure.
+     */
+    public void recordBatchFailure(String backend, ResourceType resourceType, ErrorCode errorCode) {
+        countError(backend, resourceType, errorCode.getCode());
+    }
+
+    private void countError(String backend, ResourceType resourceType, String code) {
+        errorCounters.withTags("backend", backend, "type", resourceType.getName(), "code", code).increment();
+    }
+
+    private <T, E extends Exception> T time(String backend, ResourceType resourceType, String phaseName,
+                                            Phase<T, E> phase) throws E {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return phase.run();
+        } finally {
+            sample.stop(phaseTimers.withTags("backend", backend, "type", resourceType.getName(),
+                    "phase", phaseName));
+        }
+    }
+}
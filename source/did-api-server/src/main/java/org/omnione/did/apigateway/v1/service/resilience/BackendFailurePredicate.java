@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.resilience;
+
+import org.omnione.did.base.exception.OpenDidException;
+
+import java.util.function.Predicate;
+
+/**
+ * Decides which failed backend lookups count towards opening a circuit breaker.
+ * Lookups rejected as invalid, not found or not supported by the backend are answered by a healthy
+ * backend, so only other server errors and unexpected exceptions are recorded as failures.
+ */
+public class BackendFailurePredicate implements Predicate<Throwable> {
+
+    private static final int NOT_IMPLEMENTED = 501;
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (!(throwable instanceof OpenDidException e) || e.getErrorCode() == null) {
+            return true;
+        }
+        int httpStatus = e.getErrorCode().getHttpStatus();
+        return httpStatus >= 500 && httpStatus != NOT_IMPLEMENTED;
+    }
+}
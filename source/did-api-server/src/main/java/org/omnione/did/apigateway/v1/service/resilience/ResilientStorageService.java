@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.omnione.did.apigateway.v1.service.BatchResult;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StorageServiceDecorator;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * StorageService decorator that guards backend lookups with a bulkhead and a circuit breaker.
+ * Both are looked up by the backend name, so each backend is configured under
+ * resilience4j.bulkhead.instances.&lt;backend&gt; and resilience4j.circuitbreaker.instances.&lt;backend&gt;.
+ * Lookups beyond the concurrency limit fail with {@link ErrorCode#BACKEND_BUSY}, and lookups
+ * while the circuit is open fail with {@link ErrorCode#BACKEND_UNAVAILABLE}, without reaching the backend.
+ * A batch lookup takes one bulkhead permit and is recorded as one call by the circuit breaker, which
+ * counts it as failed if the share of its items that failed with a server error reaches the failure rate
+ * threshold of the circuit breaker, so that a single failing item does not fail a batch of healthy lookups.
+ */
+public class ResilientStorageService extends StorageServiceDecorator {
+
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Constructs a resilience decorator around the given StorageService.
+     *
+     * @param delegate The backend StorageService.
+     * @param bulkheadRegistry The registry to get the bulkhead of the backend from.
+     * @param circuitBreakerRegistry The registry to get the circuit breaker of the backend from.
+     */
+    public ResilientStorageService(StorageService delegate,
+                                   BulkheadRegistry bulkheadRegistry,
+                                   CircuitBreakerRegistry circuitBreakerRegistry) {
+        super(delegate);
+        this.bulkhead = bulkheadRegistry.bulkhead(delegate.getBackendName());
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(delegate.getBackendName());
+    }
+
+    @Override
+    protected <T> T resolve(ResourceType resourceType, String id, Function<String, T> loader) {
+        return call(() -> loader.apply(id));
+    }
+
+    @Override
+    protected <T> List<BatchResult<T>> resolveAll(ResourceType resourceType, List<String> ids,
+                                                  Function<List<String>, List<BatchResult<T>>> loader) {
+        try {
+            return call(() -> {
+                List<BatchResult<T>> results = loader.apply(ids);
+                List<ErrorCode> serverErrors = results.stream()
+                        .filter(result -> !result.isSuccess() && isServerError(result.errorCode()))
+                        .map(BatchResult::errorCode)
+                        .toList();
+                if (!serverErrors.isEmpty() && serverErrors.size() * 100f
+                        >= results.size() * circuitBreaker.getCircuitBreakerConfig().getFailureRateThreshold()) {
+                    throw new FailedBatchException(results, serverErrors.get(0));
+                }
+                return results;
+            });
+        } catch (FailedBatchException e) {
+            @SuppressWarnings("unchecked")
+            List<BatchResult<T>> results = (List<BatchResult<T>>) e.results;
+            return results;
+        } catch (OpenDidException e) {
+            return ids.stream().map(id -> BatchResult.<T>failure(id, e.getErrorCode())).toList();
+        }
+    }
+
+    private <T> T call(Supplier<T> lookup) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, lookup)).get();
+        } catch (BulkheadFullException e) {
+            throw new OpenDidException(ErrorCode.BACKEND_BUSY);
+        } catch (CallNotPermittedException e) {
+            throw new OpenDidException(ErrorCode.BACKEND_UNAVAILABLE);
+        }
+    }
+
+    private static boolean isServerError(ErrorCode errorCode) {
+        return errorCode == null || errorCode.getHttpStatus() >= 500;
+    }
+
+    /**
+     * Reports a batch lookup with too many failed items to the circuit breaker as a failed call, carrying
+     * the results of the batch past it.
+     */
+    private static final class FailedBatchException extends RuntimeException {
+
+        private final transient List<?> results;
+
+        private FailedBatchException(List<?> results, ErrorCode errorCode) {
+            super("Batch lookup failed: " + (errorCode == null ? "unknown error" : errorCode.getCode()), null,
+                    false, false);
+            this.results = results;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.snapshot;
+
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.apigateway.v1.dto.ResolvedResource;
+import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
+import org.omnione.did.base.constants.ResourceType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Resolved resources persisted from the resolution cache.
+ *
+ * @param createdAt The time the snapshot was taken.
+ * @param blockNumber The last contract event block processed when the snapshot was taken, or -1 if unknown.
+ *                    Every resource in the snapshot reflects the ledger state up to this block.
+ * @param entries The resolved resources.
+ */
+public record ResolutionSnapshot(Instant createdAt, long blockNumber, List<Entry> entries) {
+
+    /**
+     * Block number of a snapshot taken without contract event processing.
+     */
+    public static final long UNKNOWN_BLOCK = -1;
+
+    /**
+     * A resolved resource.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier the resource was resolved with.
+     * @param value The response DTO of the resource.
+     */
+    public record Entry(ResourceType resourceType, String id, Object value) {
+
+        /**
+         * Gets the payload of the response DTO.
+         *
+         * @return The payload.
+         */
+        public MultibasePayload payload() {
+            return ((ResolvedResource) value).payload();
+        }
+
+        /**
+         * Creates an entry from a persisted payload.
+         *
+         * @param resourceType The type of the resource.
+         * @param id The identifier the resource was resolved with.
+         * @param payload The payload of the resource.
+         * @return The entry holding the rebuilt response DTO.
+         */
+        public static Entry of(ResourceType resourceType, String id, MultibasePayload payload) {
+            Object value = switch (resourceType) {
+                case DID_DOC -> DidDocResDto.builder().didDoc(payload).build();
+                case VC_META -> VcMetaResDto.builder().vcId(id).vcMeta(payload).build();
+                case VC_SCHEMA -> VcSchemaResDto.builder().vcSchema(payload).build();
+                case ZKP_CRED_SCHEMA -> ZkpCredSchemaResDto.builder().credSchema(payload).build();
+                case ZKP_CRED_DEF -> ZkpCredDefResDto.builder().credDef(payload).build();
+            };
+            return new Entry(resourceType, id, value);
+        }
+    }
+}
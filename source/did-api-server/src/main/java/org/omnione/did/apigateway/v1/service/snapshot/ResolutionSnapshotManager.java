@@ -0,0 +1,208 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.cache.ResolutionCache;
+import org.omnione.did.apigateway.v1.service.event.ChainEventSubscriber;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.SnapshotProperty;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persists the resolution cache to disk and restores it on startup.
+ * The snapshot is restored before the web server starts, so the first requests after a restart
+ * are served from the cache. Restored resources are then revalidated in the background, and when
+ * contract events are followed, the events since the snapshot block are processed again.
+ * Snapshots are written periodically and once more on shutdown.
+ * VC metadata is never persisted: it carries the revocation status, which must not be served
+ * from a snapshot that may predate a revocation.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "snapshot", name = "enabled", havingValue = "true")
+public class ResolutionSnapshotManager implements SmartLifecycle {
+
+    private static final Set<ResourceType> EXCLUDED_TYPES = Set.of(ResourceType.VC_META);
+
+    private final ResolutionSnapshotStore snapshotStore;
+    private final ResolutionCache resolutionCache;
+    private final CacheProperty cacheProperty;
+    private final SnapshotProperty snapshotProperty;
+    private final ObjectProvider<StorageService> storageService;
+    private final ObjectProvider<ChainEventSubscriber> chainEventSubscriber;
+
+    private ScheduledExecutorService executor;
+
+    public ResolutionSnapshotManager(ResolutionCache resolutionCache,
+                                     CacheProperty cacheProperty,
+                                     SnapshotProperty snapshotProperty,
+                                     ObjectProvider<StorageService> storageService,
+                                     ObjectProvider<ChainEventSubscriber> chainEventSubscriber) {
+        this.snapshotStore = new ResolutionSnapshotStore(Path.of(snapshotProperty.getFile()));
+        this.resolutionCache = resolutionCache;
+        this.cacheProperty = cacheProperty;
+        this.snapshotProperty = snapshotProperty;
+        this.storageService = storageService;
+        this.chainEventSubscriber = chainEventSubscriber;
+    }
+
+    @Override
+    public void start() {
+        if (!cacheProperty.isEnabled()) {
+            log.warn("Resolution snapshot is enabled but the resolution cache is disabled; ignoring it");
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resolution-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotStore.load().ifPresent(this::restore);
+
+        long interval = snapshotProperty.getInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::save, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+        save();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * Starts before the web server and stops after it, so the cache is restored before the first
+     * request and the final snapshot is taken after the last one.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * Writes a snapshot of the current resolution cache.
+     */
+    void save() {
+        long blockNumber = chainEventSubscriber.stream()
+                .map(subscriber -> subscriber.getProcessedBlock().orElse(ResolutionSnapshot.UNKNOWN_BLOCK))
+                .findFirst()
+                .orElse(ResolutionSnapshot.UNKNOWN_BLOCK);
+        List<ResolutionSnapshot.Entry> entries = resolutionCache.entries().entrySet().stream()
+                .filter(entry -> !EXCLUDED_TYPES.contains(entry.getKey().resourceType()))
+                .map(entry -> new ResolutionSnapshot.Entry(entry.getKey().resourceType(), entry.getKey().id(),
+                        entry.getValue()))
+                .toList();
+        try {
+            snapshotStore.save(new ResolutionSnapshot(Instant.now(), blockNumber, entries));
+            log.debug("Saved {} resolved resources to the resolution snapshot", entries.size());
+        } catch (IOException e) {
+            log.error("Failed to save the resolution snapshot: {}", e.getMessage());
+        }
+    }
+
+    private void restore(ResolutionSnapshot snapshot) {
+        Duration age = Duration.between(snapshot.createdAt(), Instant.now());
+        if (age.compareTo(snapshotProperty.getMaxAge()) > 0) {
+            log.info("Ignoring resolution snapshot taken {} ago", age);
+            return;
+        }
+
+        List<ResolutionSnapshot.Entry> entries = snapshot.entries().stream()
+                .filter(entry -> !EXCLUDED_TYPES.contains(entry.resourceType()))
+                .toList();
+        for (ResolutionSnapshot.Entry entry : entries) {
+            resolutionCache.put(entry.resourceType(), entry.id(), entry.value());
+        }
+        log.info("Restored {} resolved resources from the resolution snapshot taken {} ago at block {}",
+                entries.size(), age, snapshot.blockNumber());
+
+        if (snapshot.blockNumber() != ResolutionSnapshot.UNKNOWN_BLOCK) {
+            chainEventSubscriber.ifAvailable(subscriber -> subscriber.replayAfter(snapshot.blockNumber()));
+        }
+        if (snapshotProperty.isRevalidate() && !entries.isEmpty()) {
+            executor.execute(() -> revalidate(entries));
+        }
+    }
+
+    /**
+     * Resolves the restored resources again, replacing them in the cache.
+     * Resources that no longer resolve due to a client error are evicted; on any other failure the
+     * restored resource is kept until it expires.
+     */
+    private void revalidate(List<ResolutionSnapshot.Entry> entries) {
+        AtomicInteger evicted = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService lookups = Executors.newFixedThreadPool(snapshotProperty.getRevalidateParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "resolution-snapshot-revalidate");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (ResolutionSnapshot.Entry entry : entries) {
+                lookups.execute(() -> {
+                    try {
+                        storageService.getObject().refresh(entry.resourceType(), entry.id());
+                    } catch (OpenDidException e) {
+                        if (e.getErrorCode() != null && e.getErrorCode().getHttpStatus() < 500) {
+                            resolutionCache.invalidate(entry.resourceType(), entry.id());
+                            evicted.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    }
+                });
+            }
+            lookups.shutdown();
+            lookups.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            log.info("Revalidated {} restored resources: {} evicted, {} failed and kept",
+                    entries.size(), evicted.get(), failed.get());
+        } catch (InterruptedException e) {
+            lookups.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.base.constants.ResourceType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * File-based store of the resolution snapshot.
+ * The file holds a header with the creation time and block number, one record per resource
+ * with its type, identifier and raw payload bytes, and a trailing CRC32 of everything before it.
+ */
+@Slf4j
+public class ResolutionSnapshotStore {
+
+    private static final int MAGIC = 0x4f444753;
+    private static final int VERSION = 1;
+
+    private final Path file;
+
+    /**
+     * Constructs a snapshot store backed by the given file.
+     *
+     * @param file The snapshot file.
+     */
+    public ResolutionSnapshotStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the snapshot.
+     *
+     * @return The snapshot, or empty if no valid snapshot exists.
+     */
+    public Optional<ResolutionSnapshot> load() {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file)), new CRC32());
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("unsupported format");
+            }
+            Instant createdAt = Instant.ofEpochMilli(in.readLong());
+            long blockNumber = in.readLong();
+
+            List<ResolutionSnapshot.Entry> entries = new ArrayList<>();
+            while (in.readBoolean()) {
+                ResourceType resourceType = ResourceType.valueOf(in.readUTF());
+                String id = in.readUTF();
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                entries.add(ResolutionSnapshot.Entry.of(resourceType, id, MultibasePayload.of(data)));
+            }
+
+            long checksum = checked.getChecksum().getValue();
+            if (in.readLong() != checksum) {
+                throw new IOException("checksum mismatch");
+            }
+            return Optional.of(new ResolutionSnapshot(createdAt, blockNumber, entries));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable resolution snapshot {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Saves the snapshot.
+     * The file is replaced atomically, so a crash never leaves a partial snapshot behind.
+     *
+     * @param snapshot The snapshot to save.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public void save(ResolutionSnapshot snapshot) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)), new CRC32());
+            try (DataOutputStream out = new DataOutputStream(checked)) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(snapshot.createdAt().toEpochMilli());
+                out.writeLong(snapshot.blockNumber());
+                for (ResolutionSnapshot.Entry entry : snapshot.entries()) {
+                    byte[] data = entry.payload().toByteArray();
+                    out.writeBoolean(true);
+                    out.writeUTF(entry.resourceType().name());
+                    out.writeUTF(entry.id());
+                    out.writeInt(data.length);
+                    out.write(data);
+                }
+                out.writeBoolean(false);
+                out.writeLong(checked.getChecksum().getValue());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.warmup;
+
+import org.omnione.did.apigateway.v1.service.cache.ResolutionKey;
+import org.omnione.did.base.constants.ResourceType;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Thread-safe estimate of how often resources are accessed, tracking the most frequently accessed ones.
+ * Frequencies are counted in a count-min sketch, which may overestimate but never underestimates a
+ * frequency. Resources whose estimate reaches that of the tracked ones become candidates; once there are
+ * twice as many candidates as the capacity, the least frequent are dropped. All counts are halved after
+ * a sample of ten accesses per counter, so the history follows changes in popularity.
+ */
+public class AccessFrequencySketch {
+
+    private static final int DEPTH = 4;
+
+    private final int capacity;
+    private final int width;
+    private final AtomicIntegerArray counters;
+    private final Set<ResolutionKey> candidates = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger additions = new AtomicInteger();
+    private final int sampleSize;
+    private volatile int admissionThreshold;
+
+    /**
+     * Constructs an empty sketch.
+     *
+     * @param capacity The number of most frequently accessed resources to track.
+     */
+    public AccessFrequencySketch(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.width = Integer.highestOneBit(Math.max(64, this.capacity * 2 - 1)) << 1;
+        this.counters = new AtomicIntegerArray(DEPTH * width);
+        this.sampleSize = width * 10;
+    }
+
+    /**
+     * Records an access to a resource.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     */
+    public void record(ResourceType resourceType, String id) {
+        add(resourceType, id, 1);
+        if (additions.incrementAndGet() >= sampleSize) {
+            age();
+        }
+    }
+
+    /**
+     * Estimates how often a resource was accessed.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @return The estimated number of accesses, after aging.
+     */
+    public int estimate(ResourceType resourceType, String id) {
+        long hash = hash(resourceType, id);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Gets the most frequently accessed resources.
+     *
+     * @param n The maximum number of resources.
+     * @return The resources with their estimated frequency, most frequent first.
+     */
+    public List<Frequency> top(int n) {
+        return candidates.stream()
+                .map(key -> new Frequency(key.resourceType(), key.id(), estimate(key.resourceType(), key.id())))
+                .filter(frequency -> frequency.count() > 0)
+                .sorted(Comparator.comparingInt(Frequency::count).reversed())
+                .limit(n)
+                .toList();
+    }
+
+    /**
+     * Adds previously saved frequencies, as returned by {@link #top(int)}, to the sketch.
+     *
+     * @param frequencies The frequencies to add.
+     */
+    public void restore(List<Frequency> frequencies) {
+        for (Frequency frequency : frequencies) {
+            add(frequency.resourceType(), frequency.id(), frequency.count());
+        }
+    }
+
+    private void add(ResourceType resourceType, String id, int count) {
+        long hash = hash(resourceType, id);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.addAndGet(index(hash, row), count));
+        }
+        if (estimate >= admissionThreshold && candidates.add(new ResolutionKey(resourceType, id))
+                && candidates.size() > capacity * 2) {
+            prune();
+        }
+    }
+
+    /**
+     * Drops the least frequent candidates down to the capacity, and raises the admission threshold to
+     * the lowest frequency kept.
+     */
+    private synchronized void prune() {
+        if (candidates.size() <= capacity) {
+            return;
+        }
+        List<Frequency> ranked = top(Integer.MAX_VALUE);
+        if (ranked.size() > capacity) {
+            admissionThreshold = ranked.get(capacity - 1).count();
+        }
+        candidates.clear();
+        ranked.stream()
+                .limit(capacity)
+                .forEach(frequency -> candidates.add(new ResolutionKey(frequency.resourceType(), frequency.id())));
+    }
+
+    /**
+     * Halves all counts. Accesses recorded concurrently may be lost, which the estimate tolerates.
+     */
+    private synchronized void age() {
+        if (additions.get() < sampleSize) {
+            return;
+        }
+        additions.set(0);
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, counters.get(i) >>> 1);
+        }
+        admissionThreshold >>>= 1;
+        candidates.removeIf(key -> estimate(key.resourceType(), key.id()) == 0);
+    }
+
+    private int index(long hash, int row) {
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        return row * width + ((hash1 + row * hash2) & (width - 1));
+    }
+
+    /**
+     * Hashes a resource from the hash codes of its type name and identifier, which unlike the hash code of
+     * the type itself are the same in every run.
+     */
+    private static long hash(ResourceType resourceType, String id) {
+        long hash = id.hashCode() * 0x9e3779b97f4a7c15L + resourceType.name().hashCode();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Estimated access frequency of a resource.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @param count The estimated number of accesses.
+     */
+    public record Frequency(ResourceType resourceType, String id, int count) {
+    }
+}
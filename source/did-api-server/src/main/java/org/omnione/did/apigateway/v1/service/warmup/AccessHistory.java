@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.service.warmup.AccessFrequencySketch.Frequency;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.property.WarmupProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * History of the resources requested from the gateway, from which the cache warm-up takes the
+ * most frequently accessed ones. Only client requests are recorded, not the lookups of the warm-up
+ * itself. The history is kept when the warm-up is enabled and loads a top-N of it.
+ */
+@Slf4j
+@Component
+public class AccessHistory {
+
+    private final AccessFrequencySketch sketch;
+    private final AccessHistoryStore store;
+
+    public AccessHistory(WarmupProperty warmupProperty) {
+        boolean enabled = warmupProperty.isEnabled() && warmupProperty.getTopN() > 0;
+        this.sketch = enabled ? new AccessFrequencySketch(warmupProperty.getHistoryCapacity()) : null;
+        this.store = new AccessHistoryStore(Path.of(warmupProperty.getHistoryFile()));
+    }
+
+    /**
+     * Checks whether accesses are recorded.
+     *
+     * @return true if the history is kept.
+     */
+    public boolean isEnabled() {
+        return sketch != null;
+    }
+
+    /**
+     * Records a request for a resource.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     */
+    public void record(ResourceType resourceType, String id) {
+        if (sketch != null) {
+            sketch.record(resourceType, id);
+        }
+    }
+
+    /**
+     * Records a batch request for resources.
+     *
+     * @param resourceType The type of the resources.
+     * @param ids The identifiers of the resources.
+     */
+    public void record(ResourceType resourceType, List<String> ids) {
+        if (sketch != null) {
+            ids.forEach(id -> sketch.record(resourceType, id));
+        }
+    }
+
+    /**
+     * Gets the most frequently requested resources.
+     *
+     * @param n The maximum number of resources.
+     * @return The resources with their estimated frequency, most frequent first.
+     */
+    public List<Frequency> top(int n) {
+        return sketch == null ? List.of() : sketch.top(n);
+    }
+
+    /**
+     * Adds the saved access history to the recorded accesses.
+     */
+    void load() {
+        if (sketch != null) {
+            store.load().ifPresent(frequencies -> {
+                sketch.restore(frequencies);
+                log.info("Loaded the access history of {} resources", frequencies.size());
+            });
+        }
+    }
+
+    /**
+     * Saves the tracked resources with their frequencies.
+     */
+    void save() {
+        if (sketch == null) {
+            return;
+        }
+        List<Frequency> frequencies = sketch.top(Integer.MAX_VALUE);
+        try {
+            store.save(frequencies);
+            log.debug("Saved the access history of {} resources", frequencies.size());
+        } catch (IOException e) {
+            log.error("Failed to save the access history: {}", e.getMessage());
+        }
+    }
+}
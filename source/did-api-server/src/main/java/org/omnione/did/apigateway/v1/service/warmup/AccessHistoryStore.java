@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.service.warmup.AccessFrequencySketch.Frequency;
+import org.omnione.did.base.constants.ResourceType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * File-based store of the access history.
+ * The file holds one record per tracked resource with its type, identifier and estimated access
+ * frequency, most frequent first, and a trailing CRC32 of everything before it.
+ */
+@Slf4j
+public class AccessHistoryStore {
+
+    private static final int MAGIC = 0x4f444741;
+    private static final int VERSION = 1;
+
+    private final Path file;
+
+    /**
+     * Constructs an access history store backed by the given file.
+     *
+     * @param file The access history file.
+     */
+    public AccessHistoryStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the access history.
+     *
+     * @return The access frequencies, or empty if no valid history exists.
+     */
+    public Optional<List<Frequency>> load() {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file)), new CRC32());
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("unsupported format");
+            }
+
+            List<Frequency> frequencies = new ArrayList<>();
+            while (in.readBoolean()) {
+                ResourceType resourceType = ResourceType.valueOf(in.readUTF());
+                String id = in.readUTF();
+                frequencies.add(new Frequency(resourceType, id, in.readInt()));
+            }
+
+            long checksum = checked.getChecksum().getValue();
+            if (in.readLong() != checksum) {
+                throw new IOException("checksum mismatch");
+            }
+            return Optional.of(frequencies);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable access history {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Saves the access history.
+     * The file is replaced atomically, so a crash never leaves a partial history behind.
+     *
+     * @param frequencies The access frequencies to save.
+     * @throws IOException if the history cannot be written.
+     */
+    public void save(List<Frequency> frequencies) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)), new CRC32());
+            try (DataOutputStream out = new DataOutputStream(checked)) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                for (Frequency frequency : frequencies) {
+                    out.writeBoolean(true);
+                    out.writeUTF(frequency.resourceType().name());
+                    out.writeUTF(frequency.id());
+                    out.writeInt(frequency.count());
+                }
+                out.writeBoolean(false);
+                out.writeLong(checked.getChecksum().getValue());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
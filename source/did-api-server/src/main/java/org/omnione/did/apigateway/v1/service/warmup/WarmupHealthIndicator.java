@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator of the cache warm-up, reported as "warmup".
+ * It is out of service while the warm-up holds back readiness, and is part of the readiness health
+ * group, so load balancers only send traffic once the hot set is resident.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupManager warmupManager;
+
+    @Override
+    public Health health() {
+        WarmupManager.Progress progress = warmupManager.getProgress();
+        Health.Builder builder = warmupManager.isReady() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("total", progress.total())
+                .withDetail("loaded", progress.loaded())
+                .withDetail("failed", progress.failed())
+                .build();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.apigateway.v1.dto.ResolvedResource;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.cache.ResolutionKey;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.WarmupProperty;
+import org.omnione.did.base.response.CacheableResponseFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the hot set of resources into the caches on startup: the configured identifiers, followed by the
+ * most frequently requested resources in the {@link AccessHistory}. The hot set is resolved in the
+ * background with bounded parallelism, and {@link WarmupHealthIndicator} holds back readiness until
+ * enough of it is resident. The access history is saved periodically and once more on shutdown.
+ */
+@Slf4j
+@Component
+public class WarmupManager implements SmartLifecycle {
+
+    private final WarmupProperty warmupProperty;
+    private final CacheProperty cacheProperty;
+    private final AccessHistory accessHistory;
+    private final CacheableResponseFactory cacheableResponseFactory;
+    private final ObjectProvider<StorageService> storageService;
+
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile int total;
+    private volatile long startedAt;
+    private volatile boolean warmingUp;
+
+    private ScheduledExecutorService executor;
+
+    public WarmupManager(WarmupProperty warmupProperty,
+                         CacheProperty cacheProperty,
+                         AccessHistory accessHistory,
+                         CacheableResponseFactory cacheableResponseFactory,
+                         ObjectProvider<StorageService> storageService) {
+        this.warmupProperty = warmupProperty;
+        this.cacheProperty = cacheProperty;
+        this.accessHistory = accessHistory;
+        this.cacheableResponseFactory = cacheableResponseFactory;
+        this.storageService = storageService;
+    }
+
+    @Override
+    public void start() {
+        if (!warmupProperty.isEnabled()) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (accessHistory.isEnabled()) {
+            accessHistory.load();
+            long interval = warmupProperty.getHistoryInterval().toMillis();
+            executor.scheduleWithFixedDelay(accessHistory::save, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        if (!cacheProperty.isEnabled()) {
+            log.warn("Cache warm-up is enabled but the resolution cache is disabled; ignoring it");
+            return;
+        }
+        List<ResolutionKey> hotSet = hotSet();
+        if (!hotSet.isEmpty()) {
+            total = hotSet.size();
+            startedAt = System.nanoTime();
+            warmingUp = true;
+            executor.execute(() -> warmUp(hotSet));
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+        warmingUp = false;
+        accessHistory.save();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * Starts after the resolution snapshot is restored, so restored resources are not looked up again,
+     * and before the web server, so the access history is loaded before the first request.
+     */
+    @Override
+    public int getPhase() {
+        return 1;
+    }
+
+    /**
+     * Checks whether the instance is ready to receive traffic as far as the warm-up is concerned: the
+     * warm-up is disabled or done, the readiness threshold of the hot set is loaded, or the readiness
+     * timeout has passed. Failed lookups do not count towards the threshold, so a failing backend holds
+     * back readiness until the warm-up is done or times out rather than reporting a cold cache ready.
+     *
+     * @return true if the warm-up no longer holds back readiness.
+     */
+    public boolean isReady() {
+        if (!warmingUp) {
+            return true;
+        }
+        return loaded.get() >= total * warmupProperty.getReadinessThreshold()
+                || System.nanoTime() - startedAt >= warmupProperty.getReadinessTimeout().toNanos();
+    }
+
+    /**
+     * Gets the progress of the warm-up.
+     *
+     * @return The number of resources in the hot set, loaded and failed to load.
+     */
+    public Progress getProgress() {
+        return new Progress(total, loaded.get(), failed.get());
+    }
+
+    /**
+     * Collects the configured identifiers followed by the top of the access history, without duplicates.
+     */
+    private List<ResolutionKey> hotSet() {
+        Set<ResolutionKey> hotSet = new LinkedHashSet<>();
+        warmupProperty.getIds().forEach((resourceType, ids) ->
+                ids.forEach(id -> hotSet.add(new ResolutionKey(resourceType, id))));
+        accessHistory.top(warmupProperty.getTopN()).forEach(frequency ->
+                hotSet.add(new ResolutionKey(frequency.resourceType(), frequency.id())));
+        return List.copyOf(hotSet);
+    }
+
+    /**
+     * Resolves the hot set through the storage service, so the resources land in the resolution cache,
+     * or in the off-heap response cache for the resource types it holds. Resources already restored from
+     * the resolution snapshot are served from the cache without a backend lookup.
+     */
+    private void warmUp(List<ResolutionKey> hotSet) {
+        ExecutorService lookups = Executors.newFixedThreadPool(warmupProperty.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "warmup-lookup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (ResolutionKey key : hotSet) {
+                lookups.execute(() -> {
+                    try {
+                        Object value = storageService.getObject().find(key.resourceType(), key.id());
+                        cacheableResponseFactory.preload(key.resourceType(), key.id(), value,
+                                ((ResolvedResource) value).payload());
+                        loaded.incrementAndGet();
+                    } catch (Exception e) {
+                        log.debug("Failed to warm up {} {}", key.resourceType().getName(), key.id(), e);
+                        failed.incrementAndGet();
+                    }
+                });
+            }
+            lookups.shutdown();
+            lookups.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            log.info("Warmed up {} of {} resources in {}, {} failed", loaded.get(), hotSet.size(),
+                    Duration.ofNanos(System.nanoTime() - startedAt), failed.get());
+        } catch (InterruptedException e) {
+            lookups.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            warmingUp = false;
+        }
+    }
+
+    /**
+     * Progress of the warm-up.
+     *
+     * @param total The number of resources in the hot set.
+     * @param loaded The number of resources loaded.
+     * @param failed The number of resources that failed to load.
+     */
+    public record Progress(int total, int loaded, int failed) {
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.aop;
+
+/**
+ * Access log entry of a single controller call.
+ *
+ * @param handler The controller method, as {@code Class.method}.
+ * @param durationNanos The time the call took, until its response was complete.
+ * @param status The HTTP status of the response, or 0 if unknown.
+ * @param error The simple name of the exception the call failed with, or null.
+ * @param request The controller arguments, if the payloads of the call are logged.
+ * @param response The response body, if the payloads of the call are logged.
+ */
+record AccessLogEntry(String handler, long durationNanos, int status, String error, Object[] request, Object response) {
+
+    /**
+     * Checks whether the payloads of the call are logged.
+     *
+     * @return true if the entry carries the request and response payloads.
+     */
+    boolean hasPayloads() {
+        return request != null;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.aop;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.base.property.AccessLogProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes controller access log entries on a background thread.
+ * Entries are handed over through a bounded queue, so request threads never wait for the log;
+ * when the queue is full, entries are dropped and counted. Payloads are serialized to JSON on the
+ * background thread and truncated to the configured length.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .build()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+            .registerModule(new JavaTimeModule())
+            .setDateFormat(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'"))
+            .setTimeZone(TimeZone.getTimeZone(ZoneId.of("UTC")));
+
+    private final AccessLogProperty accessLogProperty;
+    private final BlockingQueue<AccessLogEntry> queue;
+    private final Counter droppedCounter;
+    private final Thread thread;
+
+    public AccessLogWriter(AccessLogProperty accessLogProperty, MeterRegistry meterRegistry) {
+        this.accessLogProperty = accessLogProperty;
+        this.queue = new ArrayBlockingQueue<>(accessLogProperty.getQueueCapacity());
+        this.droppedCounter = Counter.builder("gateway.access.log.dropped")
+                .description("Number of access log entries dropped because the log queue was full")
+                .register(meterRegistry);
+        this.thread = new Thread(this::run, "access-log");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues an entry to be written, or drops it if the queue is full.
+     *
+     * @param entry The entry to write.
+     */
+    public void write(AccessLogEntry entry) {
+        if (!queue.offer(entry)) {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * Stops the background thread after writing the queued entries.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        List<AccessLogEntry> entries = new ArrayList<>();
+        try {
+            while (true) {
+                entries.add(queue.take());
+                queue.drainTo(entries);
+                entries.forEach(this::log);
+                entries.clear();
+            }
+        } catch (InterruptedException e) {
+            queue.drainTo(entries);
+            entries.forEach(this::log);
+        }
+    }
+
+    private void log(AccessLogEntry entry) {
+        try {
+            String summary = String.format("handler=%s status=%d durationMs=%.3f%s", entry.handler(), entry.status(),
+                    entry.durationNanos() / 1_000_000.0, entry.error() == null ? "" : " error=" + entry.error());
+            if (entry.hasPayloads()) {
+                log.debug("{} request={} response={}", summary, toJson(entry.request()), toJson(entry.response()));
+            } else {
+                log.debug(summary);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to write access log of {}: {}", entry.handler(), e.getMessage());
+        }
+    }
+
+    private String toJson(Object payload) {
+        TruncatingWriter writer = new TruncatingWriter(accessLogProperty.getMaxPayloadLength());
+        try {
+            OBJECT_MAPPER.writeValue(writer, payload);
+        } catch (IOException e) {
+            return "<" + e.getClass().getSimpleName() + ">";
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writer keeping only the first characters written to it.
+     */
+    private static class TruncatingWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private final int maxLength;
+        private long length;
+
+        TruncatingWriter(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int count) {
+            int kept = (int) Math.max(0, Math.min(count, maxLength - length));
+            buffer.append(chars, offset, kept);
+            length += count;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return length > maxLength ? buffer + "...(" + length + " chars)" : buffer.toString();
+        }
+    }
+}
@@ -16,63 +16,111 @@
 
 package org.omnione.did.base.aop;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.util.RawValue;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.AccessLogProperty;
+import org.omnione.did.base.response.OffHeapBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
-import java.text.MessageFormat;
-import java.text.SimpleDateFormat;
-import java.time.ZoneId;
-import java.util.TimeZone;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Access log of the controller calls.
+ * Every call is logged with its handler, status and duration when the debug level is enabled for
+ * this package; the request and response payloads are added for a sample of the calls.
+ * The level is checked before anything else, and entries are serialized and written by the
+ * {@link AccessLogWriter}, off the request thread.
+ */
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class ControllerLogAspects {
 
+    private final AccessLogWriter accessLogWriter;
+    private final AccessLogProperty accessLogProperty;
+
     @Around(value = "execution(* org.omnione.did..*Controller.*(..)))")
     public Object requestChecker(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
+        if (!log.isDebugEnabled()) {
+            return joinPoint.proceed();
+        }
 
-        debugControllerLog("{0}.{1} - Start", new Object[]{className, methodName});
-        debugControllerLog("{0}.{1} - requestData : {2}", new Object[]{className, methodName, convertToJsonString(joinPoint.getArgs())});
-        Object result = joinPoint.proceed();
-        debugControllerLog("{0}.{1} - responseData: {2}", new Object[]{className, methodName, convertToJsonString(result)});
-        debugControllerLog("{0}.{1} - finish", new Object[]{className, methodName});
+        String handler = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        Object[] request = isSampled() ? joinPoint.getArgs() : null;
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            logResponse(handler, start, request, null, e);
+            throw e;
+        }
 
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((response, e) -> logResponse(handler, start, request, response, e));
+        } else {
+            logResponse(handler, start, request, result, null);
+        }
         return result;
     }
 
-    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
-            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
-            .build()
-            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
-            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
-            .registerModule(new JavaTimeModule())
-            .setDateFormat(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'"))
-            .setTimeZone(TimeZone.getTimeZone(ZoneId.of("UTC")));
+    private void logResponse(String handler, long start, Object[] request, Object response, Throwable error) {
+        long durationNanos = System.nanoTime() - start;
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        accessLogWriter.write(new AccessLogEntry(handler, durationNanos, status(response, cause),
+                cause == null ? null : cause.getClass().getSimpleName(),
+                request, request == null ? null : body(response)));
+    }
 
-    public String convertToJsonString(final Object msg) throws JsonProcessingException {
-        return OBJECT_MAPPER.writeValueAsString(msg).trim();
+    private boolean isSampled() {
+        double sampleRate = accessLogProperty.getPayloadSampleRate();
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
     }
 
-    public static void debugControllerLog(String pattern, Object[] args) {
-        try {
-            String formattedMessage = MessageFormat.format(pattern, args);
-            log.debug(formattedMessage);
-        } catch (IllegalArgumentException | NullPointerException e) {
-            log.error("IllegalArgumentException | NullPointerException : " + e.getMessage());
+    /**
+     * Gets the response payload to log. Serialized JSON bodies are logged as they are, and compressed,
+     * binary and off-heap bodies by their size only.
+     */
+    private static Object body(Object response) {
+        if (!(response instanceof ResponseEntity<?> entity)) {
+            return response;
+        }
+        if (entity.getBody() instanceof byte[] bytes) {
+            String coding = entity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+            MediaType contentType = entity.getHeaders().getContentType();
+            if (coding != null) {
+                return coding + " body (" + bytes.length + " bytes)";
+            }
+            return contentType == null || contentType.isCompatibleWith(MediaType.APPLICATION_JSON)
+                    || "json".equals(contentType.getSubtypeSuffix())
+                    ? new RawValue(new String(bytes, StandardCharsets.UTF_8))
+                    : contentType + " body (" + bytes.length + " bytes)";
+        }
+        if (entity.getBody() instanceof OffHeapBody offHeapBody) {
+            return "off-heap body (" + offHeapBody.length() + " bytes)";
         }
+        return entity.getBody();
     }
 
+    private static int status(Object response, Throwable error) {
+        if (response instanceof ResponseEntity<?> entity) {
+            return entity.getStatusCode().value();
+        }
+        if (error instanceof OpenDidException e && e.getErrorCode() != null) {
+            return e.getErrorCode().getHttpStatus();
+        }
+        return 0;
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.OkHttpClient;
+import org.omnione.did.apigateway.v1.service.event.BlockCheckpointStore;
+import org.omnione.did.apigateway.v1.service.event.ChainEventSubscriber;
+import org.omnione.did.apigateway.v1.service.event.ChainLogSource;
+import org.omnione.did.apigateway.v1.service.event.RecordedChainLogSource;
+import org.omnione.did.apigateway.v1.service.event.Web3jChainLogSource;
+import org.omnione.did.apigateway.v1.service.filter.KnownIdentifierFilter;
+import org.omnione.did.base.property.BlockchainProperty;
+import org.omnione.did.base.property.ChainEventProperty;
+import org.omnione.did.base.property.IdentifierFilterProperty;
+import org.omnione.did.base.util.BlockchainPropertiesLoader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the OpenDID contract event subscriber, and of the known identifier filter built
+ * from the same event logs. The log source is shared; the subscriber and the filter are enabled
+ * independently of each other.
+ */
+@Configuration
+@Profile("!sample & (!lss | federation)")
+@ConditionalOnExpression("${blockchain.event.enabled:false} or ${blockchain.identifier-filter.enabled:false}")
+public class ChainEventConfig {
+
+    @Bean
+    public ChainLogSource chainLogSource(BlockchainProperty blockchainProperty,
+                                         ChainEventProperty chainEventProperty) throws IOException {
+        if ("recorded".equals(chainEventProperty.getSource())) {
+            return RecordedChainLogSource.fromFile(Path.of(chainEventProperty.getRecordedFile()));
+        }
+        if (blockchainProperty.isFabric()) {
+            throw new IllegalStateException("Contract event logs can only be followed on the evm platform");
+        }
+
+        Properties properties = BlockchainPropertiesLoader.load(blockchainProperty.getFilePath());
+        long timeout = Long.parseLong(properties.getProperty(BlockchainPropertiesLoader.EVM_CONNECTION_TIMEOUT, "10000"));
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .connectTimeout(timeout, TimeUnit.MILLISECONDS)
+                .readTimeout(timeout, TimeUnit.MILLISECONDS)
+                .build();
+        Web3j web3j = Web3j.build(new HttpService(properties.getProperty(BlockchainPropertiesLoader.EVM_NETWORK_URL), httpClient));
+
+        return new Web3jChainLogSource(web3j, properties.getProperty(BlockchainPropertiesLoader.EVM_CONTRACT_ADDRESS));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "blockchain.event", name = "enabled", havingValue = "true")
+    public ChainEventSubscriber chainEventSubscriber(ChainLogSource chainLogSource,
+                                                     ChainEventProperty chainEventProperty,
+                                                     ApplicationEventPublisher eventPublisher,
+                                                     MeterRegistry meterRegistry) {
+        return new ChainEventSubscriber(chainLogSource,
+                new BlockCheckpointStore(Path.of(chainEventProperty.getCheckpointFile())),
+                chainEventProperty, eventPublisher, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "blockchain.identifier-filter", name = "enabled", havingValue = "true")
+    public KnownIdentifierFilter knownIdentifierFilter(ChainLogSource chainLogSource,
+                                                       IdentifierFilterProperty identifierFilterProperty,
+                                                       ChainEventProperty chainEventProperty,
+                                                       MeterRegistry meterRegistry) {
+        return new KnownIdentifierFilter(chainLogSource, identifierFilterProperty, chainEventProperty, meterRegistry);
+    }
+}
@@ -15,20 +15,120 @@
  */
 package org.omnione.did.base.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.omnione.did.ContractApi;
 import org.omnione.did.ContractFactory;
+import org.omnione.did.apigateway.v1.service.endpoint.MultiEndpointContractApi;
+import org.omnione.did.apigateway.v1.service.endpoint.PooledContractApi;
+import org.omnione.did.apigateway.v1.service.endpoint.RpcEndpoint;
+import org.omnione.did.base.property.BackendExecutorProperty;
 import org.omnione.did.base.property.BlockchainProperty;
+import org.omnione.did.base.property.FabricPoolProperty;
+import org.omnione.did.base.property.RpcEndpointProperty;
+import org.omnione.did.base.util.BlockchainPropertiesLoader;
+import org.omnione.exception.BlockChainException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
-@Profile("!sample & !lss")
+@Profile("!sample & (!lss | federation)")
 public class ContractApiConfig {
     @Bean
-    public ContractApi contractApi(BlockchainProperty blockchainProperty) {
+    public ContractApi contractApi(BlockchainProperty blockchainProperty,
+                                   RpcEndpointProperty rpcEndpointProperty,
+                                   FabricPoolProperty fabricPoolProperty,
+                                   BackendExecutorProperty backendExecutorProperty,
+                                   @Qualifier("rpcEndpointExecutor") ExecutorService rpcEndpointExecutor,
+                                   MeterRegistry meterRegistry) throws IOException, BlockChainException {
         System.out.println(blockchainProperty.getFilePath());
 
-        return ContractFactory.EVM.create(blockchainProperty.getFilePath());
+        if (blockchainProperty.isFabric()) {
+            if (!rpcEndpointProperty.getUrls().isEmpty()) {
+                throw new IllegalStateException("blockchain.rpc.urls only applies to the evm platform");
+            }
+            return fabricContractApi(blockchainProperty.getFilePath(), fabricPoolProperty,
+                    backendExecutorProperty.getPoolSize("blockchain"), meterRegistry);
+        }
+
+        if (rpcEndpointProperty.getUrls().isEmpty()) {
+            return ContractFactory.EVM.create(blockchainProperty.getFilePath());
+        }
+
+        Properties properties = BlockchainPropertiesLoader.load(blockchainProperty.getFilePath());
+        List<RpcEndpoint> endpoints = new ArrayList<>();
+        for (String url : rpcEndpointProperty.getUrls()) {
+            endpoints.add(new RpcEndpoint(url, createContractApi(properties, url),
+                    rpcEndpointProperty.getFailureThreshold(), rpcEndpointProperty.getEjectionDuration().toNanos(),
+                    meterRegistry));
+        }
+        return new MultiEndpointContractApi(endpoints, rpcEndpointProperty, rpcEndpointExecutor, meterRegistry);
+    }
+
+    /**
+     * Creates a pool of Fabric ContractApis. The SDK evaluates the transactions of one ContractApi over
+     * a single gRPC channel, so every pooled instance opens a channel of its own.
+     */
+    private static ContractApi fabricContractApi(String filePath, FabricPoolProperty fabricPoolProperty,
+                                                 int backendConcurrency, MeterRegistry meterRegistry)
+            throws BlockChainException {
+        int maxTotal = fabricPoolProperty.getMaxTotal() > 0 ? fabricPoolProperty.getMaxTotal() : backendConcurrency;
+        return new PooledContractApi(() -> ContractFactory.FABRIC.create(filePath), maxTotal,
+                fabricPoolProperty.getMinIdle(), fabricPoolProperty.getMaxWait(),
+                fabricPoolProperty.getValidationInterval(), meterRegistry);
+    }
+
+    /**
+     * Creates a ContractApi for a single endpoint.
+     * The SDK only reads the node URL from a properties file, so a copy of the blockchain properties
+     * with the endpoint URL is written to a temporary file, which is removed once it has been read.
+     */
+    private static ContractApi createContractApi(Properties properties, String url) throws IOException {
+        Properties endpointProperties = new Properties();
+        endpointProperties.putAll(properties);
+        endpointProperties.setProperty(BlockchainPropertiesLoader.EVM_NETWORK_URL, url);
+
+        Path file = Files.createTempFile("blockchain-", ".properties");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(file)) {
+                endpointProperties.store(outputStream, null);
+            }
+            return ContractFactory.EVM.create(file.toAbsolutePath().toString());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Executor running the reads of the multi-endpoint ContractApi. Threads are started as needed up to
+     * the pool size and stop when idle; a read submitted while all are busy runs in the reading thread.
+     */
+    @Bean(name = "rpcEndpointExecutor", destroyMethod = "shutdown")
+    public ExecutorService rpcEndpointExecutor(RpcEndpointProperty rpcEndpointProperty) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(rpcEndpointProperty.getExecutorPoolSize(),
+                rpcEndpointProperty.getExecutorPoolSize(), 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "rpc-endpoint-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.config;
+
+import org.omnione.did.base.property.BatchProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuration of the executors used for internal fan-out.
+ * When virtual threads are enabled (spring.threads.virtual.enabled), every task runs on its own
+ * virtual thread; the concurrency is then bounded by the callers rather than by a pool size.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Bean(name = "batchExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService batchExecutor(BatchProperty batchProperty) {
+        return Executors.newFixedThreadPool(batchProperty.getPoolSize(), namedThreadFactory("batch-"));
+    }
+
+    @Bean(name = "batchExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService virtualBatchExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("batch-", 1).factory());
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.config;
+
+import feign.Client;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.omnione.did.base.property.LSSProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled HTTP client used by {@link org.omnione.did.apigateway.v1.api.RepositoryFeign} to reach the LSS.
+ * Connections are kept alive and reused, so a lookup does not pay for a new TCP connection.
+ * The pool is published as the {@code httpcomponents.httpclient.pool.*} metrics with {@code httpclient=lss}.
+ */
+@Configuration
+@Profile("lss")
+public class LSSHttpClientConfig {
+    @Bean
+    public PoolingHttpClientConnectionManager lssConnectionManager(LSSProperty lssProperty, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(lssProperty.getMaxConnections())
+                .setMaxConnPerRoute(lssProperty.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(toTimeout(lssProperty.getConnectTimeout()))
+                        .setSocketTimeout(toTimeout(lssProperty.getReadTimeout()))
+                        .setTimeToLive(toTimeValue(lssProperty.getTimeToLive()))
+                        .setValidateAfterInactivity(toTimeValue(lssProperty.getValidateAfterInactivity()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "lss").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient lssHttpClient(PoolingHttpClientConnectionManager lssConnectionManager,
+                                             LSSProperty lssProperty) {
+        HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(lssConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(toTimeout(lssProperty.getPoolTimeout()))
+                        .setConnectionKeepAlive(toTimeValue(lssProperty.getKeepAlive()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(toTimeValue(lssProperty.getKeepAlive()))
+                .disableCookieManagement();
+        if (!lssProperty.isCompression()) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public Client feignClient(CloseableHttpClient lssHttpClient) {
+        return new ApacheHttp5Client(lssHttpClient);
+    }
+
+    /**
+     * Feign passes its own connect and read timeouts with every request, overriding the ones
+     * of the connection pool, so they are set from the same properties.
+     */
+    @Bean
+    public Request.Options feignRequestOptions(LSSProperty lssProperty) {
+        return new Request.Options(lssProperty.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                lssProperty.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS, true);
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue toTimeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.config;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.omnione.did.apigateway.v1.service.AsyncStorageService;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.async.BackendExecutors;
+import org.omnione.did.apigateway.v1.service.async.ExecutorAsyncStorageService;
+import org.omnione.did.apigateway.v1.service.cache.CachingStorageService;
+import org.omnione.did.apigateway.v1.service.cache.ResolutionCache;
+import org.omnione.did.apigateway.v1.service.coalesce.CoalescingStorageService;
+import org.omnione.did.apigateway.v1.service.federation.FederatedStorageService;
+import org.omnione.did.apigateway.v1.service.filter.KnownIdentifierFilter;
+import org.omnione.did.apigateway.v1.service.filter.KnownIdentifierStorageService;
+import org.omnione.did.apigateway.v1.service.metrics.MetricsStorageService;
+import org.omnione.did.apigateway.v1.service.metrics.ResolutionMetrics;
+import org.omnione.did.apigateway.v1.service.resilience.ResilientStorageService;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.CoalescingProperty;
+import org.omnione.did.base.property.FederationProperty;
+import org.omnione.did.base.property.ResilienceProperty;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Assembles the StorageService used by the controllers.
+ * The backend selected by the active profile is wrapped with the configured decorators,
+ * innermost first: backend metrics, the bulkhead and circuit breaker, request coalescing, the known
+ * identifier filter, then the resolution cache, so only cache misses are filtered and coalesced and only
+ * lookups reaching the backend are timed.
+ * With federation enabled, each backend gets its own metrics, bulkhead and circuit breaker, and the
+ * remaining decorators wrap the {@link FederatedStorageService} combining them.
+ * The asynchronous endpoints use the same StorageService, run on the executor of its backend.
+ */
+@Configuration
+public class StorageServiceConfig {
+
+    @Primary
+    @Bean
+    public StorageService storageService(List<StorageService> storageServices,
+                                         CacheProperty cacheProperty,
+                                         ResolutionCache resolutionCache,
+                                         CoalescingProperty coalescingProperty,
+                                         MeterRegistry meterRegistry,
+                                         ResolutionMetrics resolutionMetrics,
+                                         ResilienceProperty resilienceProperty,
+                                         BulkheadRegistry bulkheadRegistry,
+                                         CircuitBreakerRegistry circuitBreakerRegistry,
+                                         BackendExecutors backendExecutors,
+                                         ObjectProvider<KnownIdentifierFilter> knownIdentifierFilter,
+                                         FederationProperty federationProperty) {
+        Function<StorageService, StorageService> guard = backend -> {
+            StorageService guarded = new MetricsStorageService(backend, resolutionMetrics);
+            return resilienceProperty.isEnabled()
+                    ? new ResilientStorageService(guarded, bulkheadRegistry, circuitBreakerRegistry)
+                    : guarded;
+        };
+
+        StorageService storageService;
+        if (federationProperty.isEnabled()) {
+            Map<String, StorageService> backends = storageServices.stream()
+                    .collect(Collectors.toMap(StorageService::getBackendName, Function.identity()));
+            List<StorageService> federated = federationProperty.getOrder().stream()
+                    .map(name -> Optional.ofNullable(backends.get(name))
+                            .orElseThrow(() -> new IllegalStateException("Federated backend is not available: " + name)))
+                    .map(guard)
+                    .toList();
+            storageService = new FederatedStorageService(federated, federationProperty, backendExecutors, meterRegistry);
+        } else {
+            storageService = guard.apply(storageServices.get(0));
+        }
+
+        if (coalescingProperty.isEnabled()) {
+            storageService = new CoalescingStorageService(storageService, meterRegistry);
+        }
+
+        KnownIdentifierFilter filter = knownIdentifierFilter.getIfAvailable();
+        if (filter != null) {
+            storageService = new KnownIdentifierStorageService(storageService, filter, meterRegistry);
+        }
+
+        if (cacheProperty.isEnabled()) {
+            storageService = new CachingStorageService(storageService, resolutionCache,
+                    backendExecutors.forBackend(storageService.getBackendName()), meterRegistry);
+        }
+        return storageService;
+    }
+
+    @Bean
+    public AsyncStorageService asyncStorageService(StorageService storageService, BackendExecutors backendExecutors) {
+        return new ExecutorAsyncStorageService(storageService, backendExecutors.forBackend(storageService.getBackendName()));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.constants;
+
+import lombok.Getter;
+
+/**
+ * Enumeration of the resource types resolved by the API Gateway.
+ * The name of each type is used as the key in configuration properties and as a metric tag.
+ */
+@Getter
+public enum ResourceType {
+
+    DID_DOC("did-doc"),
+    VC_META("vc-meta"),
+    VC_SCHEMA("vc-schema"),
+    ZKP_CRED_SCHEMA("zkp-cred-schema"),
+    ZKP_CRED_DEF("zkp-cred-def");
+
+    private final String name;
+
+    /**
+     * Constructor for ResourceType enum.
+     *
+     * @param name The configuration and metric name of the resource type.
+     */
+    ResourceType(String name) {
+        this.name = name;
+    }
+}
@@ -22,8 +22,11 @@ public class UrlConstant {
         public static final String V1 = "/api-gateway/api/v1";
         public static final String DID_DOC = "/did-doc";
         public static final String VC_META = "/vc-meta";
+        public static final String VC_SCHEMA = "/vc-schema";
         public static final String ZKP_CRED_SCHEMA = "/zkp-cred-schema";
         public static final String ZKP_CRED_DEF = "/zkp-cred-def";
+        public static final String DID_DOC_BATCH = "/did-doc/batch";
+        public static final String VC_META_BATCH = "/vc-meta/batch";
 
     }
 
@@ -33,15 +33,23 @@ public enum ErrorCode {
     VC_META_RETRIEVAL_FAILED("SSRVAGW00201", "Failed to retrieve VC meta.", 500),
     ZKP_CRED_SCHEMA_RETRIEVAL_FAILED("SSRVAGW00202", "Failed to retrieve ZKP Credential Schema", 500),
     ZKP_CRED_DEF_RETRIEVAL_FAILED("SSRVAGW00203", "Failed to retrieve ZKP Credential Definition", 500),
+    VC_SCHEMA_RETRIEVAL_FAILED("SSRVAGW00204", "Failed to retrieve VC Schema.", 500),
+    VC_SCHEMA_NOT_SUPPORTED("SSRVAGW00205", "Failed to retrieve VC Schema: not supported by the storage backend.", 501),
 
     DID_NOT_FOUND("SSRVAGW00300", "Failed to find DID: DID value is invalid.", 400),
     DID_INVALID("SSRVAGW00301", "Failed to process DID: DID is invalid.", 400),
 
     VC_ID_INVALID("SSRVAGW00400", "Failed to process VC: VC ID is invalid.", 400),
     VC_NOT_FOUND("SSRVAGW00401", "Failed to find VC: VC META data not found.", 400),
+    VC_SCHEMA_NOT_FOUND("SSRVAGW00402", "Failed to find VC Schema.", 400),
 
     ZKP_CRED_SCHEMA_NOT_FOUND("SSRVAGW00500", "Failed to find ZKP Credential Schema", 400),
-    ZKP_CRED_DEF_NOT_FOUND("SSRVAGW00501", "Failed to find ZKP Credential Definition", 400);
+    ZKP_CRED_DEF_NOT_FOUND("SSRVAGW00501", "Failed to find ZKP Credential Definition", 400),
+
+    BATCH_SIZE_EXCEEDED("SSRVAGW00600", "Failed to process batch: too many identifiers.", 400),
+
+    BACKEND_BUSY("SSRVAGW00700", "Failed to resolve: too many pending backend lookups.", 503),
+    BACKEND_UNAVAILABLE("SSRVAGW00701", "Failed to resolve: backend is temporarily unavailable.", 503);
 
     private final String code;
     private final String message;
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.monitor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.omnione.did.base.property.VirtualThreadProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that are pinned to their carrier thread.
+ * A virtual thread blocking inside a synchronized block (as found in the blockchain SDK and some
+ * of its HTTP clients) cannot unmount and holds its carrier thread for the whole call.
+ * Pinned sections longer than the configured threshold are captured with the JFR
+ * jdk.VirtualThreadPinned event, counted per call site and logged once per call site.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "virtual-thread", name = "pinning-monitor-enabled", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperty virtualThreadProperty;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperty virtualThreadProperty, MeterRegistry meterRegistry) {
+        this.virtualThreadProperty = virtualThreadProperty;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(virtualThreadProperty.getPinningThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Monitoring virtual thread pinning longer than {}", virtualThreadProperty.getPinningThreshold());
+    }
+
+    @Override
+    public void stop() {
+        recordingStream.close();
+        recordingStream = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = callSite(event);
+        Counter.builder("gateway.virtual-thread.pinned")
+                .description("Number of virtual thread pinning events longer than the threshold")
+                .tag("site", site)
+                .register(meterRegistry)
+                .increment();
+
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    /**
+     * Finds the first application or library frame of the pinned stack, skipping JDK frames.
+     */
+    private static String callSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String className = frame.getMethod().getType().getName();
+            if (!className.startsWith("java.") && !className.startsWith("jdk.") && !className.startsWith("sun.")) {
+                return className;
+            }
+        }
+        return "jdk";
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties for the controller access log.
+ * Requests are logged when the debug level is enabled for {@code org.omnione.did.base.aop}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperty {
+    /**
+     * Fraction of logged requests whose request and response payloads are logged as well, from 0 to 1.
+     */
+    private double payloadSampleRate = 0.01;
+
+    /**
+     * Maximum number of characters logged per payload; longer payloads are truncated.
+     */
+    private int maxPayloadLength = 1024;
+
+    /**
+     * Maximum number of access log entries waiting to be written. Entries are dropped when it is full.
+     */
+    private int queueCapacity = 1024;
+}
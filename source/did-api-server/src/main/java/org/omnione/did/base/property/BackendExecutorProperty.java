@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Properties for the executors running backend lookups of the asynchronous endpoints.
+ * Every backend gets its own executor, so a slow backend cannot take the threads of another one.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "backend-executor")
+public class BackendExecutorProperty {
+    /**
+     * Number of threads of a backend executor without an explicit pool size.
+     */
+    private int defaultPoolSize = 64;
+
+    /**
+     * Number of threads per backend name (blockchain, lss, sample).
+     */
+    private Map<String, Integer> poolSize = new HashMap<>();
+
+    /**
+     * Maximum number of lookups waiting for a thread, per backend. Further lookups are rejected.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * Gets the number of threads for the given backend.
+     *
+     * @param backendName The name of the backend.
+     * @return The pool size.
+     */
+    public int getPoolSize(String backendName) {
+        return poolSize.getOrDefault(backendName, defaultPoolSize);
+    }
+}
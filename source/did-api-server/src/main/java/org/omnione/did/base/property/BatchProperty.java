@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties for the batch resolution endpoints.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch")
+public class BatchProperty {
+    /**
+     * Maximum number of identifiers accepted in a single batch request.
+     */
+    private int maxSize = 200;
+
+    /**
+     * Maximum number of concurrent backend lookups for a single batch request.
+     */
+    private int parallelism = 16;
+
+    /**
+     * Number of threads shared by all batch requests.
+     */
+    private int poolSize = 64;
+}
@@ -12,4 +12,24 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "blockchain")
 public class BlockchainProperty {
     private String filePath;
+
+    /**
+     * Blockchain platform the OpenDID contract is deployed on: "evm" or "fabric".
+     * Reads the evm.* or fabric.* entries of the blockchain properties file respectively.
+     */
+    private String platform = "evm";
+
+    /**
+     * Checks whether the OpenDID contract is deployed on Hyperledger Fabric.
+     *
+     * @return true for the fabric platform, false for evm.
+     * @throws IllegalArgumentException if the platform is unknown.
+     */
+    public boolean isFabric() {
+        return switch (platform) {
+            case "evm" -> false;
+            case "fabric" -> true;
+            default -> throw new IllegalArgumentException("Unknown blockchain platform: " + platform);
+        };
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.omnione.did.base.constants.ResourceType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Properties for the in-memory resolution cache.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperty {
+    /**
+     * Whether resolved resources are cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of cached entries across all resource types.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time-to-live used for resource types without an explicit entry in {@link #ttl}.
+     */
+    private Duration defaultTtl = Duration.ofMinutes(5);
+
+    /**
+     * Time-to-live per resource type. A zero duration disables caching for the type.
+     */
+    private Map<ResourceType, Duration> ttl = new EnumMap<>(ResourceType.class);
+
+    /**
+     * Age per resource type after which a cached resource is still served, but resolved again in the
+     * background (stale-while-revalidate). Types without an entry are served until their time-to-live.
+     */
+    private Map<ResourceType, Duration> softTtl = new EnumMap<>(ResourceType.class);
+
+    /**
+     * Whether a resource past its time-to-live is served when the backend fails, per resource type
+     * (stale-if-error).
+     */
+    private Map<ResourceType, Boolean> staleIfError = new EnumMap<>(ResourceType.class);
+
+    /**
+     * How long past its time-to-live a resource is kept for stale-if-error.
+     */
+    private Duration staleIfErrorTtl = Duration.ofHours(1);
+
+    /**
+     * Time-to-live per resource type of lookups that failed with a client error, such as an unknown
+     * identifier. Types without an entry do not cache failed lookups.
+     */
+    private Map<ResourceType, Duration> negativeTtl = new EnumMap<>(ResourceType.class);
+
+    /**
+     * Maximum number of cached failed lookups across all resource types.
+     */
+    private long negativeMaximumSize = 10_000;
+
+    /**
+     * Gets the time-to-live of the given resource type.
+     *
+     * @param resourceType The resource type.
+     * @return The configured time-to-live, or the default time-to-live.
+     */
+    public Duration getTtl(ResourceType resourceType) {
+        return ttl.getOrDefault(resourceType, defaultTtl);
+    }
+
+    /**
+     * Gets the age after which a cached resource of the given type is revalidated in the background.
+     *
+     * @param resourceType The resource type.
+     * @return The configured soft time-to-live, or the time-to-live.
+     */
+    public Duration getSoftTtl(ResourceType resourceType) {
+        return softTtl.getOrDefault(resourceType, getTtl(resourceType));
+    }
+
+    /**
+     * Gets how long a lookup of the given type that failed with a client error is cached.
+     *
+     * @param resourceType The resource type.
+     * @return The configured negative time-to-live, or zero if failed lookups are not cached.
+     */
+    public Duration getNegativeTtl(ResourceType resourceType) {
+        return negativeTtl.getOrDefault(resourceType, Duration.ZERO);
+    }
+
+    /**
+     * Checks whether stale resources of the given type are served when the backend fails.
+     *
+     * @param resourceType The resource type.
+     * @return true if stale-if-error is enabled for the type.
+     */
+    public boolean isStaleIfError(ResourceType resourceType) {
+        return staleIfError.getOrDefault(resourceType, false);
+    }
+
+    /**
+     * Gets how long a resource of the given type is kept in the cache.
+     *
+     * @param resourceType The resource type.
+     * @return The time-to-live, extended by the stale-if-error time-to-live if enabled for the type.
+     */
+    public Duration getRetention(ResourceType resourceType) {
+        return isStaleIfError(resourceType) ? getTtl(resourceType).plus(staleIfErrorTtl) : getTtl(resourceType);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Properties for following the OpenDID contract event logs.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blockchain.event")
+public class ChainEventProperty {
+    /**
+     * Whether the contract event logs are followed to invalidate resolved resources.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Source of the event logs: "rpc" polls the EVM node, "recorded" replays a recorded eth_getLogs result.
+     */
+    private String source = "rpc";
+
+    /**
+     * JSON file holding a recorded eth_getLogs result, used when the source is "recorded".
+     */
+    private String recordedFile;
+
+    /**
+     * File holding the last processed block number.
+     */
+    private String checkpointFile = "./data/chain-event.checkpoint";
+
+    /**
+     * Block to start from when no checkpoint exists: "latest", "earliest" or a block number.
+     */
+    private String startBlock = "latest";
+
+    /**
+     * Interval between two polls of the event logs.
+     */
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    /**
+     * Maximum number of blocks requested in a single eth_getLogs call.
+     */
+    private int maxBlockRange = 1000;
+
+    /**
+     * Number of blocks to stay behind the chain head.
+     */
+    private int confirmations = 0;
+
+    /**
+     * Whether updated resources are resolved again right after being evicted.
+     */
+    private boolean refresh = false;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Properties for the pool of Hyperledger Fabric connections used when blockchain.platform is fabric.
+ * Every pooled connection has its own gRPC channel to the peer and evaluates one transaction at a time.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blockchain.fabric.pool")
+public class FabricPoolProperty {
+    /**
+     * Maximum number of connections. When 0, the pool is sized to the number of threads of the
+     * blockchain backend executor, so every concurrent lookup gets a connection of its own.
+     */
+    private int maxTotal = 0;
+
+    /**
+     * Number of connections opened at startup and kept open while idle.
+     */
+    private int minIdle = 2;
+
+    /**
+     * How long a lookup waits for a free connection before it fails.
+     */
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    /**
+     * How often idle connections whose last call failed are probed with a read until they answer
+     * again. When 0, they only recover on their next call.
+     */
+    private Duration validationInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.omnione.did.base.constants.ResourceType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Properties for resolving resources from several backends.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "federation")
+public class FederationProperty {
+    /**
+     * Whether resources are resolved from all the backends listed in {@link #order}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Names of the backends to try, in order.
+     */
+    private List<String> order = new ArrayList<>(List.of("lss", "blockchain"));
+
+    /**
+     * Time a single lookup may take on backends without an explicit entry in {@link #timeout}.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Time a single lookup may take, per backend name, before the next backend is tried.
+     */
+    private Map<String, Duration> timeout = new HashMap<>();
+
+    /**
+     * Whether the next backend is tried when a resource is not found, for a backend that may lag behind.
+     */
+    private boolean fallbackOnNotFound = true;
+
+    /**
+     * Resource types whose single lookups are sent to all backends at once, served by the first to resolve them.
+     */
+    private Set<ResourceType> race = EnumSet.noneOf(ResourceType.class);
+
+    /**
+     * Gets the time a single lookup may take on the given backend.
+     *
+     * @param backendName The name of the backend.
+     * @return The configured timeout, or the default timeout.
+     */
+    public Duration getTimeout(String backendName) {
+        return timeout.getOrDefault(backendName, defaultTimeout);
+    }
+}
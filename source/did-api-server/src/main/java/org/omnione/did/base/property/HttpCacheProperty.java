@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.omnione.did.base.constants.ResourceType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Properties for HTTP caching of resolution responses.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-cache")
+public class HttpCacheProperty {
+    /**
+     * Whether resolution responses carry ETag and Cache-Control headers.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether responses may be stored by shared caches such as CDNs and proxies.
+     */
+    private boolean cachePublic = true;
+
+    /**
+     * max-age used for resource types without an explicit entry in {@link #maxAge}.
+     */
+    private Duration defaultMaxAge = Duration.ZERO;
+
+    /**
+     * max-age per resource type. A zero duration makes clients revalidate on every use (no-cache).
+     */
+    private Map<ResourceType, Duration> maxAge = new EnumMap<>(ResourceType.class);
+
+    /**
+     * Gets the max-age of the given resource type.
+     *
+     * @param resourceType The resource type.
+     * @return The configured max-age, or the default max-age.
+     */
+    public Duration getMaxAge(ResourceType resourceType) {
+        return maxAge.getOrDefault(resourceType, defaultMaxAge);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Properties for the filter of identifiers known to the ledger.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blockchain.identifier-filter")
+public class IdentifierFilterProperty {
+    /**
+     * Whether DIDs and VC IDs missing from the filter are rejected without a backend lookup.
+     * The filter polls the contract event logs itself; when blockchain.event.enabled is set as well,
+     * it also picks up the identifiers reported by the event subscriber.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Block the filter is built from. Must not be later than the block the OpenDID contract was deployed in,
+     * or identifiers created before it are rejected.
+     */
+    private long fromBlock = 0;
+
+    /**
+     * Number of identifiers the filter is sized for. The filter is rebuilt twice as large once exceeded.
+     */
+    private long expectedInsertions = 1_000_000;
+
+    /**
+     * Probability that an unknown identifier passes the filter, at the expected number of identifiers.
+     */
+    private double falsePositiveProbability = 0.01;
+
+    /**
+     * Interval between two polls of the event logs for new identifiers.
+     */
+    private Duration pollInterval = Duration.ofSeconds(2);
+}
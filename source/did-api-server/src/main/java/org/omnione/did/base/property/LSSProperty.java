@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * Property class for setup for lss.
  */
@@ -12,4 +14,49 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "lss")
 public class LSSProperty {
     private String url;
+
+    /**
+     * Maximum number of pooled connections to the LSS.
+     */
+    private int maxConnections = 200;
+
+    /**
+     * Maximum number of pooled connections per LSS host.
+     */
+    private int maxConnectionsPerRoute = 100;
+
+    /**
+     * Timeout for establishing a connection.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Timeout for reading a response.
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum time to wait for a pooled connection when all connections are leased.
+     */
+    private Duration poolTimeout = Duration.ofSeconds(1);
+
+    /**
+     * How long an idle connection is kept alive when the LSS does not send a Keep-Alive timeout.
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Maximum lifetime of a pooled connection.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    /**
+     * Idle time after which a pooled connection is checked before it is reused.
+     */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    /**
+     * Whether gzip and deflate compressed responses are requested.
+     */
+    private boolean compression = false;
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.omnione.did.base.constants.ResourceType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Properties for the off-heap tier of the resolution cache, which keeps the serialized responses of
+ * large resources in direct memory instead of on the heap.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.off-heap")
+public class OffHeapCacheProperty {
+    /**
+     * Whether the resource types in {@link #types} are cached off-heap. Those types are then left out
+     * of the in-memory resolution cache; their time-to-live and stale-if-error settings still apply.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Resource types cached off-heap.
+     */
+    private Set<ResourceType> types = EnumSet.of(ResourceType.ZKP_CRED_SCHEMA, ResourceType.ZKP_CRED_DEF);
+
+    /**
+     * Maximum direct memory taken by the tier. Slabs are allocated as needed up to this size.
+     */
+    private DataSize capacity = DataSize.ofMegabytes(256);
+
+    /**
+     * Size of a slab, the unit in which direct memory is allocated.
+     */
+    private DataSize slabSize = DataSize.ofMegabytes(4);
+
+    /**
+     * Size of a page, the unit in which slab memory is given to entries.
+     */
+    private DataSize pageSize = DataSize.ofKilobytes(4);
+
+    /**
+     * Checks whether resources of the given type are cached off-heap.
+     *
+     * @param resourceType The resource type.
+     * @return true if the tier is enabled for the type.
+     */
+    public boolean isEnabled(ResourceType resourceType) {
+        return enabled && types.contains(resourceType);
+    }
+}
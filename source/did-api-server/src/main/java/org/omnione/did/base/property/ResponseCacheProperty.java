@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.response.ContentCoding;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Properties for the cache of serialized resolution response bodies.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperty {
+    /**
+     * Whether serialized response bodies are cached. Only takes effect with the resolution cache enabled,
+     * as bodies are kept for as long as the resolved resource they were serialized from is cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum total size of the cached bodies, including their compressed variants.
+     */
+    private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Content codings in which a variant of each body is cached, to be served to clients accepting them.
+     * Codings that are not available, such as br without brotli4j, are skipped. An empty list disables
+     * compression.
+     */
+    private List<ContentCoding> codings = List.of(ContentCoding.BR, ContentCoding.GZIP, ContentCoding.DEFLATE);
+
+    /**
+     * Minimum size of a body for its compressed variants to be created, for resource types without an
+     * explicit entry in {@link #compressionMinSize}.
+     */
+    private DataSize defaultCompressionMinSize = DataSize.ofKilobytes(1);
+
+    /**
+     * Minimum size of a body for its compressed variants to be created, per resource type.
+     */
+    private Map<ResourceType, DataSize> compressionMinSize = new EnumMap<>(ResourceType.class);
+
+    /**
+     * Gets the minimum size of a body of the given resource type for its compressed variants to be created.
+     *
+     * @param resourceType The resource type.
+     * @return The configured minimum size, or the default minimum size.
+     */
+    public DataSize getCompressionMinSize(ResourceType resourceType) {
+        return compressionMinSize.getOrDefault(resourceType, defaultCompressionMinSize);
+    }
+}
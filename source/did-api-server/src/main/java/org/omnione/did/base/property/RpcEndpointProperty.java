@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Properties for reading from several EVM RPC endpoints.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blockchain.rpc")
+public class RpcEndpointProperty {
+    /**
+     * RPC endpoint URLs. When empty, only evm.network.url of the blockchain properties file is used.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * How reads are spread over the endpoints: "hedged" or "latency-weighted".
+     */
+    private String mode = "hedged";
+
+    /**
+     * Latency percentile of an endpoint after which a hedged read is sent to the next endpoint.
+     */
+    private double hedgePercentile = 0.95;
+
+    /**
+     * Minimum delay before a hedged read is sent.
+     */
+    private Duration hedgeMinDelay = Duration.ofMillis(10);
+
+    /**
+     * Maximum delay before a hedged read is sent, also used until enough latencies are observed.
+     */
+    private Duration hedgeMaxDelay = Duration.ofMillis(500);
+
+    /**
+     * Maximum number of additional endpoints a single read is hedged to.
+     */
+    private int maxHedges = 1;
+
+    /**
+     * Number of consecutive failures after which an endpoint is taken out of rotation.
+     */
+    private int failureThreshold = 3;
+
+    /**
+     * How long an unhealthy endpoint stays out of rotation before it is tried again.
+     */
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of threads reading from the endpoints. Reads submitted while all of them are busy,
+     * including hedges that lost but are still running, are run by the reading thread itself.
+     */
+    private int executorPoolSize = 64;
+}
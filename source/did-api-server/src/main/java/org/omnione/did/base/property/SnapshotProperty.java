@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Properties for the on-disk snapshot of the resolution cache.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "snapshot")
+public class SnapshotProperty {
+    /**
+     * Whether the resolution cache is persisted and restored on startup.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Snapshot file.
+     */
+    private String file = "./data/resolution.snapshot";
+
+    /**
+     * Interval between two snapshots. A final snapshot is always written on shutdown.
+     */
+    private Duration interval = Duration.ofMinutes(5);
+
+    /**
+     * Maximum age of a snapshot to be restored on startup.
+     */
+    private Duration maxAge = Duration.ofHours(24);
+
+    /**
+     * Whether restored resources are resolved again in the background.
+     */
+    private boolean revalidate = true;
+
+    /**
+     * Number of concurrent lookups used to revalidate restored resources.
+     */
+    private int revalidateParallelism = 4;
+}
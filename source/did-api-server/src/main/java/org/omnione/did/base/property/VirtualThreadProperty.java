@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Properties for the virtual-thread execution mode.
+ * The mode itself is switched on with spring.threads.virtual.enabled (see the virtual-threads profile).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "virtual-thread")
+public class VirtualThreadProperty {
+    /**
+     * Whether virtual threads pinned to their carrier thread are reported.
+     */
+    private boolean pinningMonitorEnabled = true;
+
+    /**
+     * Minimum duration of a pinned section to be reported.
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.omnione.did.base.constants.ResourceType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Properties for the cache warm-up, which loads the hot set of resources on startup and holds back
+ * readiness until it is resident.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperty {
+    /**
+     * Whether the hot set is loaded on startup, and accesses are recorded to find it.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Identifiers always loaded on startup, per resource type.
+     */
+    private Map<ResourceType, List<String>> ids = new EnumMap<>(ResourceType.class);
+
+    /**
+     * Number of most frequently accessed resources in the access history loaded on startup, in addition
+     * to the configured identifiers. 0 disables the access history.
+     */
+    private int topN = 1000;
+
+    /**
+     * Number of concurrent lookups used to load the hot set.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Share of the hot set that must have been loaded before the instance reports ready. Resources that
+     * failed to load do not count; the readiness timeout bounds the wait.
+     */
+    private double readinessThreshold = 1.0;
+
+    /**
+     * Maximum time readiness is held back by the warm-up, so a slow backend does not keep the instance
+     * out of service.
+     */
+    private Duration readinessTimeout = Duration.ofMinutes(2);
+
+    /**
+     * Access history file.
+     */
+    private String historyFile = "./data/access-history";
+
+    /**
+     * Interval between two saves of the access history. It is always saved once more on shutdown.
+     */
+    private Duration historyInterval = Duration.ofMinutes(5);
+
+    /**
+     * Number of frequently accessed resources tracked in the access history.
+     */
+    private int historyCapacity = 10_000;
+}
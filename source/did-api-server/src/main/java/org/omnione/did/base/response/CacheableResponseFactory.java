@@ -0,0 +1,259 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.response;
+
+import lombok.RequiredArgsConstructor;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.apigateway.v1.service.warmup.AccessHistory;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.HttpCacheProperty;
+import org.omnione.did.base.response.OffHeapResponseCache.CachedResponse;
+import org.omnione.did.base.response.ResponseBodyCache.EncodedBody;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Creates cacheable responses for resolved resources.
+ * Responses carry a strong ETag computed from the payload and the Cache-Control policy of
+ * their resource type. Spring MVC answers a GET whose If-None-Match matches the ETag with
+ * 304 Not Modified and no body.
+ * The body is the {@link Representation} negotiated with the Accept header of the request, the response
+ * DTO by default, taken serialized from the {@link ResponseBodyCache} in the precompressed
+ * {@link ContentCoding} negotiated with the Accept-Encoding header, so cached resources are written out
+ * as they are. Resource types cached in the {@link OffHeapResponseCache} are written out from direct
+ * memory instead. A request revalidating an off-heap body with a matching If-None-Match is answered
+ * with 304 Not Modified right away, without referencing the direct memory of the body.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheableResponseFactory {
+
+    private static final int ETAG_HASH_LENGTH = 16;
+
+    private final HttpCacheProperty httpCacheProperty;
+
+    private final ResponseBodyCache responseBodyCache;
+
+    private final OffHeapResponseCache offHeapResponseCache;
+
+    private final AccessHistory accessHistory;
+
+    /**
+     * Resolves a resource and creates its 200 response, going through the off-heap cache for the
+     * resource types it holds. If resolving such a resource fails with a server error, a stale cached
+     * body within the stale-if-error retention is served instead. The request is recorded in the
+     * {@link AccessHistory}.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @param accept The Accept header of the request, or null.
+     * @param acceptEncoding The Accept-Encoding header of the request, or null.
+     * @param ifNoneMatch The If-None-Match header of the request, or null.
+     * @param lookup Resolves the response DTO.
+     * @param payloadOf Gets the resource data of the response DTO.
+     * @param <T> The type of the response DTO.
+     * @return The response entity, completed once resolved.
+     */
+    public <T> CompletableFuture<ResponseEntity<?>> resolve(ResourceType resourceType, String id,
+                                                            String accept, String acceptEncoding,
+                                                            String ifNoneMatch,
+                                                            Supplier<CompletableFuture<T>> lookup,
+                                                            Function<T, MultibasePayload> payloadOf) {
+        accessHistory.record(resourceType, id);
+        if (!offHeapResponseCache.isEnabled(resourceType)) {
+            return lookup.get().thenApply(body -> ok(resourceType, body, payloadOf.apply(body), accept, acceptEncoding));
+        }
+
+        Representation representation = Representation.negotiate(accept);
+        BiPredicate<String, ContentCoding> notModified = (eTagHash, coding) -> ifNoneMatch != null
+                && httpCacheProperty.isEnabled() && matches(ifNoneMatch, eTag(eTagHash, representation, coding));
+        CachedResponse cached = offHeapResponseCache.get(resourceType, id, representation, acceptEncoding, false,
+                notModified);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(ok(resourceType, representation, cached));
+        }
+        return lookup.get().handle((body, error) -> {
+            if (error == null) {
+                MultibasePayload payload = payloadOf.apply(body);
+                EncodedBody encodedBody = responseBodyCache.encode(resourceType, representation, body, payload);
+                String eTagHash = payload == null ? null : eTagHash(payload);
+                if (eTagHash != null) {
+                    offHeapResponseCache.put(resourceType, id, representation, encodedBody, eTagHash);
+                }
+                return ok(resourceType, payload == null ? Representation.DTO : representation, encodedBody,
+                        eTagHash, acceptEncoding);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (!(cause instanceof OpenDidException e)
+                    || e.getErrorCode() == null || e.getErrorCode().getHttpStatus() >= 500) {
+                CachedResponse stale = offHeapResponseCache.get(resourceType, id, representation, acceptEncoding, true,
+                        notModified);
+                if (stale != null) {
+                    return ok(resourceType, representation, stale);
+                }
+            }
+            throw error instanceof CompletionException completionException
+                    ? completionException
+                    : new CompletionException(error);
+        });
+    }
+
+    /**
+     * Stores the response DTO of a resource resolved outside of a request in the off-heap cache, so the
+     * first request for it is served from there. Does nothing for resource types not cached off-heap.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @param body The response DTO.
+     * @param payload The resource data in the response DTO.
+     */
+    public void preload(ResourceType resourceType, String id, Object body, MultibasePayload payload) {
+        if (!offHeapResponseCache.isEnabled(resourceType) || payload == null) {
+            return;
+        }
+        EncodedBody encodedBody = responseBodyCache.encode(resourceType, Representation.DTO, body, payload);
+        offHeapResponseCache.put(resourceType, id, Representation.DTO, encodedBody, eTagHash(payload));
+    }
+
+    /**
+     * Creates a 200 response with the serialized body and the caching headers of the given resource type.
+     *
+     * @param resourceType The type of the resolved resource.
+     * @param body The response DTO.
+     * @param payload The resource data in the response DTO, used to compute the ETag and to look up the serialized body.
+     * @param accept The Accept header of the request, or null.
+     * @param acceptEncoding The Accept-Encoding header of the request, or null.
+     * @return The response entity holding the negotiated representation, compressed in the coding negotiated
+     *         with the client.
+     */
+    public ResponseEntity<byte[]> ok(ResourceType resourceType, Object body, MultibasePayload payload,
+                                     String accept, String acceptEncoding) {
+        Representation representation = payload == null ? Representation.DTO : Representation.negotiate(accept);
+        EncodedBody encodedBody = responseBodyCache.get(resourceType, representation, body, payload);
+        return ok(resourceType, representation, encodedBody, payload == null ? null : eTagHash(payload), acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> ok(ResourceType resourceType, Representation representation,
+                                      EncodedBody encodedBody, String eTagHash, String acceptEncoding) {
+        ContentCoding coding = encodedBody.negotiate(acceptEncoding);
+        byte[] bytes = encodedBody.bytes(coding);
+        return headers(resourceType, representation, bytes.length, eTagHash, coding, !encodedBody.variants().isEmpty())
+                .body(bytes);
+    }
+
+    /**
+     * Creates the response of an off-heap body: a 304 without a body if the client already holds it.
+     */
+    private ResponseEntity<OffHeapBody> ok(ResourceType resourceType, Representation representation,
+                                           CachedResponse cached) {
+        if (cached.body() == null) {
+            return cachingHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), resourceType, representation,
+                    cached.eTagHash(), cached.coding(), cached.varies())
+                    .build();
+        }
+        return headers(resourceType, representation, cached.body().length(), cached.eTagHash(), cached.coding(),
+                cached.varies())
+                .body(cached.body());
+    }
+
+    private ResponseEntity.BodyBuilder headers(ResourceType resourceType, Representation representation,
+                                               long contentLength, String eTagHash, ContentCoding coding,
+                                               boolean varies) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(representation.getMediaType())
+                .contentLength(contentLength);
+        if (coding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, coding.getName());
+        }
+        return cachingHeaders(builder, resourceType, representation, eTagHash, coding, varies);
+    }
+
+    private <B extends ResponseEntity.HeadersBuilder<B>> B cachingHeaders(B builder, ResourceType resourceType,
+                                                                           Representation representation,
+                                                                           String eTagHash, ContentCoding coding,
+                                                                           boolean varies) {
+        if (varies) {
+            builder.varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        } else {
+            builder.varyBy(HttpHeaders.ACCEPT);
+        }
+        if (httpCacheProperty.isEnabled() && eTagHash != null) {
+            builder.eTag(eTag(eTagHash, representation, coding))
+                    .cacheControl(cacheControl(resourceType));
+        }
+        return builder;
+    }
+
+    private CacheControl cacheControl(ResourceType resourceType) {
+        CacheControl cacheControl = httpCacheProperty.getMaxAge(resourceType).isPositive()
+                ? CacheControl.maxAge(httpCacheProperty.getMaxAge(resourceType))
+                : CacheControl.noCache();
+        return httpCacheProperty.isCachePublic() ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+
+    /**
+     * Checks whether an If-None-Match header lists the given ETag, comparing weakly as for GET requests.
+     */
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the hash part of the strong ETag of a payload.
+     */
+    private static String eTagHash(MultibasePayload payload) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(payload.digest(), ETAG_HASH_LENGTH));
+    }
+
+    /**
+     * Formats a strong ETag. Representations and content codings are different entities, so the ETag
+     * of other than the DTO gets the suffix of its representation appended, and that of a compressed
+     * body the name of its coding.
+     */
+    private static String eTag(String hash, Representation representation, ContentCoding coding) {
+        StringBuilder eTag = new StringBuilder("\"").append(hash);
+        if (representation.getETagSuffix() != null) {
+            eTag.append('-').append(representation.getETagSuffix());
+        }
+        if (coding != null) {
+            eTag.append('-').append(coding.getName());
+        }
+        return eTag.append('"').toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings in which response bodies are served.
+ * Variants of cached bodies are compressed once and then served many times, so they are compressed at
+ * high levels; variants of bodies that may be served only once are compressed at fast levels.
+ */
+@Getter
+public enum ContentCoding {
+
+    /**
+     * Brotli. Only available when brotli4j and its native library for the platform are on the classpath.
+     */
+    BR("br") {
+        @Override
+        public boolean isAvailable() {
+            return Brotli.COMPRESS != null;
+        }
+
+        @Override
+        public byte[] encode(byte[] data, boolean fast) {
+            try {
+                return fast ? (byte[]) Brotli.COMPRESS_FAST.invokeExact(data) : (byte[]) Brotli.COMPRESS.invokeExact(data);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to compress response body with brotli", e);
+            }
+        }
+    },
+
+    GZIP("gzip") {
+        @Override
+        public byte[] encode(byte[] data, boolean fast) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4);
+            try (OutputStream out = new GZIPOutputStream(buffer) {
+                {
+                    def.setLevel(fast ? Deflater.BEST_SPEED : Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                out.write(data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        }
+    },
+
+    /**
+     * Zlib-wrapped deflate, as the HTTP deflate coding is defined.
+     */
+    DEFLATE("deflate") {
+        @Override
+        public byte[] encode(byte[] data, boolean fast) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4);
+            Deflater deflater = new Deflater(fast ? Deflater.BEST_SPEED : Deflater.BEST_COMPRESSION);
+            try (OutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+                out.write(data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                deflater.end();
+            }
+            return buffer.toByteArray();
+        }
+    };
+
+    private final String name;
+
+    /**
+     * Constructor for ContentCoding enum.
+     *
+     * @param name The name of the coding in Accept-Encoding and Content-Encoding headers.
+     */
+    ContentCoding(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Checks whether bodies can be encoded in this coding.
+     *
+     * @return true if the coding is available.
+     */
+    public boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Encodes a body at the high compression level of the coding.
+     *
+     * @param data The body.
+     * @return The encoded body.
+     */
+    public byte[] encode(byte[] data) {
+        return encode(data, false);
+    }
+
+    /**
+     * Encodes a body.
+     *
+     * @param data The body.
+     * @param fast Whether to use the fast compression level of the coding rather than the high one.
+     * @return The encoded body.
+     */
+    public abstract byte[] encode(byte[] data, boolean fast);
+
+    /**
+     * Chooses the coding to serve a body in, among its available variants. The coding accepted with
+     * the highest quality is chosen, the smallest variant on equal quality. The identity coding is
+     * served if the client accepts none of the variants, or explicitly prefers identity.
+     *
+     * @param acceptEncoding The Accept-Encoding header of the request, or null.
+     * @param available The codings the body is available in.
+     * @param length Gets the length of the variant of a coding.
+     * @return The chosen coding, or null for identity.
+     */
+    public static ContentCoding negotiate(String acceptEncoding, Set<ContentCoding> available,
+                                          ToIntFunction<ContentCoding> length) {
+        if (acceptEncoding == null || available.isEmpty()) {
+            return null;
+        }
+        Map<String, Double> qualities = qualities(acceptEncoding);
+        double wildcard = qualities.getOrDefault("*", 0.0);
+
+        ContentCoding chosen = null;
+        double chosenQuality = qualities.getOrDefault("identity", 0.0);
+        for (ContentCoding coding : available) {
+            double quality = qualities.getOrDefault(coding.name, wildcard);
+            if (quality <= 0 || quality < chosenQuality) {
+                continue;
+            }
+            if (chosen == null || quality > chosenQuality || length.applyAsInt(coding) < length.applyAsInt(chosen)) {
+                chosen = coding;
+                chosenQuality = quality;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Parses an Accept-Encoding header into the quality of each listed coding.
+     */
+    private static Map<String, Double> qualities(String acceptEncoding) {
+        Map<String, Double> qualities = new HashMap<>();
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty()) {
+                qualities.putIfAbsent(name, quality(parts));
+            }
+        }
+        return qualities;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Binds the brotli4j encoder reflectively, as it is an optional dependency with a native library.
+     */
+    private static final class Brotli {
+
+        private static final int QUALITY = 9;
+        private static final int FAST_QUALITY = 1;
+
+        private static final MethodHandle COMPRESS = load(QUALITY);
+        private static final MethodHandle COMPRESS_FAST = load(FAST_QUALITY);
+
+        private static MethodHandle load(int quality) {
+            try {
+                Class<?> loader = Class.forName("com.aayushatharva.brotli4j.Brotli4jLoader");
+                if (!(boolean) loader.getMethod("isAvailable").invoke(null)) {
+                    return null;
+                }
+                Class<?> encoder = Class.forName("com.aayushatharva.brotli4j.encoder.Encoder");
+                Class<?> parametersClass = Class.forName("com.aayushatharva.brotli4j.encoder.Encoder$Parameters");
+                Object parameters = parametersClass.getConstructor().newInstance();
+                parametersClass.getMethod("setQuality", int.class).invoke(parameters, quality);
+                MethodHandle compress = MethodHandles.publicLookup().findStatic(encoder, "compress",
+                        MethodType.methodType(byte[].class, byte[].class, parametersClass));
+                return MethodHandles.insertArguments(compress, 1, parameters);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+    }
+}
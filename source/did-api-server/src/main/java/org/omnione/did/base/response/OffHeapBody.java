@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+/**
+ * A response body held in the slabs of the {@link OffHeapResponseCache}.
+ * The slab pages stay reserved for the body until it is closed, which happens once it is written.
+ * Revalidated responses are answered with 304 Not Modified without taking a body. As a safety net, a
+ * body that is never written, for example because the client went away, is closed when it is garbage
+ * collected.
+ */
+public final class OffHeapBody implements AutoCloseable {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final List<ByteBuffer> buffers;
+    private final int length;
+    private final Cleaner.Cleanable cleanable;
+
+    /**
+     * @param buffers Read-only views of the slab memory holding the body, in order.
+     * @param length The total number of bytes.
+     * @param release Releases the slab pages; must not refer to this body.
+     */
+    OffHeapBody(List<ByteBuffer> buffers, int length, Runnable release) {
+        this.buffers = buffers;
+        this.length = length;
+        this.cleanable = CLEANER.register(this, release);
+    }
+
+    /**
+     * Gets the size of the body.
+     *
+     * @return The number of bytes.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Writes the body from the slab memory, passing it through the stream in small chunks rather than
+     * copying it to a heap array as a whole.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if the body cannot be written.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        WritableByteChannel channel = Channels.newChannel(out);
+        for (ByteBuffer buffer : buffers) {
+            ByteBuffer view = buffer.duplicate();
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+        }
+    }
+
+    /**
+     * Releases the slab pages of the body. Further calls have no effect.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapBody[" + length + " bytes]";
+    }
+}
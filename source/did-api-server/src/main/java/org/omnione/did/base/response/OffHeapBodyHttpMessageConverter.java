@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link OffHeapBody} responses straight from the off-heap cache, and releases them once written.
+ * The body is already serialized, so it is written as it is whatever JSON media type is negotiated.
+ */
+@Component
+public class OffHeapBodyHttpMessageConverter extends AbstractHttpMessageConverter<OffHeapBody> {
+
+    public OffHeapBodyHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON, MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return OffHeapBody.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected OffHeapBody readInternal(Class<? extends OffHeapBody> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Off-heap bodies are only written", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(OffHeapBody body, MediaType contentType) {
+        return (long) body.length();
+    }
+
+    @Override
+    protected void writeInternal(OffHeapBody body, HttpOutputMessage outputMessage) throws IOException {
+        try (body) {
+            body.writeTo(outputMessage.getBody());
+        }
+    }
+}
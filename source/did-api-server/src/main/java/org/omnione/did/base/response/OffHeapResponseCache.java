@@ -0,0 +1,464 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.omnione.did.apigateway.v1.service.cache.ResolutionKey;
+import org.omnione.did.apigateway.v1.service.event.ResourceChangedEvent;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.OffHeapCacheProperty;
+import org.omnione.did.base.response.ResponseBodyCache.EncodedBody;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+/**
+ * Off-heap tier of the resolution cache, holding the serialized responses of large resources such as
+ * ZKP credential definitions in direct memory, so they add neither heap nor GC cost as they accumulate.
+ * Direct memory is allocated in slabs up to a fixed capacity and handed out in pages. An entry holds one
+ * representation of a resource followed by its compressed variants across as many pages as needed; pages
+ * do not have to be adjacent.
+ * Entries are evicted least recently used first when pages run out, and expire after the time-to-live
+ * of their resource type, or its stale-if-error retention.
+ * Pages of an entry being written to a response are only reused once the write has finished. A request
+ * revalidating an entry it already holds gets its headers only, without a reference to the pages.
+ */
+@Component
+public class OffHeapResponseCache {
+
+    private final OffHeapCacheProperty offHeapCacheProperty;
+    private final CacheProperty cacheProperty;
+    private final int pageSize;
+    private final int pagesPerSlab;
+    private final ByteBuffer[] slabs;
+    private int slabCount;
+    private int[] freePages = new int[0];
+    private int freeCount;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<ResourceType, Counter> hitCounters = new EnumMap<>(ResourceType.class);
+    private final Map<ResourceType, Counter> missCounters = new EnumMap<>(ResourceType.class);
+    private final Counter evictions;
+
+    public OffHeapResponseCache(OffHeapCacheProperty offHeapCacheProperty,
+                                CacheProperty cacheProperty,
+                                MeterRegistry meterRegistry) {
+        this.offHeapCacheProperty = offHeapCacheProperty;
+        this.cacheProperty = cacheProperty;
+        this.pageSize = (int) offHeapCacheProperty.getPageSize().toBytes();
+        this.pagesPerSlab = (int) (offHeapCacheProperty.getSlabSize().toBytes() / pageSize);
+        if (pageSize <= 0 || pagesPerSlab <= 0) {
+            throw new IllegalArgumentException("cache.off-heap.slab-size must be at least one page");
+        }
+        this.slabs = new ByteBuffer[(int) (offHeapCacheProperty.getCapacity().toBytes() / ((long) pagesPerSlab * pageSize))];
+
+        for (ResourceType resourceType : offHeapCacheProperty.getTypes()) {
+            hitCounters.put(resourceType, requestCounter(meterRegistry, resourceType, "hit"));
+            missCounters.put(resourceType, requestCounter(meterRegistry, resourceType, "miss"));
+        }
+        this.evictions = Counter.builder("gateway.offheap.cache.evictions")
+                .description("Number of entries evicted from the off-heap cache to make room for others")
+                .register(meterRegistry);
+        Gauge.builder("gateway.offheap.cache.allocated", this, cache -> cache.allocatedBytes())
+                .description("Direct memory allocated by the off-heap cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("gateway.offheap.cache.used", this, cache -> cache.usedBytes())
+                .description("Direct memory of the off-heap cache held by entries")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("gateway.offheap.cache.entries", this, cache -> cache.size())
+                .description("Number of entries in the off-heap cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether resources of the given type are cached off-heap.
+     *
+     * @param resourceType The resource type.
+     * @return true if the tier is enabled for the type.
+     */
+    public boolean isEnabled(ResourceType resourceType) {
+        return cacheProperty.isEnabled() && offHeapCacheProperty.isEnabled(resourceType)
+                && cacheProperty.getTtl(resourceType).isPositive();
+    }
+
+    /**
+     * Gets a cached response body.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @param representation The representation of the resource.
+     * @param acceptEncoding The Accept-Encoding header of the request, to choose the variant to get.
+     * @param allowStale Whether an entry past its time-to-live but within its stale-if-error retention may be returned.
+     * @return The cached response, which must be closed once written, or null if it is not cached.
+     */
+    public CachedResponse get(ResourceType resourceType, String id, Representation representation,
+                              String acceptEncoding, boolean allowStale) {
+        return get(resourceType, id, representation, acceptEncoding, allowStale, (eTagHash, coding) -> false);
+    }
+
+    /**
+     * Gets a cached response body, unless the client already holds it. In that case the response has no
+     * body and the pages of the entry are not referenced, so nothing has to be closed.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @param representation The representation of the resource.
+     * @param acceptEncoding The Accept-Encoding header of the request, to choose the variant to get.
+     * @param allowStale Whether an entry past its time-to-live but within its stale-if-error retention may be returned.
+     * @param notModified Tests whether the client holds the variant with the given ETag hash and content coding.
+     * @return The cached response, whose body, if any, must be closed once written, or null if it is not cached.
+     */
+    public CachedResponse get(ResourceType resourceType, String id, Representation representation,
+                              String acceptEncoding, boolean allowStale,
+                              BiPredicate<String, ContentCoding> notModified) {
+        Entry entry = lookup(new Key(new ResolutionKey(resourceType, id), representation), allowStale);
+        if (entry == null) {
+            if (!allowStale) {
+                missCounters.get(resourceType).increment();
+            }
+            return null;
+        }
+
+        ContentCoding coding = ContentCoding.negotiate(acceptEncoding, entry.codings,
+                variant -> entry.lengths[variant.ordinal() + 1]);
+        if (notModified.test(entry.eTagHash, coding)) {
+            if (!allowStale) {
+                hitCounters.get(resourceType).increment();
+            }
+            return new CachedResponse(null, entry.eTagHash, coding, !entry.codings.isEmpty());
+        }
+        if (!entry.retain()) {
+            if (!allowStale) {
+                missCounters.get(resourceType).increment();
+            }
+            return null;
+        }
+        if (!allowStale) {
+            hitCounters.get(resourceType).increment();
+        }
+
+        int index = coding == null ? 0 : coding.ordinal() + 1;
+        int length = entry.lengths[index];
+        OffHeapBody body = new OffHeapBody(views(entry.pages, entry.offsets[index], length), length, entry::release);
+        return new CachedResponse(body, entry.eTagHash, coding, !entry.codings.isEmpty());
+    }
+
+    /**
+     * Caches a response body, replacing any cached body of the same resource and representation.
+     * A body that does not fit in the tier, even after evicting every other entry, is not cached.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     * @param representation The representation of the resource.
+     * @param body The serialized response body.
+     * @param eTagHash The hash part of the strong ETag of the body.
+     */
+    public void put(ResourceType resourceType, String id, Representation representation, EncodedBody body,
+                    String eTagHash) {
+        int[] offsets = new int[ContentCoding.values().length + 1];
+        int[] lengths = new int[offsets.length];
+        int length = 0;
+        for (int index = 0; index < offsets.length; index++) {
+            byte[] bytes = body.bytes(index == 0 ? null : ContentCoding.values()[index - 1]);
+            if (bytes != null) {
+                offsets[index] = length;
+                lengths[index] = bytes.length;
+                length += bytes.length;
+            }
+        }
+        int pageCount = Math.max(1, (length + pageSize - 1) / pageSize);
+        Key key = new Key(new ResolutionKey(resourceType, id), representation);
+
+        int[] pages = allocate(key, pageCount);
+        if (pages == null) {
+            return;
+        }
+        write(pages, 0, body.identity());
+        for (Map.Entry<ContentCoding, byte[]> variant : body.variants().entrySet()) {
+            write(pages, offsets[variant.getKey().ordinal() + 1], variant.getValue());
+        }
+
+        Entry entry = new Entry(this, pages, offsets, lengths, body.variants().keySet(), eTagHash, System.nanoTime());
+        Entry replaced;
+        synchronized (this) {
+            replaced = entries.put(key, entry);
+        }
+        if (replaced != null) {
+            replaced.release();
+        }
+    }
+
+    /**
+     * Removes the cached bodies of a resource, in every representation.
+     *
+     * @param resourceType The type of the resource.
+     * @param id The identifier of the resource.
+     */
+    public void invalidate(ResourceType resourceType, String id) {
+        List<Entry> removed = new ArrayList<>();
+        synchronized (this) {
+            for (Representation representation : Representation.values()) {
+                Entry entry = entries.remove(new Key(new ResolutionKey(resourceType, id), representation));
+                if (entry != null) {
+                    removed.add(entry);
+                }
+            }
+        }
+        removed.forEach(Entry::release);
+    }
+
+    @EventListener
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (isEnabled(event.resourceType())) {
+            invalidate(event.resourceType(), event.id());
+        }
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return The number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry lookup(Key key, boolean allowStale) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long age = System.nanoTime() - entry.storedAt;
+        ResourceType resourceType = key.resolutionKey().resourceType();
+        if (age >= cacheProperty.getRetention(resourceType).toNanos()) {
+            entries.remove(key);
+            entry.release();
+            return null;
+        }
+        if (!allowStale && age >= cacheProperty.getTtl(resourceType).toNanos()) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Takes free pages for an entry, allocating slabs up to the capacity and then evicting the least
+     * recently used entries. The previous entry of the same key is removed first.
+     *
+     * @return The pages, or null if they cannot be freed.
+     */
+    private int[] allocate(Key key, int pageCount) {
+        List<Entry> released = new ArrayList<>();
+        int[] pages = null;
+        synchronized (this) {
+            Entry previous = entries.remove(key);
+            if (previous != null) {
+                released.add(previous);
+            }
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (freeCount < pageCount) {
+                if (slabCount < slabs.length) {
+                    addSlab();
+                } else if (eldest.hasNext()) {
+                    Entry evicted = eldest.next();
+                    eldest.remove();
+                    evictions.increment();
+                    // Pages come back once no response is being written from them.
+                    if (evicted.releaseLocked()) {
+                        addFreePages(evicted.pages);
+                    }
+                } else {
+                    break;
+                }
+            }
+            if (freeCount >= pageCount) {
+                pages = new int[pageCount];
+                freeCount -= pageCount;
+                System.arraycopy(freePages, freeCount, pages, 0, pageCount);
+            }
+        }
+        released.forEach(Entry::release);
+        return pages;
+    }
+
+    private void addSlab() {
+        slabs[slabCount] = ByteBuffer.allocateDirect(pagesPerSlab * pageSize);
+        int first = slabCount * pagesPerSlab;
+        slabCount++;
+        int[] pages = new int[pagesPerSlab];
+        for (int i = 0; i < pagesPerSlab; i++) {
+            pages[i] = first + pagesPerSlab - 1 - i;
+        }
+        addFreePages(pages);
+    }
+
+    private void addFreePages(int[] pages) {
+        if (freeCount + pages.length > freePages.length) {
+            int[] grown = new int[Math.max(freeCount + pages.length, freePages.length * 2)];
+            System.arraycopy(freePages, 0, grown, 0, freeCount);
+            freePages = grown;
+        }
+        System.arraycopy(pages, 0, freePages, freeCount, pages.length);
+        freeCount += pages.length;
+    }
+
+    private synchronized void free(int[] pages) {
+        addFreePages(pages);
+    }
+
+    /**
+     * Copies data into the pages of an entry, starting at the given offset within the entry.
+     */
+    private void write(int[] pages, int offset, byte[] data) {
+        int written = 0;
+        while (written < data.length) {
+            int position = offset + written;
+            int page = pages[position / pageSize];
+            int pageOffset = position % pageSize;
+            int length = Math.min(pageSize - pageOffset, data.length - written);
+            ByteBuffer slab = slabs[page / pagesPerSlab].duplicate();
+            slab.position((page % pagesPerSlab) * pageSize + pageOffset);
+            slab.put(data, written, length);
+            written += length;
+        }
+    }
+
+    /**
+     * Gets read-only views of a byte range of an entry, one per page it spans.
+     */
+    private List<ByteBuffer> views(int[] pages, int offset, int length) {
+        List<ByteBuffer> views = new ArrayList<>(length / pageSize + 2);
+        int read = 0;
+        while (read < length) {
+            int position = offset + read;
+            int page = pages[position / pageSize];
+            int pageOffset = position % pageSize;
+            int viewLength = Math.min(pageSize - pageOffset, length - read);
+            int start = (page % pagesPerSlab) * pageSize + pageOffset;
+            views.add(slabs[page / pagesPerSlab].asReadOnlyBuffer().position(start).limit(start + viewLength).slice());
+            read += viewLength;
+        }
+        return views;
+    }
+
+    private synchronized long allocatedBytes() {
+        return (long) slabCount * pagesPerSlab * pageSize;
+    }
+
+    private synchronized long usedBytes() {
+        return allocatedBytes() - (long) freeCount * pageSize;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, ResourceType resourceType, String result) {
+        return Counter.builder("gateway.offheap.cache.requests")
+                .description("Number of off-heap cache lookups, by resource type and result")
+                .tag("type", resourceType.getName())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A cached response body with the headers it needs.
+     *
+     * @param body The body, to be closed once written, or null if the client already holds it.
+     * @param eTagHash The hash part of the strong ETag.
+     * @param coding The content coding of the body, or null for identity.
+     * @param varies Whether the entry has compressed variants, so the response varies by Accept-Encoding.
+     */
+    public record CachedResponse(OffHeapBody body, String eTagHash, ContentCoding coding, boolean varies) {
+    }
+
+    /**
+     * Key of an entry: a resource in one of its representations.
+     */
+    private record Key(ResolutionKey resolutionKey, Representation representation) {
+    }
+
+    /**
+     * An entry of the cache. It is referenced once by the cache while it is cached, and once per
+     * response being written from it; its pages are freed when the last reference is released.
+     */
+    private static final class Entry {
+
+        private final OffHeapResponseCache cache;
+        private final int[] pages;
+        /**
+         * Offset and length within the pages of the JSON body at index 0, and of the variant of each
+         * content coding at its ordinal plus one.
+         */
+        private final int[] offsets;
+        private final int[] lengths;
+        private final Set<ContentCoding> codings;
+        private final String eTagHash;
+        private final long storedAt;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Entry(OffHeapResponseCache cache, int[] pages, int[] offsets, int[] lengths,
+                      Set<ContentCoding> codings, String eTagHash, long storedAt) {
+            this.cache = cache;
+            this.pages = pages;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.codings = codings.isEmpty() ? Set.of() : EnumSet.copyOf(codings);
+            this.eTagHash = eTagHash;
+            this.storedAt = storedAt;
+        }
+
+        /**
+         * Adds a reference for a response, unless the pages have already been freed.
+         */
+        private boolean retain() {
+            int count;
+            do {
+                count = references.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                cache.free(pages);
+            }
+        }
+
+        /**
+         * Releases a reference while holding the cache lock.
+         *
+         * @return true if the pages are to be freed by the caller.
+         */
+        private boolean releaseLocked() {
+            return references.decrementAndGet() == 0;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import lombok.Getter;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Representations in which a resolved resource is served, selected by the Accept header.
+ * The response DTO is the default; the other representations are only served to clients asking for
+ * them by name, and leave out the DTO and the multibase encoding of the resource data.
+ */
+@Getter
+public enum Representation {
+
+    /**
+     * The response DTO, holding the multibase encoded resource data.
+     */
+    DTO(MediaType.APPLICATION_JSON, null),
+
+    /**
+     * The resource JSON, as stored.
+     */
+    DOCUMENT(MediaType.valueOf(Representation.DID_JSON_VALUE), "doc"),
+
+    /**
+     * The resource JSON converted to CBOR.
+     */
+    CBOR(MediaType.valueOf(Representation.CBOR_VALUE), "cbor");
+
+    public static final String DID_JSON_VALUE = "application/did+json";
+
+    public static final String CBOR_VALUE = "application/cbor";
+
+    private final MediaType mediaType;
+
+    /**
+     * Suffix of the ETag, as the representations of a resource are different entities. Null for the DTO.
+     */
+    private final String eTagSuffix;
+
+    /**
+     * Constructor for Representation enum.
+     *
+     * @param mediaType The media type of the representation.
+     * @param eTagSuffix The ETag suffix of the representation.
+     */
+    Representation(MediaType mediaType, String eTagSuffix) {
+        this.mediaType = mediaType;
+        this.eTagSuffix = eTagSuffix;
+    }
+
+    /**
+     * Chooses the representation to serve. The representation accepted with the highest quality is chosen,
+     * the DTO on equal quality. The DTO is matched by wildcards and application/json, the others only by
+     * their own media type. Without an Accept header, or if none of the representations is accepted, the
+     * DTO is served.
+     *
+     * @param accept The Accept header of the request, or null.
+     * @return The chosen representation.
+     */
+    public static Representation negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return DTO;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return DTO;
+        }
+
+        Representation chosen = DTO;
+        double chosenQuality = 0;
+        for (Representation representation : values()) {
+            double quality = 0;
+            for (MediaType mediaType : mediaTypes) {
+                boolean matches = representation == DTO
+                        ? mediaType.includes(representation.mediaType)
+                        : mediaType.equalsTypeAndSubtype(representation.mediaType);
+                if (matches) {
+                    quality = Math.max(quality, mediaType.getQualityValue());
+                }
+            }
+            if (quality > chosenQuality) {
+                chosen = representation;
+                chosenQuality = quality;
+            }
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.ResponseCacheProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Cache of serialized resolution response bodies: the bytes of each {@link Representation} of a resolved
+ * resource served so far, and their compressed variants, one per configured {@link ContentCoding}.
+ * Bodies are cached for as long as the resolved payload they were serialized from is reachable, that is
+ * for as long as the resolution cache holds the resource, so a cache hit of a resolution is written out
+ * without serializing it again, and a refreshed or invalidated resource gets new bodies.
+ * Payload instances that are not held by the resolution cache, such as those of resource types it does
+ * not cache, are never looked up again, so the variants of a new body are compressed at the fast level
+ * of their coding. They are compressed again at the high level once the body is served a second time,
+ * and from then on served as they are.
+ * The cache is bounded by the total size of the bodies rather than by their number, as ZKP credential
+ * definitions are a hundred times larger than DID documents.
+ */
+@Component
+public class ResponseBodyCache {
+
+    /**
+     * Approximate heap size of a body besides its bytes, counted in the weight of its entry.
+     */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final ObjectMapper objectMapper;
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final ResponseCacheProperty responseCacheProperty;
+    private final Cache<MultibasePayload, Map<Representation, EncodedBody>> cache;
+
+    public ResponseBodyCache(ObjectMapper objectMapper,
+                             ResponseCacheProperty responseCacheProperty,
+                             CacheProperty cacheProperty,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.responseCacheProperty = responseCacheProperty;
+        if (!responseCacheProperty.isEnabled() || !cacheProperty.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumWeight(responseCacheProperty.getMaximumSize().toBytes())
+                .weigher((MultibasePayload payload, Map<Representation, EncodedBody> bodies) ->
+                        bodies.values().stream().mapToInt(EncodedBody::weight).sum())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "response-body");
+        Gauge.builder("gateway.response.cache.size", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Total size of the cached response bodies")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets a serialized representation of a resolved resource, serializing it on the first call for its
+     * payload and representation.
+     *
+     * @param resourceType The type of the resource in the response DTO.
+     * @param representation The representation to get.
+     * @param body The response DTO.
+     * @param payload The resource data in the response DTO, identifying the body. Bodies are looked up
+     *                by payload instance, not by equality.
+     * @return The serialized body.
+     */
+    public EncodedBody get(ResourceType resourceType, Representation representation, Object body,
+                           MultibasePayload payload) {
+        if (cache == null || payload == null) {
+            return new EncodedBody(serialize(representation, body, payload), Map.of());
+        }
+        Map<Representation, EncodedBody> bodies = cache.getIfPresent(payload);
+        EncodedBody encodedBody = bodies == null ? null : bodies.get(representation);
+        if (encodedBody == null) {
+            encodedBody = encode(resourceType, representation, body, payload, true);
+        } else if (encodedBody.recompress()) {
+            encodedBody = new EncodedBody(encodedBody.identity(), compress(encodedBody.identity(),
+                    encodedBody.variants().keySet(), false));
+        } else {
+            return encodedBody;
+        }
+        // Re-inserting the entry updates its weight.
+        cache.asMap().merge(payload, Map.of(representation, encodedBody), ResponseBodyCache::merge);
+        return encodedBody;
+    }
+
+    /**
+     * Serializes a representation of a resolved resource, with its compressed variants if it is served
+     * compressed, without caching it. A variant is only kept if it is smaller than the uncompressed bytes.
+     *
+     * @param resourceType The type of the resource in the response DTO.
+     * @param representation The representation to serialize.
+     * @param body The response DTO.
+     * @param payload The resource data in the response DTO, or null to serialize the DTO.
+     * @return The serialized body.
+     */
+    public EncodedBody encode(ResourceType resourceType, Representation representation, Object body,
+                              MultibasePayload payload) {
+        return encode(resourceType, representation, body, payload, false);
+    }
+
+    private EncodedBody encode(ResourceType resourceType, Representation representation, Object body,
+                               MultibasePayload payload, boolean fast) {
+        byte[] identity = serialize(representation, body, payload);
+        Map<ContentCoding, byte[]> variants = Map.of();
+        if (identity.length >= responseCacheProperty.getCompressionMinSize(resourceType).toBytes()) {
+            variants = compress(identity, responseCacheProperty.getCodings(), fast);
+        }
+        return new EncodedBody(identity, variants, fast && !variants.isEmpty());
+    }
+
+    /**
+     * Compresses a body in the available codings, keeping the variants smaller than the body.
+     */
+    private static Map<ContentCoding, byte[]> compress(byte[] identity, Collection<ContentCoding> codings,
+                                                       boolean fast) {
+        Map<ContentCoding, byte[]> variants = new EnumMap<>(ContentCoding.class);
+        for (ContentCoding coding : codings) {
+            if (coding.isAvailable()) {
+                byte[] variant = coding.encode(identity, fast);
+                if (variant.length < identity.length) {
+                    variants.put(coding, variant);
+                }
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * Serializes a representation. Without a payload, only the DTO can be, and is, serialized.
+     */
+    private byte[] serialize(Representation representation, Object body, MultibasePayload payload) {
+        try {
+            if (payload == null || representation == Representation.DTO) {
+                return objectMapper.writeValueAsBytes(body);
+            }
+            if (representation == Representation.DOCUMENT) {
+                return payload.toByteArray();
+            }
+            return toCbor(payload.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize response body", e);
+        }
+    }
+
+    /**
+     * Converts JSON to CBOR token by token, without building a tree.
+     */
+    private byte[] toCbor(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json);
+             JsonGenerator generator = cborFactory.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        return out.toByteArray();
+    }
+
+    private static Map<Representation, EncodedBody> merge(Map<Representation, EncodedBody> cached,
+                                                          Map<Representation, EncodedBody> added) {
+        Map<Representation, EncodedBody> merged = new EnumMap<>(cached);
+        added.forEach((representation, body) -> merged.merge(representation, body,
+                (cachedBody, addedBody) -> cachedBody.recompress() ? addedBody : cachedBody));
+        return merged;
+    }
+
+    /**
+     * A serialized response body. The arrays are shared and must not be modified.
+     *
+     * @param identity The uncompressed bytes.
+     * @param variants The compressed bytes per content coding, empty if the body is not served compressed.
+     * @param recompress Whether the variants were compressed at the fast level, to be compressed again at
+     *                   the high level if the body is served again.
+     */
+    public record EncodedBody(byte[] identity, Map<ContentCoding, byte[]> variants, boolean recompress) {
+
+        /**
+         * Constructs a body whose variants, if any, are compressed at the high level.
+         *
+         * @param identity The uncompressed bytes.
+         * @param variants The compressed bytes per content coding, empty if the body is not served compressed.
+         */
+        public EncodedBody(byte[] identity, Map<ContentCoding, byte[]> variants) {
+            this(identity, variants, false);
+        }
+
+        /**
+         * Gets the bytes to serve in the given coding.
+         *
+         * @param coding The content coding, or null for identity.
+         * @return The bytes.
+         */
+        public byte[] bytes(ContentCoding coding) {
+            return coding == null ? identity : variants.get(coding);
+        }
+
+        /**
+         * Chooses the coding to serve the body in.
+         *
+         * @param acceptEncoding The Accept-Encoding header of the request, or null.
+         * @return The chosen coding, or null for identity.
+         * @see ContentCoding#negotiate
+         */
+        public ContentCoding negotiate(String acceptEncoding) {
+            return ContentCoding.negotiate(acceptEncoding, variants.keySet(), coding -> variants.get(coding).length);
+        }
+
+        private int weight() {
+            return ENTRY_OVERHEAD + identity.length + variants.values().stream().mapToInt(variant -> variant.length).sum();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Loads the blockchain SDK properties file (blockchain.properties).
+ * The file is resolved the same way as in the blockchain SDK: an absolute path is read
+ * from the file system, any other path is read from the classpath.
+ */
+public class BlockchainPropertiesLoader {
+
+    public static final String EVM_NETWORK_URL = "evm.network.url";
+    public static final String EVM_CONTRACT_ADDRESS = "evm.contract.address";
+    public static final String EVM_CONNECTION_TIMEOUT = "evm.connection.timeout";
+
+    /**
+     * Loads the properties file at the given path.
+     *
+     * @param filePath Absolute file path or classpath resource path of the properties file.
+     * @return The loaded properties.
+     * @throws IOException if the file cannot be found or read.
+     */
+    public static Properties load(String filePath) throws IOException {
+        Path path = Path.of(filePath);
+        try (InputStream inputStream = path.isAbsolute()
+                ? Files.newInputStream(path)
+                : BlockchainPropertiesLoader.class.getClassLoader().getResourceAsStream(filePath)) {
+            if (inputStream == null) {
+                throw new IOException("Blockchain properties not found: " + filePath);
+            }
+            Properties properties = new Properties();
+            properties.load(inputStream);
+            return properties;
+        }
+    }
+}
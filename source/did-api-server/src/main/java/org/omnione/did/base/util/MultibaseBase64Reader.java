@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.util;
+
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * Reader that produces the multibase base64 encoding of a byte array on the fly.
+ * The characters read are identical to {@code MultiBaseUtils.encode(data, MultiBaseType.base64)}:
+ * the {@code 'm'} prefix followed by standard, unpadded base64. Unlike that method, no encoded copy
+ * of the data is ever held in memory, so the encoding can be streamed into a response.
+ */
+public class MultibaseBase64Reader extends Reader {
+
+    private static final char PREFIX = 'm';
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    private final byte[] data;
+    private final char[] pending = new char[4];
+    private int position;
+    private int pendingPosition;
+    private int pendingLength;
+    private boolean prefixRead;
+
+    /**
+     * Constructs a reader over the given data. The array is not copied.
+     *
+     * @param data The data to encode.
+     */
+    public MultibaseBase64Reader(byte[] data) {
+        this.data = Objects.requireNonNull(data);
+    }
+
+    /**
+     * Gets the number of characters in the multibase base64 encoding of data of the given length.
+     *
+     * @param dataLength The length of the data in bytes.
+     * @return The length of the encoding, including the prefix.
+     */
+    public static int encodedLength(int dataLength) {
+        int remainder = dataLength % 3;
+        return 1 + dataLength / 3 * 4 + (remainder == 0 ? 0 : remainder + 1);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        if (len == 0) {
+            return 0;
+        }
+
+        int read = 0;
+        if (!prefixRead) {
+            cbuf[off + read++] = PREFIX;
+            prefixRead = true;
+        }
+        while (read < len) {
+            if (pendingPosition < pendingLength) {
+                cbuf[off + read++] = pending[pendingPosition++];
+            } else if (data.length - position >= 3 && len - read >= 4) {
+                read += encodeGroup(cbuf, off + read);
+            } else if (position < data.length) {
+                pendingLength = encodeGroup(pending, 0);
+                pendingPosition = 0;
+            } else {
+                break;
+            }
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Encodes the next group of up to three bytes.
+     *
+     * @return The number of characters written: 4 for a full group, 2 or 3 for the final group.
+     */
+    private int encodeGroup(char[] target, int offset) {
+        int remaining = Math.min(3, data.length - position);
+        int b0 = data[position] & 0xff;
+        int b1 = remaining > 1 ? data[position + 1] & 0xff : 0;
+        int b2 = remaining > 2 ? data[position + 2] & 0xff : 0;
+        position += remaining;
+
+        target[offset] = ALPHABET[b0 >>> 2];
+        target[offset + 1] = ALPHABET[(b0 & 0x03) << 4 | b1 >>> 4];
+        if (remaining == 1) {
+            return 2;
+        }
+        target[offset + 2] = ALPHABET[(b1 & 0x0f) << 2 | b2 >>> 6];
+        if (remaining == 2) {
+            return 3;
+        }
+        target[offset + 3] = ALPHABET[b2 & 0x3f];
+        return 4;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.load;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Load test of the DID document endpoint against a slow LSS upstream.
+ * Every gateway request makes one Feign call to a stub LSS that answers after a fixed delay,
+ * with the resolution cache disabled. The test reports throughput and latency percentiles for
+ * increasing numbers of concurrent clients, so the platform-thread and virtual-thread modes can be
+ * compared. Run with {@code ./gradlew loadTest}.
+ */
+@Tag("load")
+abstract class SlowUpstreamLoadTest {
+
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(100);
+    private static final int[] CONCURRENCY_LEVELS = {50, 200, 400, 800};
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final String DID = "did:omn:loadtest";
+    private static final String DID_DOCUMENT = "{\"@context\":[\"https://www.w3.org/ns/did/v1\"],\"id\":\"" + DID + "\"}";
+
+    private static final HttpServer UPSTREAM = startUpstream();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("lss.url", () -> "http://127.0.0.1:" + UPSTREAM.getAddress().getPort());
+        registry.add("cache.enabled", () -> "false");
+    }
+
+    /**
+     * Gets the name of the execution mode under test.
+     */
+    abstract String mode();
+
+    @Test
+    void reportThroughputAndLatencyForConcurrentSlowUpstreamCalls() throws Exception {
+        URI uri = URI.create("http://127.0.0.1:" + port + "/api-gateway/api/v1/did-doc?did=" + DID);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        run(client, uri, 50);
+        System.out.printf("%n%s threads, upstream delay %d ms%n", mode(), UPSTREAM_DELAY.toMillis());
+        System.out.printf("%12s %10s %10s %10s %10s%n", "concurrency", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            LoadResult result = run(client, uri, concurrency);
+            System.out.printf("%12d %10.0f %10d %10d %10d%n", concurrency, result.throughput(),
+                    result.percentile(50), result.percentile(99), result.percentile(100));
+            assertEquals(0, result.failures(), "failed requests at concurrency " + concurrency);
+        }
+    }
+
+    private static LoadResult run(HttpClient client, URI uri, int concurrency) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> {
+                    for (int n = 0; n < REQUESTS_PER_CLIENT; n++) {
+                        long requestStart = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (IOException | InterruptedException e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - requestStart);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        List<Long> sorted = latencies.stream().sorted().toList();
+        return new LoadResult(sorted, elapsed, failures.get());
+    }
+
+    private static HttpServer startUpstream() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/", exchange -> {
+                try {
+                    Thread.sleep(UPSTREAM_DELAY);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body = DID_DOCUMENT.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "text/plain;charset=UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record LoadResult(List<Long> sortedLatencies, long elapsedNanos, int failures) {
+
+        double throughput() {
+            return sortedLatencies.size() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        long percentile(int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.size()) - 1;
+            return Duration.ofNanos(sortedLatencies.get(Math.max(0, index))).toMillis();
+        }
+    }
+}
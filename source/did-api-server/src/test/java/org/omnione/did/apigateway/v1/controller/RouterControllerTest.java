@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.service.BatchResolutionService;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StubStorageService;
+import org.omnione.did.apigateway.v1.service.async.ExecutorAsyncStorageService;
+import org.omnione.did.apigateway.v1.service.warmup.AccessHistory;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.constants.UrlConstant;
+import org.omnione.did.base.controller.GlobalControllerAdvice;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.BatchProperty;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.HttpCacheProperty;
+import org.omnione.did.base.property.OffHeapCacheProperty;
+import org.omnione.did.base.property.ResponseCacheProperty;
+import org.omnione.did.base.property.WarmupProperty;
+import org.omnione.did.base.response.CacheableResponseFactory;
+import org.omnione.did.base.response.OffHeapResponseCache;
+import org.omnione.did.base.response.ResponseBodyCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RouterControllerTest {
+
+    private final BatchProperty batchProperty = new BatchProperty();
+    private final HttpCacheProperty httpCacheProperty = new HttpCacheProperty();
+    private final ExecutorService batchExecutor = Executors.newFixedThreadPool(2);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new RouterController(
+                    new ExecutorAsyncStorageService(backend(), Runnable::run),
+                    new BatchResolutionService(backend(),
+                            batchProperty, batchExecutor, new AccessHistory(new WarmupProperty())),
+                    new CacheableResponseFactory(httpCacheProperty,
+                            new ResponseBodyCache(new ObjectMapper(), new ResponseCacheProperty(), new CacheProperty(),
+                                    new SimpleMeterRegistry()),
+                            new OffHeapResponseCache(new OffHeapCacheProperty(), new CacheProperty(),
+                                    new SimpleMeterRegistry()),
+                            new AccessHistory(new WarmupProperty()))))
+            .setControllerAdvice(new GlobalControllerAdvice())
+            .build();
+
+    @AfterEach
+    void shutdown() {
+        batchExecutor.shutdownNow();
+    }
+
+    @Test
+    void answersABatchWithAResultPerRequestedIdentifier() throws Exception {
+        mockMvc.perform(post(UrlConstant.GateWay.V1 + UrlConstant.GateWay.DID_DOC_BATCH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"did:omn:a\", \"did:omn:unknown\", \"did:omn:a\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].id").value("did:omn:a"))
+                .andExpect(jsonPath("$.results[0].data.didDoc").exists())
+                .andExpect(jsonPath("$.results[0].error").doesNotExist())
+                .andExpect(jsonPath("$.results[1].id").value("did:omn:unknown"))
+                .andExpect(jsonPath("$.results[1].data").doesNotExist())
+                .andExpect(jsonPath("$.results[1].error.code").value(ErrorCode.DID_NOT_FOUND.getCode()))
+                .andExpect(jsonPath("$.results[2].id").value("did:omn:a"));
+    }
+
+    @Test
+    void rejectsABatchLargerThanTheMaximumSize() throws Exception {
+        batchProperty.setMaxSize(2);
+
+        mockMvc.perform(post(UrlConstant.GateWay.V1 + UrlConstant.GateWay.VC_META_BATCH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"vc-1\", \"vc-2\", \"vc-3\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.BATCH_SIZE_EXCEEDED.getCode()));
+    }
+
+    @Test
+    void rejectsAnEmptyBatch() throws Exception {
+        mockMvc.perform(post(UrlConstant.GateWay.V1 + UrlConstant.GateWay.DID_DOC_BATCH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void answersWithTheETagAndCacheControlOfTheResourceType() throws Exception {
+        httpCacheProperty.getMaxAge().put(ResourceType.DID_DOC, Duration.ofMinutes(5));
+
+        mockMvc.perform(asyncDispatch(getDid(null)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andExpect(jsonPath("$.didDoc").exists());
+    }
+
+    @Test
+    void answersNotModifiedWhenTheETagMatches() throws Exception {
+        String eTag = mockMvc.perform(asyncDispatch(getDid(null))).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(asyncDispatch(getDid(eTag)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void answersTheResourceWhenTheETagDoesNotMatch() throws Exception {
+        mockMvc.perform(asyncDispatch(getDid("\"outdated\"")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.didDoc").exists());
+    }
+
+    @Test
+    void leavesOutCachingHeadersIfDisabled() throws Exception {
+        httpCacheProperty.setEnabled(false);
+
+        mockMvc.perform(asyncDispatch(getDid(null)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+    }
+
+    private MvcResult getDid(String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder builder = get(UrlConstant.GateWay.V1 + UrlConstant.GateWay.DID_DOC)
+                .param("did", "did:omn:a");
+        if (ifNoneMatch != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    /**
+     * Creates a backend answering DID lookups with the DID, except for "did:omn:unknown" which is not found.
+     */
+    private static StorageService backend() {
+        return new StubStorageService(did -> {
+            if (did.equals("did:omn:unknown")) {
+                throw new OpenDidException(ErrorCode.DID_NOT_FOUND);
+            }
+            return StubStorageService.didDoc(did);
+        });
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.dto.BatchItemResDto;
+import org.omnione.did.apigateway.v1.dto.BatchResDto;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.service.warmup.AccessHistory;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.BatchProperty;
+import org.omnione.did.base.property.WarmupProperty;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchResolutionServiceTest {
+
+    private final Queue<List<String>> partitions = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Backend recording the partitions it is asked for and answering DID lookups with the DID.
+     * "did:omn:unknown" is not found, "did:omn:error" fails unexpectedly and a partition holding
+     * "did:omn:broken" fails as a whole.
+     */
+    private final StorageService storageService = new StubStorageService(did -> switch (did) {
+        case "did:omn:unknown" -> throw new OpenDidException(ErrorCode.DID_NOT_FOUND);
+        case "did:omn:error" -> throw new IllegalStateException("unexpected answer");
+        default -> StubStorageService.didDoc(did);
+    }) {
+        @Override
+        public List<BatchResult<DidDocResDto>> findDidDocuments(List<String> dids) {
+            partitions.add(dids);
+            if (dids.contains("did:omn:broken")) {
+                throw new IllegalStateException("connection reset");
+            }
+            return super.findDidDocuments(dids);
+        }
+    };
+    private final BatchProperty batchProperty = new BatchProperty();
+    private final ExecutorService batchExecutor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        batchExecutor.shutdownNow();
+    }
+
+    @Test
+    void looksUpEachIdentifierOnceAndAnswersInRequestOrder() {
+        BatchResDto<DidDocResDto> response = batchResolutionService()
+                .findDidDocuments(List.of("did:omn:b", "did:omn:a", "did:omn:b", "did:omn:c"));
+
+        assertEquals(List.of("did:omn:b", "did:omn:a", "did:omn:b", "did:omn:c"), ids(response));
+        assertEquals(List.of("did:omn:b", "did:omn:a", "did:omn:b", "did:omn:c"),
+                response.getResults().stream().map(item -> payload(item.getData())).toList());
+        assertEquals(3, partitions.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void splitsTheLookupIntoPartitionsOfTheParallelism() {
+        batchProperty.setParallelism(3);
+
+        batchResolutionService().findDidDocuments(List.of(
+                "did:omn:1", "did:omn:2", "did:omn:3", "did:omn:4", "did:omn:5", "did:omn:6", "did:omn:7"));
+
+        assertEquals(List.of(3, 3, 1), partitions.stream().map(List::size).sorted((a, b) -> b - a).toList());
+    }
+
+    @Test
+    void rejectsBatchesLargerThanTheMaximumSize() {
+        batchProperty.setMaxSize(2);
+
+        OpenDidException e = assertThrows(OpenDidException.class,
+                () -> batchResolutionService().findDidDocuments(List.of("did:omn:1", "did:omn:2", "did:omn:3")));
+        assertEquals(ErrorCode.BATCH_SIZE_EXCEEDED, e.getErrorCode());
+        assertEquals(0, partitions.size());
+    }
+
+    @Test
+    void reportsTheErrorOfEachFailedItem() {
+        batchProperty.setParallelism(1);
+
+        BatchResDto<DidDocResDto> response = batchResolutionService()
+                .findDidDocuments(List.of("did:omn:a", "did:omn:unknown", "did:omn:error"));
+
+        BatchItemResDto<DidDocResDto> found = response.getResults().get(0);
+        assertEquals("did:omn:a", payload(found.getData()));
+        assertNull(found.getError());
+        BatchItemResDto<DidDocResDto> notFound = response.getResults().get(1);
+        assertNull(notFound.getData());
+        assertEquals(ErrorCode.DID_NOT_FOUND.getCode(), notFound.getError().getCode());
+        assertEquals(ErrorCode.GET_DID_DOC_FAILED.getCode(), response.getResults().get(2).getError().getCode());
+    }
+
+    @Test
+    void failsEveryItemOfAFailedPartition() {
+        batchProperty.setParallelism(2);
+
+        BatchResDto<DidDocResDto> response = batchResolutionService()
+                .findDidDocuments(List.of("did:omn:a", "did:omn:b", "did:omn:broken", "did:omn:c"));
+
+        assertEquals("did:omn:a", payload(response.getResults().get(0).getData()));
+        assertEquals("did:omn:b", payload(response.getResults().get(1).getData()));
+        assertEquals(ErrorCode.GET_DID_DOC_FAILED.getCode(), response.getResults().get(2).getError().getCode());
+        assertEquals(ErrorCode.GET_DID_DOC_FAILED.getCode(), response.getResults().get(3).getError().getCode());
+    }
+
+    private BatchResolutionService batchResolutionService() {
+        return new BatchResolutionService(storageService, batchProperty, batchExecutor,
+                new AccessHistory(new WarmupProperty()));
+    }
+
+    private static List<String> ids(BatchResDto<?> response) {
+        return response.getResults().stream().map(BatchItemResDto::getId).toList();
+    }
+
+    private static String payload(DidDocResDto didDoc) {
+        return new String(didDoc.getDidDoc().toByteArray());
+    }
+}
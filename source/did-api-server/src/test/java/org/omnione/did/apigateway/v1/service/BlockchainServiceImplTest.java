@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.ContractApi;
+import org.omnione.did.apigateway.v1.service.cache.CachingStorageService;
+import org.omnione.did.apigateway.v1.service.cache.ResolutionCache;
+import org.omnione.did.apigateway.v1.service.metrics.ResolutionMetrics;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.BlockchainProperty;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.OffHeapCacheProperty;
+import org.omnione.exception.BlockChainException;
+import org.omnione.exception.BlockchainErrorCode;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.lang.reflect.Proxy;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BlockchainServiceImplTest {
+
+    private static final String DID = "did:omn:unknown";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void mapsARevertToNotFound() {
+        BlockchainServiceImpl blockchainService = blockchainService(reverted());
+
+        assertEquals(ErrorCode.DID_NOT_FOUND, errorCode(() -> blockchainService.findDidDocument(DID)));
+        assertEquals(ErrorCode.VC_NOT_FOUND, errorCode(() -> blockchainService.findVcMeta("vc")));
+        assertEquals(ErrorCode.VC_SCHEMA_NOT_FOUND, errorCode(() -> blockchainService.findVcSchema("schema")));
+        assertEquals(ErrorCode.ZKP_CRED_SCHEMA_NOT_FOUND, errorCode(() -> blockchainService.findZkpCredSchema("id")));
+        assertEquals(ErrorCode.ZKP_CRED_DEF_NOT_FOUND, errorCode(() -> blockchainService.findZkpCredDef("id")));
+    }
+
+    @Test
+    void mapsAnEmptyAnswerToNotFound() {
+        BlockchainServiceImpl blockchainService = blockchainService(null);
+
+        assertEquals(ErrorCode.DID_NOT_FOUND, errorCode(() -> blockchainService.findDidDocument(DID)));
+        assertEquals(ErrorCode.ZKP_CRED_DEF_NOT_FOUND, errorCode(() -> blockchainService.findZkpCredDef("id")));
+    }
+
+    @Test
+    void mapsAConnectionFailureToARetrievalError() {
+        BlockchainServiceImpl blockchainService = blockchainService(
+                new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, new ConnectException("refused")));
+
+        assertEquals(ErrorCode.GET_DID_DOC_FAILED, errorCode(() -> blockchainService.findDidDocument(DID)));
+        assertEquals(ErrorCode.VC_META_RETRIEVAL_FAILED, errorCode(() -> blockchainService.findVcMeta("vc")));
+    }
+
+    @Test
+    void reportsAVcSchemaLookupThePlatformDoesNotSupport() {
+        BlockchainServiceImpl blockchainService = blockchainService(
+                new UnsupportedOperationException("getVcSchema is not supported on Fabric"));
+
+        assertEquals(ErrorCode.VC_SCHEMA_NOT_SUPPORTED, errorCode(() -> blockchainService.findVcSchema("schema")));
+    }
+
+    @Test
+    void servesAnUnknownIdentifierFromTheNegativeCache() {
+        CacheProperty cacheProperty = new CacheProperty();
+        cacheProperty.getNegativeTtl().put(ResourceType.DID_DOC, Duration.ofMinutes(1));
+        cacheProperty.getNegativeTtl().put(ResourceType.VC_META, Duration.ofMinutes(1));
+        CachingStorageService storageService = new CachingStorageService(blockchainService(reverted()),
+                new ResolutionCache(cacheProperty, new OffHeapCacheProperty(), meterRegistry),
+                Runnable::run, meterRegistry);
+
+        assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+        assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+        assertThrows(OpenDidException.class, () -> storageService.findVcMeta("vc"));
+        assertThrows(OpenDidException.class, () -> storageService.findVcMeta("vc"));
+
+        assertEquals(2, calls.get());
+    }
+
+    private BlockchainServiceImpl blockchainService(Object answer) {
+        ContractApi contractApi = (ContractApi) Proxy.newProxyInstance(ContractApi.class.getClassLoader(),
+                new Class<?>[]{ContractApi.class}, (proxy, method, args) -> {
+                    calls.incrementAndGet();
+                    if (answer instanceof Exception e) {
+                        throw e;
+                    }
+                    return answer;
+                });
+        return new BlockchainServiceImpl(contractApi, new BlockchainProperty(), new ResolutionMetrics(meterRegistry));
+    }
+
+    /**
+     * A revert as the EVM client reports it: wrapped in a RuntimeException and classified as a connection error.
+     */
+    static BlockChainException reverted() {
+        return new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, new RuntimeException(
+                new ContractCallException("Contract Call has been reverted by the EVM with the reason: 'DID not found'")));
+    }
+
+    private static ErrorCode errorCode(Runnable lookup) {
+        return assertThrows(OpenDidException.class, lookup::run).getErrorCode();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service;
+
+import org.junit.jupiter.api.Test;
+import org.omnione.exception.BlockChainException;
+import org.omnione.exception.BlockchainErrorCode;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.exceptions.JsonRpcError;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.net.ConnectException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContractFailuresTest {
+
+    private static final String REVERT = "Contract Call has been reverted by the EVM with the reason: 'DID not found'";
+
+    @Test
+    void classifiesAnInvalidKeyUrlAsAnAnswer() {
+        assertTrue(ContractFailures.isContractAnswer(
+                new BlockChainException(BlockchainErrorCode.DID_KEY_URL_PARSING_ERROR, null)));
+    }
+
+    @Test
+    void classifiesTransactionErrorsByTheirCause() {
+        assertTrue(ContractFailures.isContractAnswer(
+                new BlockChainException(BlockchainErrorCode.TRANSACTION_ERROR, new ContractCallException(REVERT))));
+        assertTrue(ContractFailures.isContractAnswer(new BlockChainException(BlockchainErrorCode.TRANSACTION_ERROR,
+                new IllegalStateException("chaincode response 500, DID not found"))));
+        assertFalse(ContractFailures.isContractAnswer(new BlockChainException(BlockchainErrorCode.TRANSACTION_ERROR,
+                new IllegalStateException("UNAVAILABLE: io exception"))));
+    }
+
+    @Test
+    void classifiesConnectionErrorsByTheirCause() {
+        assertTrue(ContractFailures.isContractAnswer(new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR,
+                new RuntimeException(new ContractCallException(REVERT)))));
+        assertFalse(ContractFailures.isContractAnswer(
+                new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, new ConnectException("refused"))));
+        assertFalse(ContractFailures.isContractAnswer(new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR,
+                new IllegalStateException("chaincode response 500, DID not found"))));
+    }
+
+    @Test
+    void classifiesWeb3jExceptionsByType() {
+        assertTrue(ContractFailures.isContractAnswer(new RuntimeException(new ContractCallException(REVERT))));
+        assertTrue(ContractFailures.isContractAnswer(new JsonRpcError(new Response.Error(3, "execution reverted"))));
+        assertFalse(ContractFailures.isContractAnswer(
+                new JsonRpcError(new Response.Error(-32005, "request rate exceeded"))));
+        assertFalse(ContractFailures.isContractAnswer(new ClientConnectionException("Invalid response received: 502")));
+    }
+
+    @Test
+    void doesNotClassifyOtherFailuresAsAnswersByTheirMessage() {
+        assertFalse(ContractFailures.isContractAnswer(new IllegalStateException(REVERT)));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service;
+
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.apigateway.v1.dto.VcMetaResDto;
+import org.omnione.did.apigateway.v1.dto.VcSchemaResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
+import org.omnione.did.apigateway.v1.dto.ZkpCredSchemaResDto;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Backend answering DID lookups with a given function, for the tests of the StorageService decorators.
+ * Lookups of the other resource types are not supported.
+ */
+public class StubStorageService implements StorageService {
+
+    private final String backendName;
+    private final Function<String, DidDocResDto> didDocuments;
+
+    /**
+     * Constructs a backend answering each DID with a document holding the DID.
+     */
+    public StubStorageService() {
+        this(StubStorageService::didDoc);
+    }
+
+    /**
+     * Constructs a backend answering DID lookups with the given function.
+     *
+     * @param didDocuments Resolves a DID, or throws to fail the lookup.
+     */
+    public StubStorageService(Function<String, DidDocResDto> didDocuments) {
+        this("test", didDocuments);
+    }
+
+    /**
+     * Constructs a named backend answering DID lookups with the given function.
+     *
+     * @param backendName The name of the backend.
+     * @param didDocuments Resolves a DID, or throws to fail the lookup.
+     */
+    public StubStorageService(String backendName, Function<String, DidDocResDto> didDocuments) {
+        this.backendName = backendName;
+        this.didDocuments = didDocuments;
+    }
+
+    @Override
+    public DidDocResDto findDidDocument(String did) {
+        return didDocuments.apply(did);
+    }
+
+    @Override
+    public VcMetaResDto findVcMeta(String vcId) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public VcSchemaResDto findVcSchema(String schemaId) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ZkpCredSchemaResDto findZkpCredSchema(String id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ZkpCredDefResDto findZkpCredDef(String id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getBackendName() {
+        return backendName;
+    }
+
+    /**
+     * Creates a DID document whose payload is the given text.
+     *
+     * @param content The payload of the document.
+     * @return The DID document.
+     */
+    public static DidDocResDto didDoc(String content) {
+        return DidDocResDto.builder().didDoc(MultibasePayload.of(content.getBytes())).build();
+    }
+
+    /**
+     * Pauses a lookup for the given time, keeping the interrupt status if it is interrupted.
+     *
+     * @param millis The time to pause in milliseconds.
+     */
+    public static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Blocks a lookup until the latch is released, for at most 5 seconds, keeping the interrupt status
+     * if it is interrupted.
+     *
+     * @param latch The latch to wait for.
+     */
+    public static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.async;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.service.AsyncStorageService;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StubStorageService;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.BackendExecutorProperty;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutorAsyncStorageServiceTest {
+
+    private static final String CACHED = "did:omn:cached";
+    private static final String UNKNOWN = "did:omn:unknown";
+
+    private final BackendExecutorProperty backendExecutorProperty = new BackendExecutorProperty();
+    private final BackendExecutors backendExecutors =
+            new BackendExecutors(backendExecutorProperty, new SimpleMeterRegistry(), new MockEnvironment());
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * Backend whose DID lookups block until released. One DID is cached and one is known not to resolve,
+     * both without a backend lookup.
+     */
+    private final StorageService backend = new StubStorageService(did -> {
+        lookups.incrementAndGet();
+        entered.countDown();
+        StubStorageService.await(release);
+        return StubStorageService.didDoc(did);
+    }) {
+        @Override
+        public Object findCached(ResourceType resourceType, String id) {
+            if (id.equals(UNKNOWN)) {
+                throw new OpenDidException(ErrorCode.DID_NOT_FOUND);
+            }
+            return id.equals(CACHED) ? StubStorageService.didDoc(id) : null;
+        }
+    };
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        backendExecutors.shutdown();
+    }
+
+    @Test
+    void rejectsLookupsBeyondTheQueueOfTheBackendExecutor() throws Exception {
+        backendExecutorProperty.setDefaultPoolSize(1);
+        backendExecutorProperty.setQueueCapacity(1);
+        AsyncStorageService storageService =
+                new ExecutorAsyncStorageService(backend, backendExecutors.forBackend("test"));
+
+        CompletableFuture<DidDocResDto> running = storageService.findDidDocument("did:omn:a");
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<DidDocResDto> queued = storageService.findDidDocument("did:omn:b");
+        CompletableFuture<DidDocResDto> rejected = storageService.findDidDocument("did:omn:c");
+
+        assertEquals(ErrorCode.BACKEND_BUSY, errorCode(rejected));
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void servesCachedResourcesWhileTheBackendExecutorIsSaturated() throws Exception {
+        backendExecutorProperty.setDefaultPoolSize(1);
+        backendExecutorProperty.setQueueCapacity(1);
+        AsyncStorageService storageService =
+                new ExecutorAsyncStorageService(backend, backendExecutors.forBackend("test"));
+        storageService.findDidDocument("did:omn:a");
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        storageService.findDidDocument("did:omn:b");
+
+        CompletableFuture<DidDocResDto> cached = storageService.findDidDocument(CACHED);
+        CompletableFuture<DidDocResDto> unknown = storageService.findDidDocument(UNKNOWN);
+
+        assertTrue(cached.isDone());
+        assertEquals(CACHED, new String(cached.get().getDidDoc().toByteArray()));
+        assertEquals(ErrorCode.DID_NOT_FOUND, errorCode(unknown));
+        assertEquals(1, lookups.get());
+    }
+
+    private static ErrorCode errorCode(CompletableFuture<?> lookup) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> lookup.get(5, TimeUnit.SECONDS));
+        return assertInstanceOf(OpenDidException.class, e.getCause()).getErrorCode();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.ContractApi;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.service.BlockchainServiceImpl;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StubStorageService;
+import org.omnione.did.apigateway.v1.service.metrics.ResolutionMetrics;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.BlockchainProperty;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.OffHeapCacheProperty;
+import org.omnione.did.data.model.did.DidDocAndStatus;
+import org.omnione.did.data.model.did.DidDocument;
+import org.omnione.did.data.model.enums.did.DidDocStatus;
+import org.omnione.exception.BlockChainException;
+import org.omnione.exception.BlockchainErrorCode;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingStorageServiceTest {
+
+    private static final String DID = "did:omn:test";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private volatile ErrorCode failWith;
+    private final StorageService backend = new StubStorageService(did -> {
+        if (failWith != null) {
+            throw new OpenDidException(failWith);
+        }
+        return StubStorageService.didDoc(String.valueOf(lookups.incrementAndGet()));
+    });
+
+    @Test
+    void servesRepeatedLookupsFromTheCache() {
+        CachingStorageService storageService = cachingStorageService(Duration.ofMinutes(1), Duration.ofMinutes(1), false);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("1", payload(storageService.findDidDocument(DID)));
+        }
+        storageService.findDidDocument("did:omn:other");
+
+        assertEquals(2, lookups.get());
+        assertEquals(4, cacheRequests("hit"));
+        assertEquals(2, cacheRequests("miss"));
+    }
+
+    @Test
+    void doesNotCacheTypesWithAZeroTimeToLive() {
+        CachingStorageService storageService = cachingStorageService(Duration.ZERO, Duration.ZERO, false);
+
+        assertEquals("1", payload(storageService.findDidDocument(DID)));
+        assertEquals("2", payload(storageService.findDidDocument(DID)));
+        assertEquals(0, cacheRequests("hit"));
+    }
+
+    @Test
+    void servesStaleResourceAndRevalidatesInTheBackground() throws Exception {
+        CachingStorageService storageService = cachingStorageService(Duration.ofMillis(50), Duration.ofMinutes(1), false);
+
+        assertEquals("1", payload(storageService.findDidDocument(DID)));
+        Thread.sleep(100);
+
+        assertEquals("1", payload(storageService.findDidDocument(DID)));
+        waitForLookups(2);
+        assertEquals("2", payload(storageService.findDidDocument(DID)));
+    }
+
+    @Test
+    void blocksOnceTheHardTimeToLiveHasPassed() throws Exception {
+        CachingStorageService storageService = cachingStorageService(Duration.ofMillis(20), Duration.ofMillis(50), false);
+
+        assertEquals("1", payload(storageService.findDidDocument(DID)));
+        Thread.sleep(100);
+
+        assertEquals("2", payload(storageService.findDidDocument(DID)));
+    }
+
+    @Test
+    void servesStaleResourceWhenTheBackendFails() throws Exception {
+        CachingStorageService storageService = cachingStorageService(Duration.ofMillis(50), Duration.ofMillis(50), true);
+
+        assertEquals("1", payload(storageService.findDidDocument(DID)));
+        Thread.sleep(100);
+        failWith = ErrorCode.GET_DID_DOC_FAILED;
+
+        assertEquals("1", payload(storageService.findDidDocument(DID)));
+        assertEquals(1, meterRegistry.get("gateway.resolution.cache.stale").tag("reason", "error").counter().count());
+    }
+
+    @Test
+    void doesNotServeStaleResourceWhenItIsNotFound() throws Exception {
+        CachingStorageService storageService = cachingStorageService(Duration.ofMillis(50), Duration.ofMillis(50), true);
+
+        storageService.findDidDocument(DID);
+        Thread.sleep(100);
+        failWith = ErrorCode.DID_NOT_FOUND;
+
+        assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+    }
+
+    @Test
+    void doesNotServeStaleResourceWhenTheBlockchainReportsItNotFound() throws Exception {
+        DidDocument didDocument = new DidDocument();
+        didDocument.setContext(List.of("https://www.w3.org/ns/did/v1"));
+        didDocument.setId(DID);
+        didDocument.setController(DID);
+        didDocument.setCreated("2024-01-01T00:00:00Z");
+        didDocument.setUpdated("2024-01-01T00:00:00Z");
+        didDocument.setVersionId("1");
+        Object[] answer = {new DidDocAndStatus(didDocument, DidDocStatus.ACTIVATED)};
+        ContractApi contractApi = (ContractApi) Proxy.newProxyInstance(ContractApi.class.getClassLoader(),
+                new Class<?>[]{ContractApi.class}, (proxy, method, args) -> {
+                    if (answer[0] instanceof Exception e) {
+                        throw e;
+                    }
+                    return answer[0];
+                });
+        CachingStorageService storageService = cachingStorageService(new BlockchainServiceImpl(contractApi,
+                new BlockchainProperty(), new ResolutionMetrics(meterRegistry)),
+                Duration.ofMillis(50), Duration.ofMillis(50), true);
+
+        storageService.findDidDocument(DID);
+        Thread.sleep(100);
+        answer[0] = new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, new RuntimeException(
+                new ContractCallException("Contract Call has been reverted by the EVM with the reason: 'DID not found'")));
+
+        OpenDidException e = assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+        assertEquals(ErrorCode.DID_NOT_FOUND, e.getErrorCode());
+        assertNull(meterRegistry.find("gateway.resolution.cache.stale").tag("reason", "error").counter());
+    }
+
+    @Test
+    void cachesNotFoundLookupsForTheNegativeTimeToLive() throws Exception {
+        CachingStorageService storageService = cachingStorageService(Duration.ofMinutes(1), Duration.ofMinutes(1), false);
+        failWith = ErrorCode.DID_NOT_FOUND;
+
+        assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+        failWith = null;
+        assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+        assertThrows(OpenDidException.class, () -> storageService.findCached(ResourceType.DID_DOC, DID));
+        Thread.sleep(100);
+
+        assertEquals("1", payload(storageService.findDidDocument(DID)));
+    }
+
+    private CachingStorageService cachingStorageService(Duration softTtl, Duration ttl, boolean staleIfError) {
+        return cachingStorageService(backend, softTtl, ttl, staleIfError);
+    }
+
+    private CachingStorageService cachingStorageService(StorageService backend, Duration softTtl, Duration ttl,
+                                                        boolean staleIfError) {
+        CacheProperty cacheProperty = new CacheProperty();
+        cacheProperty.getSoftTtl().put(ResourceType.DID_DOC, softTtl);
+        cacheProperty.getTtl().put(ResourceType.DID_DOC, ttl);
+        cacheProperty.getStaleIfError().put(ResourceType.DID_DOC, staleIfError);
+        cacheProperty.getNegativeTtl().put(ResourceType.DID_DOC, Duration.ofMillis(50));
+        return new CachingStorageService(backend, new ResolutionCache(cacheProperty, new OffHeapCacheProperty(), meterRegistry),
+                Runnable::run, meterRegistry);
+    }
+
+    private double cacheRequests(String result) {
+        return meterRegistry.get("gateway.resolution.cache.requests")
+                .tag("type", ResourceType.DID_DOC.getName())
+                .tag("result", result)
+                .counter().count();
+    }
+
+    private void waitForLookups(int lookups) throws InterruptedException {
+        for (int i = 0; i < 100 && this.lookups.get() < lookups; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static String payload(DidDocResDto didDoc) {
+        return new String(didDoc.getDidDoc().toByteArray());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.coalesce;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StubStorageService;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingStorageServiceTest {
+
+    private static final String DID = "did:omn:test";
+    private static final int CALLERS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger backendLookups = new AtomicInteger();
+    private volatile ErrorCode failWith;
+    private final StorageService backend = new StubStorageService(did -> {
+        backendLookups.incrementAndGet();
+        entered.countDown();
+        StubStorageService.await(release);
+        if (failWith != null) {
+            throw new OpenDidException(failWith);
+        }
+        return StubStorageService.didDoc(did);
+    });
+    private final CoalescingStorageService storageService = new CoalescingStorageService(backend, meterRegistry);
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void sharesOneBackendLookupBetweenConcurrentCallers() throws Exception {
+        List<Future<DidDocResDto>> lookups = lookUpConcurrently();
+        release.countDown();
+
+        DidDocResDto first = lookups.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<DidDocResDto> lookup : lookups) {
+            assertSame(first, lookup.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, backendLookups.get());
+    }
+
+    @Test
+    void propagatesTheFailureToEveryWaitingCaller() throws Exception {
+        failWith = ErrorCode.GET_DID_DOC_FAILED;
+        List<Future<DidDocResDto>> lookups = lookUpConcurrently();
+        release.countDown();
+
+        for (Future<DidDocResDto> lookup : lookups) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> lookup.get(5, TimeUnit.SECONDS));
+            OpenDidException cause = assertInstanceOf(OpenDidException.class, e.getCause());
+            assertEquals(ErrorCode.GET_DID_DOC_FAILED, cause.getErrorCode());
+        }
+        assertEquals(1, backendLookups.get());
+    }
+
+    @Test
+    void forgetsTheLookupOnceItSucceeded() {
+        release.countDown();
+
+        storageService.findDidDocument(DID);
+        storageService.findDidDocument(DID);
+
+        assertEquals(2, backendLookups.get());
+    }
+
+    @Test
+    void forgetsTheLookupOnceItFailed() {
+        release.countDown();
+        failWith = ErrorCode.GET_DID_DOC_FAILED;
+
+        assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+        failWith = null;
+        storageService.findDidDocument(DID);
+
+        assertEquals(2, backendLookups.get());
+    }
+
+    /**
+     * Starts concurrent lookups of the same DID and waits until the first one holds the backend
+     * and all others wait for it.
+     */
+    private List<Future<DidDocResDto>> lookUpConcurrently() throws InterruptedException {
+        List<Future<DidDocResDto>> lookups = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            lookups.add(callers.submit(() -> storageService.findDidDocument(DID)));
+        }
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 500 && coalesced() < CALLERS - 1; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(CALLERS - 1, coalesced());
+        return lookups;
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("gateway.resolution.coalesced").tag("type", "did-doc").counter().count();
+    }
+}
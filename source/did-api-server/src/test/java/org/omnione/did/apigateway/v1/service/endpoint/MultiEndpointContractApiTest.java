@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.endpoint;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.ContractApi;
+import org.omnione.did.base.property.RpcEndpointProperty;
+import org.omnione.exception.BlockChainException;
+import org.omnione.exception.BlockchainErrorCode;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiEndpointContractApiTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void hedgesToTheNextEndpointWhenThePrimaryIsSlow() throws Exception {
+        RpcEndpoint slow = endpoint("http://node1:8545", answering("slow", 2000));
+        RpcEndpoint fast = endpoint("http://node2:8545", answering("fast", 0));
+        MultiEndpointContractApi contractApi = contractApi("hedged", slow, fast);
+
+        long start = System.nanoTime();
+        assertEquals("fast", contractApi.getDidDoc("did:omn:test"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertEquals(1, meterRegistry.get("gateway.rpc.hedges").tag("outcome", "won").counter().count());
+    }
+
+    @Test
+    void doesNotHedgeWhenThePrimaryAnswersInTime() throws Exception {
+        AtomicInteger secondaryCalls = new AtomicInteger();
+        RpcEndpoint primary = endpoint("http://node1:8545", answering("primary", 0));
+        RpcEndpoint secondary = endpoint("http://node2:8545", counting(secondaryCalls));
+        MultiEndpointContractApi contractApi = contractApi("hedged", primary, secondary);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("primary", contractApi.getDidDoc("did:omn:test"));
+        }
+        assertEquals(0, secondaryCalls.get());
+    }
+
+    @Test
+    void failsOverAndEjectsAFailingEndpoint() throws Exception {
+        RpcEndpoint failing = endpoint("http://node1:8545", failing());
+        RpcEndpoint healthy = endpoint("http://node2:8545", answering("healthy", 0));
+
+        for (String mode : List.of("hedged", "latency-weighted")) {
+            MultiEndpointContractApi contractApi = contractApi(mode, failing, healthy);
+            for (int i = 0; i < 3; i++) {
+                assertEquals("healthy", contractApi.getVcMetadata("vc"));
+            }
+        }
+        assertFalse(failing.isHealthy());
+        assertTrue(healthy.isHealthy());
+    }
+
+    @Test
+    void failsWhenEveryEndpointFails() {
+        MultiEndpointContractApi contractApi = contractApi("hedged",
+                endpoint("http://node1:8545", failing()), endpoint("http://node2:8545", failing()));
+
+        assertThrows(IllegalStateException.class, () -> contractApi.getDidDoc("did:omn:test"));
+    }
+
+    @Test
+    void returnsAContractAnswerWithoutRetryingOrEjecting() {
+        AtomicInteger calls = new AtomicInteger();
+        RpcEndpoint first = endpoint("http://node1:8545", reverting(calls));
+        RpcEndpoint second = endpoint("http://node2:8545", reverting(calls));
+
+        for (String mode : List.of("hedged", "latency-weighted")) {
+            MultiEndpointContractApi contractApi = contractApi(mode, first, second);
+            for (int i = 0; i < 5; i++) {
+                assertThrows(BlockChainException.class, () -> contractApi.getDidDoc("did:omn:unknown"));
+            }
+        }
+        assertEquals(10, calls.get());
+        assertTrue(first.isHealthy());
+        assertTrue(second.isHealthy());
+    }
+
+    @Test
+    void runsReadsInTheCallingThreadWhenTheExecutorIsSaturated() throws Exception {
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            saturated.execute(() -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            RpcEndpointProperty property = new RpcEndpointProperty();
+            MultiEndpointContractApi contractApi = new MultiEndpointContractApi(
+                    List.of(endpoint("http://node1:8545", answering("answer", 0))), property, saturated, meterRegistry);
+
+            assertEquals("answer", contractApi.getDidDoc("did:omn:test"));
+            release.countDown();
+        } finally {
+            saturated.shutdownNow();
+        }
+    }
+
+    @Test
+    void prefersTheFastestEndpointInLatencyWeightedMode() throws Exception {
+        AtomicInteger fastCalls = new AtomicInteger();
+        RpcEndpoint slow = endpoint("http://node1:8545", answering("slow", 20));
+        RpcEndpoint fast = endpoint("http://node2:8545", counting(fastCalls));
+        MultiEndpointContractApi contractApi = contractApi("latency-weighted", slow, fast);
+
+        for (int i = 0; i < 20; i++) {
+            contractApi.getDidDoc("did:omn:test");
+        }
+        assertTrue(fastCalls.get() >= 18, "fast endpoint served " + fastCalls.get() + " of 20 reads");
+    }
+
+    private MultiEndpointContractApi contractApi(String mode, RpcEndpoint... endpoints) {
+        RpcEndpointProperty property = new RpcEndpointProperty();
+        property.setMode(mode);
+        property.setHedgeMaxDelay(Duration.ofMillis(50));
+        return new MultiEndpointContractApi(List.of(endpoints), property, executor, meterRegistry);
+    }
+
+    private RpcEndpoint endpoint(String url, ContractApi contractApi) {
+        return new RpcEndpoint(url, contractApi, 3, Duration.ofSeconds(30).toNanos(), meterRegistry);
+    }
+
+    private static ContractApi answering(Object answer, long delayMillis) {
+        return stub(() -> {
+            Thread.sleep(delayMillis);
+            return answer;
+        });
+    }
+
+    private static ContractApi counting(AtomicInteger calls) {
+        return stub(() -> "counted-" + calls.incrementAndGet());
+    }
+
+    private static ContractApi failing() {
+        return stub(() -> {
+            throw new IllegalStateException("node down");
+        });
+    }
+
+    private static ContractApi reverting(AtomicInteger calls) {
+        return stub(() -> {
+            calls.incrementAndGet();
+            throw new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, new RuntimeException(
+                    new ContractCallException("Contract Call has been reverted by the EVM with the reason: 'DID not found'")));
+        });
+    }
+
+    private static ContractApi stub(Callable<Object> read) {
+        return (ContractApi) Proxy.newProxyInstance(ContractApi.class.getClassLoader(), new Class<?>[]{ContractApi.class},
+                (proxy, method, args) -> read.call());
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.endpoint;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.ContractApi;
+import org.omnione.exception.BlockChainException;
+import org.omnione.exception.BlockchainErrorCode;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.lang.reflect.Proxy;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PooledContractApiTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger created = new AtomicInteger();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void evaluatesConcurrentCallsOnSeparateInstances() throws Exception {
+        CountDownLatch allStarted = new CountDownLatch(4);
+        PooledContractApi contractApi = pool(() -> {
+            allStarted.countDown();
+            if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("calls were not evaluated in parallel");
+            }
+            return null;
+        }, 4, 0, Duration.ofSeconds(5));
+
+        List<Future<Object>> calls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            calls.add(executor.submit(() -> contractApi.getDidDoc("did:omn:test")));
+        }
+        Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<Object> call : calls) {
+            instances.add(call.get(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(4, instances.size());
+        assertEquals(4, created.get());
+    }
+
+    @Test
+    void opensIdleInstancesUpFrontAndReusesThem() throws Exception {
+        PooledContractApi contractApi = pool(() -> null, 8, 2, Duration.ofSeconds(1));
+        assertEquals(2, created.get());
+
+        for (int i = 0; i < 10; i++) {
+            contractApi.getVcMetadata("vc");
+        }
+        assertEquals(2, created.get());
+        assertEquals(2, meterRegistry.get("gateway.contract.pool.idle").gauge().value());
+    }
+
+    @Test
+    void failsWhenNoInstanceIsFreeInTime() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PooledContractApi contractApi = pool(() -> {
+            release.await();
+            return null;
+        }, 1, 0, Duration.ofMillis(50));
+
+        Future<Object> busy = executor.submit(() -> contractApi.getDidDoc("did:omn:busy"));
+        while (meterRegistry.get("gateway.contract.pool.active").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+
+        assertThrows(BlockChainException.class, () -> contractApi.getDidDoc("did:omn:test"));
+        release.countDown();
+        busy.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void reusesAnInstanceAfterAConnectionFailure() throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        PooledContractApi contractApi = pool(() -> {
+            if (failures.getAndDecrement() > 0) {
+                throw connectionFailure();
+            }
+            return null;
+        }, 1, 1, Duration.ofSeconds(1));
+        Object first = contractApi.getDidDoc("did:omn:test");
+        failures.set(1);
+
+        assertThrows(BlockChainException.class, () -> contractApi.getDidDoc("did:omn:test"));
+        assertEquals(1, unhealthy());
+        assertSame(first, contractApi.getDidDoc("did:omn:test"));
+        assertEquals(0, unhealthy());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void treatsUncheckedExceptionsAsConnectionFailures() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        PooledContractApi contractApi = pool(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("UNAVAILABLE: io exception");
+            }
+            return null;
+        }, 1, 1, Duration.ofSeconds(1));
+
+        assertThrows(IllegalStateException.class, () -> contractApi.getDidDoc("did:omn:test"));
+        assertEquals(1, unhealthy());
+        contractApi.getDidDoc("did:omn:test");
+        assertEquals(0, unhealthy());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void keepsAnInstanceThatGotAnAnswerFromTheContract() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        PooledContractApi contractApi = pool(() -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, new RuntimeException(
+                        new ContractCallException("Contract Call has been reverted by the EVM with the reason: 'DID not found'")));
+            }
+            return null;
+        }, 1, 1, Duration.ofSeconds(1));
+        Object first = contractApi.getDidDoc("did:omn:test");
+
+        assertThrows(BlockChainException.class, () -> contractApi.getDidDoc("did:omn:unknown"));
+        assertEquals(0, unhealthy());
+        assertSame(first, contractApi.getDidDoc("did:omn:test"));
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void probesAnUnhealthyIdleInstanceUntilItRecovers() throws Exception {
+        AtomicBoolean down = new AtomicBoolean(true);
+        AtomicInteger calls = new AtomicInteger();
+        try (PooledContractApi contractApi = new PooledContractApi(() -> {
+            created.incrementAndGet();
+            return stub(() -> {
+                calls.incrementAndGet();
+                if (down.get()) {
+                    throw connectionFailure();
+                }
+                return null;
+            });
+        }, 1, 1, Duration.ofSeconds(1), Duration.ofMillis(20), meterRegistry)) {
+            assertThrows(BlockChainException.class, () -> contractApi.getDidDoc("did:omn:test"));
+            for (int i = 0; i < 500 && calls.get() < 3; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, unhealthy());
+
+            down.set(false);
+            for (int i = 0; i < 500 && unhealthy() > 0; i++) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(0, unhealthy());
+            assertEquals(1, created.get());
+        }
+    }
+
+    @Test
+    void doesNotProbeAHealthyIdleInstance() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        try (PooledContractApi contractApi = new PooledContractApi(() -> {
+            created.incrementAndGet();
+            return stub(() -> {
+                calls.incrementAndGet();
+                return null;
+            });
+        }, 1, 1, Duration.ofSeconds(1), Duration.ofMillis(20), meterRegistry)) {
+            contractApi.getDidDoc("did:omn:test");
+            Thread.sleep(200);
+
+            assertEquals(1, calls.get());
+            assertEquals(1, created.get());
+        }
+    }
+
+    private double unhealthy() {
+        return meterRegistry.get("gateway.contract.pool.unhealthy").gauge().value();
+    }
+
+    /**
+     * Creates a pool whose instances run the given call and answer with themselves.
+     */
+    private PooledContractApi pool(Callable<Object> call, int maxTotal, int minIdle, Duration maxWait)
+            throws BlockChainException {
+        return new PooledContractApi(() -> {
+            created.incrementAndGet();
+            return stub(call);
+        }, maxTotal, minIdle, maxWait, Duration.ZERO, meterRegistry);
+    }
+
+    private static BlockChainException connectionFailure() {
+        return new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, new ConnectException("refused"));
+    }
+
+    private static ContractApi stub(Callable<Object> call) {
+        return (ContractApi) Proxy.newProxyInstance(ContractApi.class.getClassLoader(), new Class<?>[]{ContractApi.class},
+                (proxy, method, args) -> {
+                    call.call();
+                    return proxy;
+                });
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.event;
+
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.service.event.ResourceChangedEvent.Change;
+import org.omnione.did.base.constants.ResourceType;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChainEventDecoderTest {
+
+    @Test
+    void decodesRecordedContractEvents() throws Exception {
+        List<Log> logs = recordedSource().getLogs(BigInteger.ZERO, BigInteger.valueOf(Long.MAX_VALUE)).stream()
+                .filter(log -> !isMalformed(log))
+                .toList();
+
+        assertEquals(List.of(
+                Optional.of(new ResourceChangedEvent(ResourceType.DID_DOC, "did:omn:holder", Change.CREATED, 16)),
+                Optional.of(new ResourceChangedEvent(ResourceType.DID_DOC, "did:omn:holder", Change.UPDATED, 17)),
+                Optional.of(new ResourceChangedEvent(ResourceType.VC_META, "vc-0001", Change.CREATED, 18)),
+                Optional.of(new ResourceChangedEvent(ResourceType.VC_META, "vc-0001", Change.UPDATED, 18)),
+                Optional.empty(),
+                Optional.of(new ResourceChangedEvent(ResourceType.DID_DOC, "did:omn:holder", Change.DEACTIVATED, 20))),
+                logs.stream().map(ChainEventDecoder::decode).toList());
+    }
+
+    @Test
+    void failsOnTruncatedEventData() throws Exception {
+        Log malformed = recordedSource().getLogs(BigInteger.ZERO, BigInteger.valueOf(Long.MAX_VALUE)).stream()
+                .filter(ChainEventDecoderTest::isMalformed)
+                .findFirst()
+                .orElseThrow();
+
+        assertThrows(RuntimeException.class, () -> ChainEventDecoder.decode(malformed));
+    }
+
+    @Test
+    void ignoresLogsWithoutTopics() {
+        Log log = new Log();
+        log.setBlockNumber("0x1");
+
+        assertEquals(Optional.empty(), ChainEventDecoder.decode(log));
+    }
+
+    /**
+     * Replays an eth_getLogs response holding one log of each followed event, an unrelated
+     * Initialized log and a DIDUpdated log with truncated data, between blocks 16 and 20.
+     */
+    static RecordedChainLogSource recordedSource() throws Exception {
+        return RecordedChainLogSource.fromFile(
+                Path.of(ChainEventDecoderTest.class.getResource("/event/opendid-logs.json").toURI()));
+    }
+
+    /**
+     * Checks whether the log is the recorded DIDUpdated log with truncated data.
+     */
+    static boolean isMalformed(Log log) {
+        return log.getBlockNumber().longValue() == 19 && log.getLogIndex().longValue() == 1;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omnione.did.base.property.ChainEventProperty;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChainEventSubscriberTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChainEventProperty chainEventProperty = new ChainEventProperty();
+    private final List<ResourceChangedEvent> events = new ArrayList<>();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void resumesAfterTheCheckpointedBlock() throws Exception {
+        FakeChainLogSource chainLogSource = new FakeChainLogSource(20);
+        BlockCheckpointStore checkpointStore = checkpointStore();
+        checkpointStore.save(17);
+
+        subscriber(chainLogSource, checkpointStore).poll();
+
+        assertEquals(List.of(18L, 18L, 20L), events.stream().map(ResourceChangedEvent::blockNumber).toList());
+        assertEquals(List.of(List.of(18L, 20L)), chainLogSource.ranges);
+        assertEquals(OptionalLong.of(20), checkpointStore.load());
+    }
+
+    @Test
+    void splitsTheBlocksToProcessIntoRangesOfTheMaximumSize() throws Exception {
+        chainEventProperty.setStartBlock("15");
+        chainEventProperty.setMaxBlockRange(2);
+        FakeChainLogSource chainLogSource = new FakeChainLogSource(20);
+
+        subscriber(chainLogSource, checkpointStore()).poll();
+
+        assertEquals(List.of(List.of(15L, 16L), List.of(17L, 18L), List.of(19L, 20L)), chainLogSource.ranges);
+        assertEquals(List.of(16L, 17L, 18L, 18L, 20L), events.stream().map(ResourceChangedEvent::blockNumber).toList());
+    }
+
+    @Test
+    void skipsMalformedLogsAndMovesTheCheckpointPastThem() throws Exception {
+        chainEventProperty.setStartBlock("19");
+        BlockCheckpointStore checkpointStore = checkpointStore();
+
+        subscriber(new FakeChainLogSource(20), checkpointStore).poll();
+
+        assertEquals(List.of(20L), events.stream().map(ResourceChangedEvent::blockNumber).toList());
+        assertEquals(OptionalLong.of(20), checkpointStore.load());
+        assertEquals(1, meterRegistry.get("gateway.chain.events").tag("outcome", "failed").counter().count());
+        assertEquals(1, meterRegistry.get("gateway.chain.events").tag("outcome", "published").counter().count());
+    }
+
+    @Test
+    void reportsTheLagBehindTheChainHead() throws Exception {
+        chainEventProperty.setStartBlock("earliest");
+        chainEventProperty.setMaxBlockRange(10);
+        FakeChainLogSource chainLogSource = new FakeChainLogSource(20);
+        chainLogSource.failFrom = 10;
+        ChainEventSubscriber subscriber = subscriber(chainLogSource, checkpointStore());
+        assertTrue(Double.isNaN(lag()));
+
+        subscriber.poll();
+        assertEquals(OptionalLong.of(9), subscriber.getProcessedBlock());
+        assertEquals(11, lag());
+
+        chainLogSource.failFrom = Long.MAX_VALUE;
+        subscriber.poll();
+        assertEquals(OptionalLong.of(20), subscriber.getProcessedBlock());
+        assertEquals(0, lag());
+    }
+
+    @Test
+    void waitsForTheConfiguredConfirmations() throws Exception {
+        chainEventProperty.setStartBlock("earliest");
+        chainEventProperty.setConfirmations(2);
+        ChainEventSubscriber subscriber = subscriber(new FakeChainLogSource(20), checkpointStore());
+
+        subscriber.poll();
+
+        assertEquals(OptionalLong.of(18), subscriber.getProcessedBlock());
+        assertEquals(List.of(16L, 17L, 18L, 18L), events.stream().map(ResourceChangedEvent::blockNumber).toList());
+    }
+
+    private ChainEventSubscriber subscriber(ChainLogSource chainLogSource, BlockCheckpointStore checkpointStore) {
+        return new ChainEventSubscriber(chainLogSource, checkpointStore, chainEventProperty,
+                event -> events.add((ResourceChangedEvent) event), meterRegistry);
+    }
+
+    private BlockCheckpointStore checkpointStore() {
+        return new BlockCheckpointStore(tempDir.resolve("chain-event.checkpoint"));
+    }
+
+    private double lag() {
+        return meterRegistry.get("gateway.chain.event.lag").gauge().value();
+    }
+
+    /**
+     * Log source serving the recorded logs up to a fixed head, recording the requested block ranges
+     * and failing requests from a given block on.
+     */
+    private static class FakeChainLogSource implements ChainLogSource {
+
+        private final RecordedChainLogSource recorded;
+        private final long head;
+        private final List<List<Long>> ranges = new ArrayList<>();
+        private long failFrom = Long.MAX_VALUE;
+
+        private FakeChainLogSource(long head) throws Exception {
+            this.recorded = ChainEventDecoderTest.recordedSource();
+            this.head = head;
+        }
+
+        @Override
+        public BigInteger getLatestBlockNumber() {
+            return BigInteger.valueOf(head);
+        }
+
+        @Override
+        public List<Log> getLogs(BigInteger fromBlock, BigInteger toBlock) throws IOException {
+            if (fromBlock.longValue() >= failFrom) {
+                throw new IOException("connection refused");
+            }
+            ranges.add(List.of(fromBlock.longValue(), toBlock.longValue()));
+            return recorded.getLogs(fromBlock, toBlock);
+        }
+    }
+}
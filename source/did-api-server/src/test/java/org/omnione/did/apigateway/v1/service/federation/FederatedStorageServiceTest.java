@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.federation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.ContractApi;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.service.BlockchainServiceImpl;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StubStorageService;
+import org.omnione.did.apigateway.v1.service.async.BackendExecutors;
+import org.omnione.did.apigateway.v1.service.metrics.ResolutionMetrics;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.BackendExecutorProperty;
+import org.omnione.did.base.property.BlockchainProperty;
+import org.omnione.did.base.property.FederationProperty;
+import org.omnione.exception.BlockChainException;
+import org.omnione.exception.BlockchainErrorCode;
+import org.springframework.mock.env.MockEnvironment;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FederatedStorageServiceTest {
+
+    private static final String DID = "did:omn:test";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BackendExecutors backendExecutors =
+            new BackendExecutors(new BackendExecutorProperty(), meterRegistry, new MockEnvironment());
+    private final FederationProperty federationProperty = new FederationProperty();
+
+    @AfterEach
+    void shutdown() {
+        backendExecutors.shutdown();
+    }
+
+    @Test
+    void servesFromTheFirstBackendThatResolves() {
+        StorageService storageService = federated(
+                backend("lss", ErrorCode.DID_NOT_FOUND, Duration.ZERO),
+                backend("blockchain", null, Duration.ZERO));
+
+        assertEquals("blockchain", payload(storageService.findDidDocument(DID)));
+        assertEquals(1, served("blockchain"));
+    }
+
+    @Test
+    void doesNotFallBackOnNotFoundIfDisabled() {
+        federationProperty.setFallbackOnNotFound(false);
+        StorageService storageService = federated(
+                backend("lss", ErrorCode.DID_NOT_FOUND, Duration.ZERO),
+                backend("blockchain", null, Duration.ZERO));
+
+        OpenDidException e = assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+        assertEquals(ErrorCode.DID_NOT_FOUND, e.getErrorCode());
+    }
+
+    @Test
+    void doesNotFallBackWhenTheBlockchainReportsNotFoundIfDisabled() {
+        federationProperty.setFallbackOnNotFound(false);
+        ContractApi contractApi = (ContractApi) Proxy.newProxyInstance(ContractApi.class.getClassLoader(),
+                new Class<?>[]{ContractApi.class}, (proxy, method, args) -> {
+                    throw new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, new RuntimeException(
+                            new ContractCallException("Contract Call has been reverted by the EVM with the reason: 'DID not found'")));
+                });
+        StorageService storageService = federated(
+                new BlockchainServiceImpl(contractApi, new BlockchainProperty(), new ResolutionMetrics(meterRegistry)),
+                backend("lss", null, Duration.ZERO));
+
+        OpenDidException e = assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+        assertEquals(ErrorCode.DID_NOT_FOUND, e.getErrorCode());
+        assertNull(meterRegistry.find("gateway.federation.fallbacks").counter());
+        assertNull(meterRegistry.find("gateway.federation.served").tag("backend", "lss").counter());
+    }
+
+    @Test
+    void fallsBackWhenABackendTimesOut() {
+        federationProperty.getTimeout().put("lss", Duration.ofMillis(50));
+        StorageService storageService = federated(
+                backend("lss", null, Duration.ofSeconds(2)),
+                backend("blockchain", null, Duration.ZERO));
+
+        assertEquals("blockchain", payload(storageService.findDidDocument(DID)));
+    }
+
+    @Test
+    void returnsTheFailureOfTheLastBackend() {
+        StorageService storageService = federated(
+                backend("lss", ErrorCode.GET_DID_DOC_FAILED, Duration.ZERO),
+                backend("blockchain", ErrorCode.DID_NOT_FOUND, Duration.ZERO));
+
+        OpenDidException e = assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+        assertEquals(ErrorCode.DID_NOT_FOUND, e.getErrorCode());
+    }
+
+    @Test
+    void racesBackendsForRacingTypes() {
+        federationProperty.getRace().add(ResourceType.DID_DOC);
+        StorageService storageService = federated(
+                backend("lss", null, Duration.ofMillis(500)),
+                backend("blockchain", null, Duration.ZERO));
+
+        assertEquals("blockchain", payload(storageService.findDidDocument(DID)));
+    }
+
+    private StorageService federated(StorageService... backends) {
+        return new FederatedStorageService(List.of(backends), federationProperty, backendExecutors, meterRegistry);
+    }
+
+    private double served(String backend) {
+        return meterRegistry.get("gateway.federation.served").tag("backend", backend).counter().count();
+    }
+
+    private static String payload(DidDocResDto didDoc) {
+        return new String(didDoc.getDidDoc().toByteArray());
+    }
+
+    /**
+     * Creates a backend answering DID lookups with its name after a delay, or failing them.
+     */
+    private static StorageService backend(String name, ErrorCode failWith, Duration delay) {
+        return new StubStorageService(name, did -> {
+            StubStorageService.sleep(delay.toMillis());
+            if (failWith != null) {
+                throw new OpenDidException(failWith);
+            }
+            return StubStorageService.didDoc(name);
+        });
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.service.event.RecordedChainLogSource;
+import org.omnione.did.apigateway.v1.service.event.ResourceChangedEvent;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.property.ChainEventProperty;
+import org.omnione.did.base.property.IdentifierFilterProperty;
+import org.omnione.generated.OpenDID;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KnownIdentifierFilterTest {
+
+    private static final Address ISSUER = new Address("0x0000000000000000000000000000000000000001");
+
+    @Test
+    void letsEverythingThroughUntilBuilt() {
+        KnownIdentifierFilter filter = filter(List.of());
+
+        assertTrue(filter.mightExist(ResourceType.DID_DOC, "did:omn:unknown"));
+    }
+
+    @Test
+    void rejectsIdentifiersNeverCreated() {
+        KnownIdentifierFilter filter = filter(List.of(
+                log(OpenDID.DIDCREATED_EVENT, 1, new Utf8String("did:omn:holder"), ISSUER),
+                log(OpenDID.VCISSUED_EVENT, 2, new Utf8String("vc-1"), ISSUER, new Utf8String("did:omn:issuer"))));
+        filter.poll();
+
+        assertTrue(filter.mightExist(ResourceType.DID_DOC, "did:omn:holder"));
+        assertTrue(filter.mightExist(ResourceType.DID_DOC, "did:omn:holder?versionId=1#key-1"));
+        assertTrue(filter.mightExist(ResourceType.VC_META, "vc-1"));
+        assertFalse(filter.mightExist(ResourceType.DID_DOC, "did:omn:unknown"));
+        assertFalse(filter.mightExist(ResourceType.VC_META, "vc-2"));
+        assertTrue(filter.mightExist(ResourceType.ZKP_CRED_DEF, "unknown"));
+    }
+
+    @Test
+    void addsIdentifiersReportedByTheSubscriber() {
+        KnownIdentifierFilter filter = filter(List.of());
+        filter.poll();
+
+        filter.onResourceChanged(new ResourceChangedEvent(ResourceType.DID_DOC, "did:omn:new",
+                ResourceChangedEvent.Change.CREATED, 3));
+
+        assertTrue(filter.mightExist(ResourceType.DID_DOC, "did:omn:new"));
+    }
+
+    private static KnownIdentifierFilter filter(List<Log> logs) {
+        IdentifierFilterProperty identifierFilterProperty = new IdentifierFilterProperty();
+        identifierFilterProperty.setExpectedInsertions(1_000);
+        return new KnownIdentifierFilter(new RecordedChainLogSource(logs), identifierFilterProperty,
+                new ChainEventProperty(), new SimpleMeterRegistry());
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Log log(Event event, long blockNumber, Type... values) {
+        Log log = new Log();
+        log.setTopics(List.of(EventEncoder.encode(event)));
+        log.setData(FunctionEncoder.encodeConstructor(List.of(values)));
+        log.setBlockNumber("0x" + Long.toHexString(blockNumber));
+        return log;
+    }
+}
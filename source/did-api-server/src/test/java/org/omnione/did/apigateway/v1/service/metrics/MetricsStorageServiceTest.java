@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StubStorageService;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetricsStorageServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResolutionMetrics resolutionMetrics = new ResolutionMetrics(meterRegistry);
+    private final StorageService storageService = new MetricsStorageService(new StubStorageService(did -> switch (did) {
+        case "did:omn:unknown" -> throw new OpenDidException(ErrorCode.DID_NOT_FOUND);
+        case "did:omn:broken" -> throw new IllegalStateException("broken");
+        default -> StubStorageService.didDoc(did);
+    }), resolutionMetrics);
+
+    @Test
+    void timesSuccessfulLookupsByBackendTypeAndOutcome() {
+        storageService.findDidDocument("did:omn:a");
+        storageService.findDidDocument("did:omn:b");
+
+        assertEquals(2, timer("did-doc", "success"));
+        assertNull(meterRegistry.find("gateway.resolution").tag("outcome", "error").timer());
+        assertNull(meterRegistry.find("gateway.resolution.errors").counter());
+    }
+
+    @Test
+    void timesAndCountsFailedLookupsByErrorCode() {
+        assertThrows(OpenDidException.class, () -> storageService.findDidDocument("did:omn:unknown"));
+
+        assertEquals(1, timer("did-doc", "error"));
+        assertEquals(1, errors(ErrorCode.DID_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    void countsOtherExceptionsUnderTheirClassName() {
+        assertThrows(IllegalStateException.class, () -> storageService.findDidDocument("did:omn:broken"));
+
+        assertEquals(1, timer("did-doc", "error"));
+        assertEquals(1, errors("IllegalStateException"));
+    }
+
+    @Test
+    void timesBatchLookupsOnceAndCountsTheirFailedItems() {
+        storageService.findDidDocuments(List.of("did:omn:a", "did:omn:unknown", "did:omn:b"));
+
+        assertEquals(1, meterRegistry.get("gateway.resolution.batch")
+                .tag("backend", "test").tag("type", "did-doc").timer().count());
+        assertEquals(1, errors(ErrorCode.DID_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    void timesThePhasesOfALookup() throws Exception {
+        String json = resolutionMetrics.upstream("test", ResourceType.DID_DOC,
+                () -> resolutionMetrics.toJson("test", ResourceType.DID_DOC, () -> "{}"));
+        resolutionMetrics.encode("test", ResourceType.DID_DOC, () -> MultibasePayload.ofJson(json));
+
+        for (String phase : List.of("upstream", "to-json", "encode")) {
+            assertEquals(1, meterRegistry.get("gateway.resolution.phase")
+                    .tag("backend", "test").tag("type", "did-doc").tag("phase", phase).timer().count());
+        }
+    }
+
+    private long timer(String type, String outcome) {
+        return meterRegistry.get("gateway.resolution")
+                .tag("backend", "test").tag("type", type).tag("outcome", outcome).timer().count();
+    }
+
+    private double errors(String code) {
+        return meterRegistry.get("gateway.resolution.errors")
+                .tag("backend", "test").tag("type", "did-doc").tag("code", code).counter().count();
+    }
+}
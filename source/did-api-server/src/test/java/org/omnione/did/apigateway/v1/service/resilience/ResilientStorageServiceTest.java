@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.resilience;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.ContractApi;
+import org.omnione.did.apigateway.v1.api.RepositoryFeign;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.service.BatchResult;
+import org.omnione.did.apigateway.v1.service.BlockchainServiceImpl;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.StorageServiceImpl;
+import org.omnione.did.apigateway.v1.service.StubStorageService;
+import org.omnione.did.apigateway.v1.service.metrics.ResolutionMetrics;
+import org.omnione.did.base.exception.ErrorCode;
+import org.omnione.did.base.exception.OpenDidException;
+import org.omnione.did.base.property.BlockchainProperty;
+import org.omnione.exception.BlockChainException;
+import org.omnione.exception.BlockchainErrorCode;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResilientStorageServiceTest {
+
+    private static final String DID = "did:omn:test";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(10)
+            .minimumNumberOfCalls(10)
+            .failureRateThreshold(50)
+            .slowCallDurationThreshold(Duration.ofMillis(50))
+            .slowCallRateThreshold(80)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .recordException(new BackendFailurePredicate())
+            .build());
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private volatile ErrorCode failWith;
+    private volatile long delayMillis;
+    private volatile CountDownLatch blocker;
+    private final StorageService backend = new StubStorageService(did -> {
+        lookups.incrementAndGet();
+        entered.countDown();
+        if (blocker != null) {
+            StubStorageService.await(blocker);
+        }
+        StubStorageService.sleep(delayMillis);
+        if (failWith != null) {
+            throw new OpenDidException(failWith);
+        }
+        return StubStorageService.didDoc(did);
+    });
+
+    @Test
+    void keepsTheCircuitClosedForNotFoundLookups() {
+        AtomicInteger calls = new AtomicInteger();
+        ContractApi contractApi = (ContractApi) Proxy.newProxyInstance(ContractApi.class.getClassLoader(),
+                new Class<?>[]{ContractApi.class}, (proxy, method, args) -> {
+                    calls.incrementAndGet();
+                    throw new BlockChainException(BlockchainErrorCode.CONNECTION_ERROR, new RuntimeException(
+                            new ContractCallException("Contract Call has been reverted by the EVM with the reason: 'DID not found'")));
+                });
+        ResilientStorageService storageService = new ResilientStorageService(new BlockchainServiceImpl(contractApi,
+                new BlockchainProperty(), new ResolutionMetrics(new SimpleMeterRegistry())),
+                bulkheadRegistry, circuitBreakerRegistry);
+
+        for (int i = 0; i < 50; i++) {
+            OpenDidException e = assertThrows(OpenDidException.class, () -> storageService.findDidDocument(DID));
+            assertEquals(ErrorCode.DID_NOT_FOUND, e.getErrorCode());
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("blockchain").getState());
+        assertEquals(50, calls.get());
+    }
+
+    @Test
+    void keepsTheCircuitClosedForLookupsTheBackendDoesNotSupport() {
+        ResilientStorageService storageService = new ResilientStorageService(
+                new StorageServiceImpl(null, new ResolutionMetrics(new SimpleMeterRegistry())),
+                bulkheadRegistry, circuitBreakerRegistry);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(ErrorCode.VC_SCHEMA_NOT_SUPPORTED, errorCode(() -> storageService.findVcSchema("schema")));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("lss").getState());
+    }
+
+    @Test
+    void keepsTheCircuitClosedForZkpLookupsTheLssDoesNotFind() {
+        ResilientStorageService storageService = new ResilientStorageService(
+                new StorageServiceImpl(lss(404), new ResolutionMetrics(new SimpleMeterRegistry())),
+                bulkheadRegistry, circuitBreakerRegistry);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(ErrorCode.ZKP_CRED_SCHEMA_NOT_FOUND, errorCode(() -> storageService.findZkpCredSchema("schema")));
+            assertEquals(ErrorCode.ZKP_CRED_DEF_NOT_FOUND, errorCode(() -> storageService.findZkpCredDef("definition")));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("lss").getState());
+    }
+
+    @Test
+    void countsZkpLookupsTheLssFailsTowardsOpeningTheCircuit() {
+        ResilientStorageService storageService = new ResilientStorageService(
+                new StorageServiceImpl(lss(500), new ResolutionMetrics(new SimpleMeterRegistry())),
+                bulkheadRegistry, circuitBreakerRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(ErrorCode.ZKP_CRED_SCHEMA_RETRIEVAL_FAILED,
+                    errorCode(() -> storageService.findZkpCredSchema("schema")));
+            assertEquals(ErrorCode.ZKP_CRED_DEF_RETRIEVAL_FAILED,
+                    errorCode(() -> storageService.findZkpCredDef("definition")));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("lss").getState());
+    }
+
+    @Test
+    void failsFastOnceServerErrorsOpenTheCircuit() {
+        ResilientStorageService storageService = resilientStorageService();
+        failWith = ErrorCode.GET_DID_DOC_FAILED;
+        for (int i = 0; i < 10; i++) {
+            assertEquals(ErrorCode.GET_DID_DOC_FAILED, errorCode(() -> storageService.findDidDocument(DID)));
+        }
+
+        assertEquals(ErrorCode.BACKEND_UNAVAILABLE, errorCode(() -> storageService.findDidDocument(DID)));
+        assertEquals(10, lookups.get());
+    }
+
+    @Test
+    void opensTheCircuitOnSlowCalls() {
+        ResilientStorageService storageService = resilientStorageService();
+        delayMillis = 60;
+        for (int i = 0; i < 10; i++) {
+            storageService.findDidDocument(DID);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("test").getState());
+        assertEquals(ErrorCode.BACKEND_UNAVAILABLE, errorCode(() -> storageService.findDidDocument(DID)));
+    }
+
+    @Test
+    void rejectsLookupsBeyondTheBulkhead() throws Exception {
+        ResilientStorageService storageService = resilientStorageService();
+        blocker = new CountDownLatch(1);
+        CompletableFuture<DidDocResDto> blocked = CompletableFuture.supplyAsync(() -> storageService.findDidDocument(DID));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        assertEquals(ErrorCode.BACKEND_BUSY, errorCode(() -> storageService.findDidDocument(DID)));
+        blocker.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void countsBatchesWithFailedItemsTowardsOpeningTheCircuit() {
+        ResilientStorageService storageService = resilientStorageService();
+        failWith = ErrorCode.GET_DID_DOC_FAILED;
+        for (int i = 0; i < 10; i++) {
+            List<BatchResult<DidDocResDto>> results = storageService.findDidDocuments(List.of(DID, "did:omn:other"));
+            assertEquals(ErrorCode.GET_DID_DOC_FAILED, results.get(0).errorCode());
+        }
+
+        List<BatchResult<DidDocResDto>> results = storageService.findDidDocuments(List.of(DID, "did:omn:other"));
+        assertEquals(List.of(ErrorCode.BACKEND_UNAVAILABLE, ErrorCode.BACKEND_UNAVAILABLE),
+                results.stream().map(BatchResult::errorCode).toList());
+        assertEquals(20, lookups.get());
+    }
+
+    @Test
+    void keepsTheCircuitClosedForBatchesWithAMinorityOfFailedItems() {
+        ResilientStorageService storageService = new ResilientStorageService(new StubStorageService(did -> {
+            if (did.equals("did:omn:broken")) {
+                throw new OpenDidException(ErrorCode.GET_DID_DOC_FAILED);
+            }
+            return StubStorageService.didDoc(did);
+        }), bulkheadRegistry, circuitBreakerRegistry);
+        List<String> dids = List.of(DID, "did:omn:other", "did:omn:third", "did:omn:broken");
+
+        for (int i = 0; i < 20; i++) {
+            List<BatchResult<DidDocResDto>> results = storageService.findDidDocuments(dids);
+            assertEquals(Arrays.asList(null, null, null, ErrorCode.GET_DID_DOC_FAILED),
+                    results.stream().map(BatchResult::errorCode).toList());
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("test").getState());
+        assertEquals(0, circuitBreakerRegistry.circuitBreaker("test").getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void keepsTheCircuitClosedForBatchesOfUnknownIdentifiers() {
+        ResilientStorageService storageService = resilientStorageService();
+        failWith = ErrorCode.DID_NOT_FOUND;
+        for (int i = 0; i < 20; i++) {
+            storageService.findDidDocuments(List.of(DID, "did:omn:other"));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("test").getState());
+    }
+
+    private ResilientStorageService resilientStorageService() {
+        return new ResilientStorageService(backend, bulkheadRegistry, circuitBreakerRegistry);
+    }
+
+    /**
+     * Creates an LSS client answering every call with the given HTTP status.
+     */
+    private static RepositoryFeign lss(int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://lss", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return (RepositoryFeign) Proxy.newProxyInstance(RepositoryFeign.class.getClassLoader(),
+                new Class<?>[]{RepositoryFeign.class}, (proxy, method, args) -> {
+                    throw FeignException.errorStatus(method.getName(), Response.builder()
+                            .status(status)
+                            .request(request)
+                            .headers(Map.of())
+                            .build());
+                });
+    }
+
+    private static ErrorCode errorCode(Runnable lookup) {
+        return assertThrows(OpenDidException.class, lookup::run).getErrorCode();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.snapshot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.apigateway.v1.service.StorageService;
+import org.omnione.did.apigateway.v1.service.cache.ResolutionCache;
+import org.omnione.did.apigateway.v1.service.event.ChainEventSubscriber;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.OffHeapCacheProperty;
+import org.omnione.did.base.property.SnapshotProperty;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResolutionSnapshotManagerTest {
+
+    private final CacheProperty cacheProperty = new CacheProperty();
+    private final ResolutionCache resolutionCache =
+            new ResolutionCache(cacheProperty, new OffHeapCacheProperty(), new SimpleMeterRegistry());
+    private final SnapshotProperty snapshotProperty = new SnapshotProperty();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void restoresASnapshotWithinTheMaximumAge() throws Exception {
+        snapshotStore().save(snapshot(Instant.now().minus(Duration.ofHours(1))));
+
+        ResolutionSnapshotManager snapshotManager = snapshotManager();
+        snapshotManager.start();
+        snapshotManager.stop();
+
+        assertNotNull(resolutionCache.get(ResourceType.DID_DOC, "did:omn:holder"));
+    }
+
+    @Test
+    void ignoresASnapshotOlderThanTheMaximumAge() throws Exception {
+        snapshotStore().save(snapshot(Instant.now().minus(Duration.ofHours(25))));
+
+        ResolutionSnapshotManager snapshotManager = snapshotManager();
+        snapshotManager.start();
+        snapshotManager.stop();
+
+        assertNull(resolutionCache.get(ResourceType.DID_DOC, "did:omn:holder"));
+    }
+
+    @Test
+    void neitherPersistsNorRestoresVcMetadata() throws Exception {
+        snapshotStore().save(snapshot(Instant.now()));
+
+        ResolutionSnapshotManager snapshotManager = snapshotManager();
+        snapshotManager.start();
+        assertNull(resolutionCache.get(ResourceType.VC_META, "vc-0001"));
+
+        resolutionCache.put(ResourceType.VC_META, "vc-0002", ResolutionSnapshot.Entry.of(ResourceType.VC_META,
+                "vc-0002", MultibasePayload.of("vc meta".getBytes())).value());
+        snapshotManager.stop();
+
+        List<ResolutionSnapshot.Entry> entries = snapshotStore().load().orElseThrow().entries();
+        assertEquals(List.of(ResourceType.DID_DOC), entries.stream().map(ResolutionSnapshot.Entry::resourceType).toList());
+    }
+
+    private ResolutionSnapshotManager snapshotManager() {
+        snapshotProperty.setFile(tempDir.resolve("resolution.snapshot").toString());
+        snapshotProperty.setMaxAge(Duration.ofHours(24));
+        snapshotProperty.setRevalidate(false);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        return new ResolutionSnapshotManager(resolutionCache, cacheProperty, snapshotProperty,
+                beanFactory.getBeanProvider(StorageService.class),
+                beanFactory.getBeanProvider(ChainEventSubscriber.class));
+    }
+
+    private ResolutionSnapshotStore snapshotStore() {
+        return new ResolutionSnapshotStore(tempDir.resolve("resolution.snapshot"));
+    }
+
+    private static ResolutionSnapshot snapshot(Instant createdAt) {
+        return new ResolutionSnapshot(createdAt, ResolutionSnapshot.UNKNOWN_BLOCK, List.of(
+                ResolutionSnapshot.Entry.of(ResourceType.DID_DOC, "did:omn:holder",
+                        MultibasePayload.of("did document".getBytes())),
+                ResolutionSnapshot.Entry.of(ResourceType.VC_META, "vc-0001",
+                        MultibasePayload.of("vc meta".getBytes()))));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.apigateway.v1.service.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.base.constants.ResourceType;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolutionSnapshotStoreTest {
+
+    private static final Instant CREATED_AT = Instant.ofEpochMilli(1_700_000_000_000L);
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void loadsTheSavedSnapshot() throws Exception {
+        ResolutionSnapshotStore snapshotStore = snapshotStore();
+        snapshotStore.save(snapshot());
+
+        ResolutionSnapshot snapshot = snapshotStore.load().orElseThrow();
+
+        assertEquals(CREATED_AT, snapshot.createdAt());
+        assertEquals(42, snapshot.blockNumber());
+        assertEquals(2, snapshot.entries().size());
+        assertEquals(ResourceType.DID_DOC, snapshot.entries().get(0).resourceType());
+        assertEquals("did:omn:holder", snapshot.entries().get(0).id());
+        assertArrayEquals("did document".getBytes(), snapshot.entries().get(0).payload().toByteArray());
+        assertEquals(ResourceType.ZKP_CRED_DEF, snapshot.entries().get(1).resourceType());
+        assertArrayEquals("credential definition".getBytes(), snapshot.entries().get(1).payload().toByteArray());
+    }
+
+    @Test
+    void ignoresAMissingSnapshot() {
+        assertTrue(snapshotStore().load().isEmpty());
+    }
+
+    @Test
+    void ignoresACorruptSnapshot() throws Exception {
+        ResolutionSnapshotStore snapshotStore = snapshotStore();
+        snapshotStore.save(snapshot());
+        try (RandomAccessFile file = new RandomAccessFile(tempDir.resolve("resolution.snapshot").toFile(), "rw")) {
+            file.seek(file.length() / 2);
+            int value = file.read();
+            file.seek(file.length() / 2);
+            file.write(value ^ 0xff);
+        }
+
+        assertTrue(snapshotStore.load().isEmpty());
+    }
+
+    @Test
+    void ignoresASnapshotOfAnotherVersion() throws Exception {
+        ResolutionSnapshotStore snapshotStore = snapshotStore();
+        snapshotStore.save(snapshot());
+        try (RandomAccessFile file = new RandomAccessFile(tempDir.resolve("resolution.snapshot").toFile(), "rw")) {
+            file.seek(4);
+            file.writeInt(2);
+        }
+
+        assertTrue(snapshotStore.load().isEmpty());
+    }
+
+    private ResolutionSnapshotStore snapshotStore() {
+        return new ResolutionSnapshotStore(tempDir.resolve("resolution.snapshot"));
+    }
+
+    private static ResolutionSnapshot snapshot() {
+        return new ResolutionSnapshot(CREATED_AT, 42, List.of(
+                ResolutionSnapshot.Entry.of(ResourceType.DID_DOC, "did:omn:holder",
+                        MultibasePayload.of("did document".getBytes())),
+                ResolutionSnapshot.Entry.of(ResourceType.ZKP_CRED_DEF, "cred-def",
+                        MultibasePayload.of("credential definition".getBytes()))));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.apigateway.v1.service.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omnione.did.apigateway.v1.service.warmup.AccessFrequencySketch.Frequency;
+import org.omnione.did.base.constants.ResourceType;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessFrequencySketchTest {
+
+    @Test
+    void ranksTheMostFrequentlyAccessedResourcesFirst() {
+        AccessFrequencySketch sketch = new AccessFrequencySketch(100);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.record(ResourceType.DID_DOC, "did:omn:cold" + i);
+        }
+        for (int i = 0; i < 50; i++) {
+            sketch.record(ResourceType.DID_DOC, "did:omn:hot");
+            sketch.record(ResourceType.ZKP_CRED_DEF, "did:omn:hot");
+            for (int j = 0; j < 10; j++) {
+                sketch.record(ResourceType.VC_META, "vc" + j);
+            }
+        }
+
+        List<Frequency> top = sketch.top(12);
+
+        assertEquals(12, top.size());
+        assertEquals(12, top.stream().filter(frequency -> frequency.id().contains("hot")
+                || frequency.resourceType() == ResourceType.VC_META).count(), top::toString);
+    }
+
+    @Test
+    void halvesFrequenciesAfterASample() {
+        AccessFrequencySketch sketch = new AccessFrequencySketch(16);
+        for (int i = 0; i < 100; i++) {
+            sketch.record(ResourceType.DID_DOC, "did:omn:hot");
+        }
+        int before = sketch.estimate(ResourceType.DID_DOC, "did:omn:hot");
+        // A sketch of 16 resources is 128 counters wide, so it ages after 1280 accesses
+        for (int i = 100; i < 1280; i++) {
+            sketch.record(ResourceType.VC_META, "vc" + i);
+        }
+
+        assertTrue(sketch.estimate(ResourceType.DID_DOC, "did:omn:hot") < before * 3 / 4);
+    }
+
+    @Test
+    void restoresTheSavedHistory(@TempDir Path dir) throws Exception {
+        AccessFrequencySketch sketch = new AccessFrequencySketch(100);
+        for (int i = 0; i < 20; i++) {
+            sketch.record(ResourceType.DID_DOC, "did:omn:" + (i % 4));
+        }
+        AccessHistoryStore store = new AccessHistoryStore(dir.resolve("history"));
+        store.save(sketch.top(100));
+
+        AccessFrequencySketch restored = new AccessFrequencySketch(100);
+        restored.restore(store.load().orElseThrow());
+
+        assertEquals(sketch.top(100).stream().map(Frequency::id).sorted().toList(),
+                restored.top(100).stream().map(Frequency::id).sorted().toList());
+        assertEquals(5, restored.estimate(ResourceType.DID_DOC, "did:omn:0"));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.base.property.AccessLogProperty;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessLogWriterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(AccessLogWriter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final AccessLogProperty accessLogProperty = new AccessLogProperty();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Level level;
+
+    @BeforeEach
+    void captureLog() {
+        level = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void restoreLog() {
+        logger.detachAppender(appender);
+        logger.setLevel(level);
+    }
+
+    @Test
+    void truncatesPayloadsToTheMaximumLength() throws Exception {
+        accessLogProperty.setMaxPayloadLength(16);
+        AccessLogWriter accessLogWriter = new AccessLogWriter(accessLogProperty, meterRegistry);
+
+        accessLogWriter.write(new AccessLogEntry("StubController.get", 1_500_000, 200, null,
+                new Object[]{"did:omn:test"}, Map.of("value", "1234567890".repeat(10))));
+        accessLogWriter.shutdown();
+
+        assertEquals("handler=StubController.get status=200 durationMs=1.500"
+                        + " request=[\"did:omn:test\"] response={\"value\":\"123456...(112 chars)",
+                message());
+    }
+
+    @Test
+    void keepsPayloadsWithinTheMaximumLength() throws Exception {
+        AccessLogWriter accessLogWriter = new AccessLogWriter(accessLogProperty, meterRegistry);
+
+        accessLogWriter.write(new AccessLogEntry("StubController.get", 1_500_000, 404, "OpenDidException",
+                new Object[]{"did:omn:test"}, null));
+        accessLogWriter.shutdown();
+
+        assertEquals("handler=StubController.get status=404 durationMs=1.500 error=OpenDidException"
+                + " request=[\"did:omn:test\"] response=null", message());
+    }
+
+    @Test
+    void logsOnlyTheSummaryOfEntriesWithoutPayloads() throws Exception {
+        AccessLogWriter accessLogWriter = new AccessLogWriter(accessLogProperty, meterRegistry);
+
+        accessLogWriter.write(new AccessLogEntry("StubController.get", 1_500_000, 200, null, null, null));
+        accessLogWriter.shutdown();
+
+        assertEquals("handler=StubController.get status=200 durationMs=1.500", message());
+    }
+
+    @Test
+    void dropsEntriesBeyondTheQueueCapacity() throws Exception {
+        accessLogProperty.setQueueCapacity(1);
+        AccessLogWriter accessLogWriter = new AccessLogWriter(accessLogProperty, meterRegistry);
+
+        for (int i = 0; i < 1000; i++) {
+            accessLogWriter.write(new AccessLogEntry("StubController.get", 1_500_000, 200, null, null, null));
+        }
+        accessLogWriter.shutdown();
+
+        double dropped = meterRegistry.get("gateway.access.log.dropped").counter().count();
+        assertTrue(dropped > 0);
+        assertEquals(1000, dropped + appender.list.size());
+    }
+
+    private String message() {
+        assertEquals(1, appender.list.size());
+        return appender.list.get(0).getFormattedMessage();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.base.property.AccessLogProperty;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ControllerLogAspectsTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ControllerLogAspects.class);
+    private final AccessLogProperty accessLogProperty = new AccessLogProperty();
+    private final List<AccessLogEntry> entries = new CopyOnWriteArrayList<>();
+    private final AccessLogWriter accessLogWriter = new AccessLogWriter(accessLogProperty, new SimpleMeterRegistry()) {
+        @Override
+        public void write(AccessLogEntry entry) {
+            entries.add(entry);
+        }
+    };
+    private Level level;
+
+    @BeforeEach
+    void enableDebug() {
+        level = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+    }
+
+    @AfterEach
+    void restoreLevel() throws InterruptedException {
+        logger.setLevel(level);
+        accessLogWriter.shutdown();
+    }
+
+    @Test
+    void logsThePayloadsOfSampledCalls() {
+        accessLogProperty.setPayloadSampleRate(1);
+
+        proxy().getJson("did:omn:test");
+
+        AccessLogEntry entry = entries.get(0);
+        assertEquals("StubController.getJson", entry.handler());
+        assertEquals(200, entry.status());
+        assertTrue(entry.hasPayloads());
+        assertArrayEquals(new Object[]{"did:omn:test"}, entry.request());
+        assertEquals(new RawValue("{\"id\":\"did:omn:test\"}"), entry.response());
+    }
+
+    @Test
+    void logsOnlyTheSummaryOfCallsOutsideTheSample() {
+        accessLogProperty.setPayloadSampleRate(0);
+
+        proxy().getJson("did:omn:test");
+
+        AccessLogEntry entry = entries.get(0);
+        assertEquals(200, entry.status());
+        assertFalse(entry.hasPayloads());
+        assertNull(entry.response());
+    }
+
+    @Test
+    void logsCompressedBodiesBySizeOnly() {
+        accessLogProperty.setPayloadSampleRate(1);
+
+        proxy().getGzip();
+
+        assertEquals("gzip body (3 bytes)", entries.get(0).response());
+    }
+
+    @Test
+    void logsNothingUnlessTheDebugLevelIsEnabled() {
+        logger.setLevel(Level.INFO);
+        accessLogProperty.setPayloadSampleRate(1);
+
+        proxy().getJson("did:omn:test");
+
+        assertTrue(entries.isEmpty());
+    }
+
+    private StubController proxy() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new StubController());
+        proxyFactory.addAspect(new ControllerLogAspects(accessLogWriter, accessLogProperty));
+        return proxyFactory.getProxy();
+    }
+
+    /**
+     * Controller answering with a serialized JSON body or a compressed body.
+     */
+    static class StubController {
+
+        public ResponseEntity<byte[]> getJson(String id) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8));
+        }
+
+        public ResponseEntity<byte[]> getGzip() {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(new byte[3]);
+        }
+    }
+}
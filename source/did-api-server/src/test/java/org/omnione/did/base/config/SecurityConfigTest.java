@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.base.constants.UrlConstant;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Caching headers of resolution responses through the full security filter chain, against a stub LSS.
+ */
+@SpringBootTest
+@ActiveProfiles("lss")
+class SecurityConfigTest {
+
+    private static final String DID = "did:omn:cached";
+    private static final String DID_DOCUMENT = "{\"@context\":[\"https://www.w3.org/ns/did/v1\"],\"id\":\"" + DID + "\"}";
+
+    private static final HttpServer LSS = startLss();
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void lssProperties(DynamicPropertyRegistry registry) {
+        registry.add("lss.url", () -> "http://127.0.0.1:" + LSS.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopLss() {
+        LSS.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    void servesResolutionResponsesWithTheirOwnCacheControlOnly() throws Exception {
+        mockMvc.perform(asyncDispatch(getDid(null)))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+                .andExpect(header().doesNotExist(HttpHeaders.PRAGMA))
+                .andExpect(header().doesNotExist(HttpHeaders.EXPIRES))
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void answersNotModifiedWithTheCacheControlOfTheResource() throws Exception {
+        String eTag = mockMvc.perform(asyncDispatch(getDid(null))).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(asyncDispatch(getDid(eTag)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+                .andExpect(header().doesNotExist(HttpHeaders.PRAGMA));
+    }
+
+    @Test
+    void keepsTheNoCacheHeadersOnOtherRoutes() throws Exception {
+        MvcResult result = mockMvc.perform(get("/actuator/health")).andReturn();
+
+        assertEquals("no-cache, no-store, max-age=0, must-revalidate",
+                result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals("no-cache", result.getResponse().getHeader(HttpHeaders.PRAGMA));
+    }
+
+    private MvcResult getDid(String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder builder = get(UrlConstant.GateWay.V1 + UrlConstant.GateWay.DID_DOC).param("did", DID);
+        if (ifNoneMatch != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static HttpServer startLss() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", exchange -> {
+                byte[] body = DID_DOCUMENT.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "text/plain;charset=UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
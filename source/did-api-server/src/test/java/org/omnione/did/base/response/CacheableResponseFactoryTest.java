@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.apigateway.v1.dto.ZkpCredDefResDto;
+import org.omnione.did.apigateway.v1.service.warmup.AccessHistory;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.HttpCacheProperty;
+import org.omnione.did.base.property.OffHeapCacheProperty;
+import org.omnione.did.base.property.ResponseCacheProperty;
+import org.omnione.did.base.property.WarmupProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheableResponseFactoryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CacheableResponseFactory factory = new CacheableResponseFactory(new HttpCacheProperty(),
+            new ResponseBodyCache(objectMapper, new ResponseCacheProperty(), new CacheProperty(), new SimpleMeterRegistry()),
+            new OffHeapResponseCache(new OffHeapCacheProperty(), new CacheProperty(), new SimpleMeterRegistry()),
+            new AccessHistory(new WarmupProperty()));
+
+    @Test
+    void servesTheCachedBodyOfAPayloadWithoutSerializingItAgain() throws Exception {
+        ZkpCredDefResDto credDef = credDef(100);
+
+        ResponseEntity<byte[]> first = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, null);
+        ResponseEntity<byte[]> second = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, null);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(credDef), first.getBody());
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(first.getBody().length, first.getHeaders().getContentLength());
+        assertNull(first.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void serializesANewBodyForARefreshedPayload() {
+        ZkpCredDefResDto credDef = credDef(100);
+        ZkpCredDefResDto refreshed = credDef(100);
+
+        ResponseEntity<byte[]> first = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, null);
+        ResponseEntity<byte[]> second = factory.ok(ResourceType.ZKP_CRED_DEF, refreshed, refreshed.getCredDef(), null, null);
+
+        assertNotSame(first.getBody(), second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+    }
+
+    @Test
+    void servesTheGzipVariantToClientsAcceptingIt() throws Exception {
+        ZkpCredDefResDto credDef = credDef(4096);
+
+        ResponseEntity<byte[]> identity = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, "br;q=1, gzip;q=0");
+        ResponseEntity<byte[]> gzip = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, "gzip, deflate;q=0.5");
+
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(gzip.getBody().length, gzip.getHeaders().getContentLength());
+        assertArrayEquals(identity.getBody(), decode(new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))));
+        assertNotEquals(identity.getHeaders().getETag(), gzip.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), identity.getHeaders().getVary());
+    }
+
+    @Test
+    void compressesTheVariantOfAPayloadAtTheHighLevelOnceItIsServedAgain() {
+        ZkpCredDefResDto credDef = credDef(4096);
+        ZkpCredDefResDto other = credDef(4096);
+
+        ResponseEntity<byte[]> identity = factory.ok(ResourceType.ZKP_CRED_DEF, other, other.getCredDef(), null, null);
+        ResponseEntity<byte[]> first = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, "gzip");
+        ResponseEntity<byte[]> second = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, "gzip");
+        ResponseEntity<byte[]> third = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, "gzip");
+
+        assertArrayEquals(ContentCoding.GZIP.encode(identity.getBody(), true), first.getBody());
+        assertArrayEquals(ContentCoding.GZIP.encode(identity.getBody()), second.getBody());
+        assertSame(second.getBody(), third.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+    }
+
+    @Test
+    void compressesTheVariantsOfPayloadsServedOnceAtTheFastLevel() {
+        ZkpCredDefResDto credDef = credDef(4096);
+        ZkpCredDefResDto refreshed = credDef(4096);
+
+        ResponseEntity<byte[]> identity = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, null);
+        ResponseEntity<byte[]> gzip = factory.ok(ResourceType.ZKP_CRED_DEF, refreshed, refreshed.getCredDef(), null, "gzip");
+
+        assertArrayEquals(ContentCoding.GZIP.encode(identity.getBody(), true), gzip.getBody());
+    }
+
+    @Test
+    void servesTheSmallestVariantAmongEquallyAcceptedCodings() throws Exception {
+        ZkpCredDefResDto credDef = credDef(4096);
+
+        ResponseEntity<byte[]> identity = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, null);
+        ResponseEntity<byte[]> deflate = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, "gzip, deflate");
+        ResponseEntity<byte[]> gzip = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, "gzip");
+
+        assertEquals("deflate", deflate.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(deflate.getBody().length < gzip.getBody().length);
+        assertArrayEquals(identity.getBody(), decode(new InflaterInputStream(new ByteArrayInputStream(deflate.getBody()))));
+        assertEquals("\"" + eTagHash(identity) + "-deflate\"", deflate.getHeaders().getETag());
+    }
+
+    @Test
+    void servesSmallBodiesUncompressed() {
+        ZkpCredDefResDto credDef = credDef(16);
+
+        ResponseEntity<byte[]> response = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, "gzip");
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT), response.getHeaders().getVary());
+    }
+
+    @Test
+    void appliesTheCompressionThresholdOfTheResourceType() {
+        ResponseCacheProperty responseCacheProperty = new ResponseCacheProperty();
+        responseCacheProperty.getCompressionMinSize().put(ResourceType.DID_DOC, DataSize.ofKilobytes(64));
+        CacheableResponseFactory factory = new CacheableResponseFactory(new HttpCacheProperty(),
+                new ResponseBodyCache(objectMapper, responseCacheProperty, new CacheProperty(), new SimpleMeterRegistry()),
+                new OffHeapResponseCache(new OffHeapCacheProperty(), new CacheProperty(), new SimpleMeterRegistry()),
+            new AccessHistory(new WarmupProperty()));
+        ZkpCredDefResDto credDef = credDef(4096);
+        ZkpCredDefResDto didDoc = credDef(4096);
+
+        ResponseEntity<byte[]> compressed = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, "gzip");
+        ResponseEntity<byte[]> uncompressed = factory.ok(ResourceType.DID_DOC, didDoc, didDoc.getCredDef(), null, "gzip");
+
+        assertEquals("gzip", compressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNull(uncompressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void servesTheRawDocumentToClientsAskingForIt() {
+        ZkpCredDefResDto credDef = credDef(100);
+
+        ResponseEntity<byte[]> dto = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, null);
+        ResponseEntity<byte[]> document = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(),
+                "application/did+json", null);
+
+        assertArrayEquals(credDef.getCredDef().toByteArray(), document.getBody());
+        assertEquals(MediaType.valueOf("application/did+json"), document.getHeaders().getContentType());
+        assertEquals("\"" + eTagHash(dto) + "-doc\"", document.getHeaders().getETag());
+    }
+
+    @Test
+    void servesCborToClientsAskingForIt() throws Exception {
+        ZkpCredDefResDto credDef = credDef(4096);
+
+        ResponseEntity<byte[]> dto = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(), null, null);
+        ResponseEntity<byte[]> cbor = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(),
+                "application/json;q=0.5, application/cbor", null);
+        ResponseEntity<byte[]> gzip = factory.ok(ResourceType.ZKP_CRED_DEF, credDef, credDef.getCredDef(),
+                "application/cbor", "gzip");
+
+        assertEquals(MediaType.valueOf("application/cbor"), cbor.getHeaders().getContentType());
+        assertEquals(objectMapper.readTree(credDef.getCredDef().toByteArray()), new CBORMapper().readTree(cbor.getBody()));
+        assertTrue(cbor.getBody().length < dto.getBody().length);
+        assertTrue(cbor.getHeaders().getETag().endsWith("-cbor\""));
+        assertTrue(gzip.getHeaders().getETag().endsWith("-cbor-gzip\""));
+        assertArrayEquals(cbor.getBody(), decode(new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))));
+    }
+
+    @Test
+    void answersRevalidationsOfOffHeapBodiesWithoutABody() throws Exception {
+        OffHeapCacheProperty offHeapCacheProperty = new OffHeapCacheProperty();
+        offHeapCacheProperty.setEnabled(true);
+        CacheableResponseFactory factory = new CacheableResponseFactory(new HttpCacheProperty(),
+                new ResponseBodyCache(objectMapper, new ResponseCacheProperty(), new CacheProperty(), new SimpleMeterRegistry()),
+                new OffHeapResponseCache(offHeapCacheProperty, new CacheProperty(), new SimpleMeterRegistry()),
+                new AccessHistory(new WarmupProperty()));
+        ZkpCredDefResDto credDef = credDef(4096);
+        ResponseEntity<?> resolved = resolve(factory, credDef, null);
+
+        ResponseEntity<?> revalidated = resolve(factory, credDef, "W/\"other\", " + resolved.getHeaders().getETag());
+        ResponseEntity<?> outdated = resolve(factory, credDef, "\"other\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertNull(revalidated.getBody());
+        assertEquals(resolved.getHeaders().getETag(), revalidated.getHeaders().getETag());
+        assertEquals(resolved.getHeaders().getCacheControl(), revalidated.getHeaders().getCacheControl());
+        assertEquals(HttpStatus.OK, outdated.getStatusCode());
+        try (OffHeapBody body = (OffHeapBody) outdated.getBody()) {
+            assertEquals(resolved.getHeaders().getContentLength(), body.length());
+        }
+    }
+
+    private static ResponseEntity<?> resolve(CacheableResponseFactory factory, ZkpCredDefResDto credDef,
+                                             String ifNoneMatch) throws Exception {
+        return factory.resolve(ResourceType.ZKP_CRED_DEF, "def", null, null, ifNoneMatch,
+                () -> CompletableFuture.completedFuture(credDef), ZkpCredDefResDto::getCredDef).get();
+    }
+
+    private static ZkpCredDefResDto credDef(int length) {
+        return ZkpCredDefResDto.builder()
+                .credDef(MultibasePayload.ofJson("{\"value\":\"" + "1234567890".repeat(length / 10) + "\"}"))
+                .build();
+    }
+
+    private static String eTagHash(ResponseEntity<?> response) {
+        String eTag = response.getHeaders().getETag();
+        return eTag.substring(1, eTag.length() - 1);
+    }
+
+    private static byte[] decode(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
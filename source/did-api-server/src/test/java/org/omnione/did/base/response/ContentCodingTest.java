@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ContentCodingTest {
+
+    private static final Set<ContentCoding> VARIANTS = EnumSet.of(ContentCoding.BR, ContentCoding.GZIP, ContentCoding.DEFLATE);
+
+    private static final Map<ContentCoding, Integer> LENGTHS = Map.of(
+            ContentCoding.BR, 100, ContentCoding.GZIP, 130, ContentCoding.DEFLATE, 120);
+
+    @Test
+    void servesIdentityWithoutAcceptEncoding() {
+        assertNull(negotiate(null));
+        assertNull(negotiate(""));
+        assertNull(negotiate("compress"));
+    }
+
+    @Test
+    void prefersTheHighestQualityAndThenTheSmallestVariant() {
+        assertEquals(ContentCoding.BR, negotiate("gzip, deflate, br"));
+        assertEquals(ContentCoding.GZIP, negotiate("gzip, deflate;q=0.9, br;q=0.5"));
+        assertEquals(ContentCoding.DEFLATE, negotiate("GZIP;q=0.5, Deflate"));
+    }
+
+    @Test
+    void appliesTheWildcardToUnlistedCodingsOnly() {
+        assertEquals(ContentCoding.BR, negotiate("*"));
+        assertEquals(ContentCoding.DEFLATE, negotiate("br;q=0, *"));
+        assertNull(negotiate("*;q=0"));
+    }
+
+    @Test
+    void servesIdentityWhenPreferred() {
+        assertNull(negotiate("identity, gzip;q=0.5"));
+        assertEquals(ContentCoding.GZIP, negotiate("identity;q=0.5, gzip"));
+    }
+
+    private static ContentCoding negotiate(String acceptEncoding) {
+        return ContentCoding.negotiate(acceptEncoding, VARIANTS, LENGTHS::get);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.service.event.ResourceChangedEvent;
+import org.omnione.did.base.constants.ResourceType;
+import org.omnione.did.base.property.CacheProperty;
+import org.omnione.did.base.property.OffHeapCacheProperty;
+import org.omnione.did.base.response.OffHeapResponseCache.CachedResponse;
+import org.omnione.did.base.response.ResponseBodyCache.EncodedBody;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapResponseCacheTest {
+
+    private static final ResourceType TYPE = ResourceType.ZKP_CRED_DEF;
+
+    private final CacheProperty cacheProperty = new CacheProperty();
+
+    @Test
+    void servesTheJsonAndCompressedVariantsAcrossPages() throws IOException {
+        OffHeapResponseCache cache = cache(DataSize.ofKilobytes(64));
+        byte[] json = bytes(10_000, 'j');
+        byte[] gzip = bytes(3_000, 'g');
+
+        cache.put(TYPE, "def", Representation.DTO, new EncodedBody(json, Map.of(ContentCoding.GZIP, gzip)), "hash");
+        CachedResponse identity = cache.get(TYPE, "def", Representation.DTO, null, false);
+        CachedResponse compressed = cache.get(TYPE, "def", Representation.DTO, "gzip", false);
+
+        assertArrayEquals(json, read(identity.body()));
+        assertArrayEquals(gzip, read(compressed.body()));
+        assertNull(identity.coding());
+        assertEquals(ContentCoding.GZIP, compressed.coding());
+        assertTrue(identity.varies());
+        assertEquals("hash", compressed.eTagHash());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryWhenFull() throws IOException {
+        OffHeapResponseCache cache = cache(DataSize.ofKilobytes(16));
+        cache.put(TYPE, "a", Representation.DTO, new EncodedBody(bytes(8_000, 'a'), Map.of()), "a");
+        cache.put(TYPE, "b", Representation.DTO, new EncodedBody(bytes(8_000, 'b'), Map.of()), "b");
+        read(cache.get(TYPE, "a", Representation.DTO, null, false).body());
+
+        cache.put(TYPE, "c", Representation.DTO, new EncodedBody(bytes(8_000, 'c'), Map.of()), "c");
+
+        assertNotNull(cache.get(TYPE, "a", Representation.DTO, null, false));
+        assertNull(cache.get(TYPE, "b", Representation.DTO, null, false));
+        assertArrayEquals(bytes(8_000, 'c'), read(cache.get(TYPE, "c", Representation.DTO, null, false).body()));
+    }
+
+    @Test
+    void keepsThePagesOfABodyBeingWrittenUntilItIsClosed() throws IOException {
+        OffHeapResponseCache cache = cache(DataSize.ofKilobytes(16));
+        cache.put(TYPE, "a", Representation.DTO, new EncodedBody(bytes(16_000, 'a'), Map.of()), "a");
+        OffHeapBody pinned = cache.get(TYPE, "a", Representation.DTO, null, false).body();
+
+        cache.put(TYPE, "b", Representation.DTO, new EncodedBody(bytes(16_000, 'b'), Map.of()), "b");
+        assertNull(cache.get(TYPE, "b", Representation.DTO, null, false));
+        assertArrayEquals(bytes(16_000, 'a'), read(pinned));
+
+        cache.put(TYPE, "b", Representation.DTO, new EncodedBody(bytes(16_000, 'b'), Map.of()), "b");
+        assertArrayEquals(bytes(16_000, 'b'), read(cache.get(TYPE, "b", Representation.DTO, null, false).body()));
+    }
+
+    @Test
+    void answersRevalidationsWithoutReferencingThePages() {
+        OffHeapResponseCache cache = cache(DataSize.ofKilobytes(16));
+        cache.put(TYPE, "a", Representation.DTO, new EncodedBody(bytes(16_000, 'a'), Map.of()), "a");
+
+        CachedResponse revalidated = cache.get(TYPE, "a", Representation.DTO, null, false,
+                (eTagHash, coding) -> eTagHash.equals("a") && coding == null);
+
+        assertNull(revalidated.body());
+        assertEquals("a", revalidated.eTagHash());
+        cache.put(TYPE, "b", Representation.DTO, new EncodedBody(bytes(16_000, 'b'), Map.of()), "b");
+        assertNotNull(cache.get(TYPE, "b", Representation.DTO, null, false));
+    }
+
+    @Test
+    void servesExpiredEntriesOnlyAsStale() {
+        cacheProperty.getTtl().put(TYPE, Duration.ofNanos(1));
+        cacheProperty.getStaleIfError().put(TYPE, true);
+        OffHeapResponseCache cache = cache(DataSize.ofKilobytes(16));
+
+        cache.put(TYPE, "def", Representation.DTO, new EncodedBody(bytes(100, 'j'), Map.of()), "hash");
+
+        assertNull(cache.get(TYPE, "def", Representation.DTO, null, false));
+        assertNotNull(cache.get(TYPE, "def", Representation.DTO, null, true));
+    }
+
+    @Test
+    void dropsEntriesOfChangedResources() {
+        OffHeapResponseCache cache = cache(DataSize.ofKilobytes(16));
+        cache.put(TYPE, "def", Representation.DTO, new EncodedBody(bytes(100, 'j'), Map.of()), "hash");
+
+        cache.onResourceChanged(new ResourceChangedEvent(TYPE, "def", ResourceChangedEvent.Change.UPDATED, 1));
+
+        assertNull(cache.get(TYPE, "def", Representation.DTO, null, true));
+        assertEquals(0, cache.size());
+    }
+
+    private OffHeapResponseCache cache(DataSize capacity) {
+        OffHeapCacheProperty property = new OffHeapCacheProperty();
+        property.setEnabled(true);
+        property.setCapacity(capacity);
+        property.setSlabSize(DataSize.ofKilobytes(8));
+        property.setPageSize(DataSize.ofKilobytes(1));
+        return new OffHeapResponseCache(property, cacheProperty, new SimpleMeterRegistry());
+    }
+
+    private static byte[] bytes(int length, char value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+
+    private static byte[] read(OffHeapBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (body) {
+            body.writeTo(out);
+        }
+        return out.toByteArray();
+    }
+}
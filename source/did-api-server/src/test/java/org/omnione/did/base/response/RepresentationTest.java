@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.omnione.did.base.response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RepresentationTest {
+
+    @Test
+    void servesTheDtoByDefault() {
+        assertEquals(Representation.DTO, Representation.negotiate(null));
+        assertEquals(Representation.DTO, Representation.negotiate("*/*"));
+        assertEquals(Representation.DTO, Representation.negotiate("text/html, application/xhtml+xml, */*;q=0.8"));
+        assertEquals(Representation.DTO, Representation.negotiate("application/xml"));
+        assertEquals(Representation.DTO, Representation.negotiate("not a media type"));
+    }
+
+    @Test
+    void servesOtherRepresentationsOnlyWhenAskedForByName() {
+        assertEquals(Representation.DOCUMENT, Representation.negotiate("application/did+json"));
+        assertEquals(Representation.CBOR, Representation.negotiate("application/cbor, */*;q=0.1"));
+        assertEquals(Representation.DTO, Representation.negotiate("application/*"));
+    }
+
+    @Test
+    void prefersTheHighestQualityAndThenTheDto() {
+        assertEquals(Representation.CBOR, Representation.negotiate("application/did+json;q=0.5, application/cbor"));
+        assertEquals(Representation.DTO, Representation.negotiate("application/cbor, application/json"));
+        assertEquals(Representation.DOCUMENT, Representation.negotiate("application/json;q=0.9, application/did+json"));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 OmniOne.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.omnione.did.base.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.omnione.did.apigateway.v1.dto.DidDocResDto;
+import org.omnione.did.apigateway.v1.dto.MultibasePayload;
+import org.omnione.did.crypto.enums.MultiBaseType;
+import org.omnione.did.crypto.util.MultiBaseUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MultibaseBase64ReaderTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void matchesMultiBaseUtilsForAllTailLengthsAndBufferSizes() throws Exception {
+        for (int length = 1; length <= 64; length++) {
+            byte[] data = randomBytes(length);
+            String expected = MultiBaseUtils.encode(data, MultiBaseType.base64);
+
+            assertEquals(expected.length(), MultibaseBase64Reader.encodedLength(length));
+            for (int bufferSize : new int[]{1, 2, 3, 4, 5, 7, 8192}) {
+                assertEquals(expected, readFully(new MultibaseBase64Reader(data), bufferSize),
+                        "length " + length + ", buffer " + bufferSize);
+            }
+        }
+    }
+
+    @Test
+    void serializesPayloadExactlyAsTheEncodedString() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        byte[] data = randomBytes(100_000);
+        String expected = MultiBaseUtils.encode(data, MultiBaseType.base64);
+
+        DidDocResDto dto = DidDocResDto.builder().didDoc(MultibasePayload.of(data)).build();
+
+        assertEquals("{\"didDoc\":\"" + expected + "\"}", objectMapper.writeValueAsString(dto));
+        assertArrayEquals(objectMapper.writeValueAsBytes(new String[]{expected}),
+                objectMapper.writeValueAsBytes(new MultibasePayload[]{MultibasePayload.of(data)}));
+        assertEquals(MultibasePayload.of(data),
+                objectMapper.readValue(objectMapper.writeValueAsString(dto), DidDocResDto.class).getDidDoc());
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] data = new byte[length];
+        random.nextBytes(data);
+        return data;
+    }
+
+    private static String readFully(Reader reader, int bufferSize) throws IOException {
+        StringWriter writer = new StringWriter();
+        char[] buffer = new char[bufferSize];
+        int read;
+        while ((read = reader.read(buffer, 0, bufferSize)) != -1) {
+            writer.write(buffer, 0, read);
+        }
+        return writer.toString();
+    }
+}